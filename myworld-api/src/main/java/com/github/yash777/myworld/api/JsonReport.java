@@ -7,7 +7,8 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
 
 @com.fasterxml.jackson.annotation.JsonInclude(com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL)
 @com.fasterxml.jackson.annotation.JsonPropertyOrder({
@@ -48,8 +49,7 @@ public class JsonReport implements java.io.Serializable {
 @Override
 public String toString() {
     try {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(this);
+        return JsonMappers.prettyWriter(Profile.DEFAULT).writeValueAsString(this);
     } catch (JsonProcessingException e) {
         return "Error generating JSON: " + e.getMessage();
     }
@@ -1,22 +1,33 @@
 package com.github.yash777.myworld.api.controller;
 
 import lombok.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.github.yash777.commons.objectmapper.NdJson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @org.springframework.web.bind.annotation.RestController
 @RequestMapping("/orders")
 public class JsonOrderController {
 
-    private static final List<Order> orders = new ArrayList<>();
+    // Requests and streamed exports run concurrently: iterators of a CopyOnWriteArrayList are snapshots
+    private static final List<Order> orders = new CopyOnWriteArrayList<>();
     private static final List<com.github.yash777.myworld.api.controller.JsonOrderController.Order.DeliveryAgent> deliveryAgents = List.of(
             new com.github.yash777.myworld.api.controller.JsonOrderController.Order.DeliveryAgent("John Doe", "9990001111", "AGENT-1"),
             new com.github.yash777.myworld.api.controller.JsonOrderController.Order.DeliveryAgent("Emily Smith", "9990002222", "AGENT-2")
     );
     private static final AtomicInteger orderCounter = new AtomicInteger(1);
+    private static final int IMPORT_BATCH_SIZE = 256;
 
     // Place an order
     @PostMapping("/place")
@@ -90,6 +101,32 @@ public class JsonOrderController {
         return orders;
     }
 
+    // Export all orders as NDJSON, one order per line
+    @GetMapping(value = "/export", produces = NdJson.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        StreamingResponseBody body = out -> NdJson.write(out, orders);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NdJson.MEDIA_TYPE)).body(body);
+    }
+
+    // Bulk import: NDJSON of PlaceOrderRequest in, NDJSON of the placed orders out, streamed as each order is placed.
+    // Lines are bound in parallel batches, orders are placed one by one in the order of the lines.
+    // An invalid line ends the response early; the orders placed before it are kept.
+    @PostMapping(value = "/import", consumes = NdJson.MEDIA_TYPE, produces = NdJson.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> importOrders(InputStream requestBody) {
+        StreamingResponseBody body = out -> {
+            try (NdJson.LineWriter writer = NdJson.writer(out, 1)) {
+                NdJson.readParallel(requestBody, PlaceOrderRequest.class, IMPORT_BATCH_SIZE, true, request -> {
+                    try {
+                        writer.write(placeOrder(request));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NdJson.MEDIA_TYPE)).body(body);
+    }
+
     // Helper methods
     private Order findOrderById(String orderId) {
         return orders.stream().filter(o -> o.getOrderId().equals(orderId)).findFirst()
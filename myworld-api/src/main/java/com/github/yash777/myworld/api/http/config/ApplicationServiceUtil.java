@@ -5,9 +5,10 @@ import java.text.SimpleDateFormat;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
 
 @Service
 public class ApplicationServiceUtil {
@@ -33,9 +34,7 @@ public class ApplicationServiceUtil {
 	public String convertObjectToJson(Object obj) {
 		String json = null;
 		try {
-			ObjectMapper mapper = new ObjectMapper();
-			mapper.setSerializationInclusion(Include.NON_NULL);
-			json = mapper.writeValueAsString(obj);
+			json = JsonMappers.writer(Profile.LENIENT).writeValueAsString(obj);
 		} catch (Exception e) {
 		}
 		return json;
@@ -1,9 +1,8 @@
 package com.github.yash777.myworld.api.http.config;
 
 import java.io.IOException;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -18,6 +17,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.github.yash777.time.DateFormatDetector;
 
 /**
  * Convert the date using provided date formats. Date formats is empty or not able to convert with
@@ -27,6 +27,7 @@ import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 public class CustomDateStdDeserializer extends StdDeserializer<Date> {
     private static final long serialVersionUID = 1L;
     private static CopyOnWriteArrayList<String> dateFormats = new CopyOnWriteArrayList<>();
+    private static volatile DateFormatDetector dateFormatDetector = new DateFormatDetector(dateFormats);
     private static final Logger Logger = LoggerFactory.getLogger(CustomDateStdDeserializer.class);
 
     private static Pattern numberPattern = Pattern.compile("-?\\d+?");
@@ -55,24 +56,20 @@ public class CustomDateStdDeserializer extends StdDeserializer<Date> {
         } catch (Exception e) {
             Logger.info("deserialize: failed to convert value {} given time zone {}", dateStr, context.getTimeZone().getID());
         }
+        DateFormatDetector detector = dateFormatDetector;
         //if (CollectionUtils.isEmpty(dateFormats)) {
-        if (dateFormats != null && !dateFormats.isEmpty()) {
+        if (detector.isEmpty()) {
             // date formats is empty, then use default conversion
             Logger.debug("deserialize: Warning please add API date formats in Global Settings");
             return _parseDate(jsonParser, context);
         }
-        for (String datePattern : CustomDateStdDeserializer.dateFormats) {
-            if (!StringUtils.isBlank(datePattern)) {
-                try {
-                    DateFormat dateFormat = new SimpleDateFormat(datePattern);
-                    Date date = dateFormat.parse(dateStr);
-                    return timeZoneConvert(context, date.getTime());
-                } catch (Exception e) {
-                    // Alert in logs not able to convert
-                    Logger.info("deserialize: failed to convert value {} given date format {}", dateStr, datePattern);
-                }
-            }
+        // Only the formats whose shape (length, separator positions) fits the value are parsed, without exceptions
+        Date date = detector.parse(dateStr);
+        if (date != null) {
+            return timeZoneConvert(context, date.getTime());
         }
+        // Alert in logs not able to convert
+        Logger.info("deserialize: failed to convert value {} given date formats {}", dateStr, dateFormats);
         // Final use default StdDeserializer parser to parse the given date
         return _parseDate(jsonParser, context);
     }
@@ -85,12 +82,15 @@ public class CustomDateStdDeserializer extends StdDeserializer<Date> {
     }
 
     public static List<String> getDateFormats() {
-        return dateFormats;
+        // read-only, register through addDateFormats() so the formats are compiled
+        return Collections.unmodifiableList(dateFormats);
     }
 
-    public static void addDateFormats(List<String> dateFormats) {
+    public static synchronized void addDateFormats(List<String> dateFormats) {
         if (dateFormats != null && !dateFormats.isEmpty()) {
             CustomDateStdDeserializer.dateFormats.addAllAbsent(dateFormats);
+            // Re-compile all the registered formats once, instead of per deserialize() call
+            dateFormatDetector = new DateFormatDetector(CustomDateStdDeserializer.dateFormats);
         }
     }
 
@@ -4,12 +4,63 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
+import com.github.yash777.myworld.api.JsonReport;
+import com.github.yash777.myworld.api.controller.JsonOrderController;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
-//@Configuration
+/**
+ * Binary Jackson formats for service-to-service calls, next to the JSON converter of Spring Boot.
+ *
+ * <p>A client that sends {@code Accept: application/x-jackson-smile} or {@code Accept: application/cbor} (and the
+ * same {@code Content-Type} for request bodies) gets Smile or CBOR instead of JSON text, on every endpoint, e.g.
+ * {@code /orders} and {@code /Jackson/report}; other clients still get JSON. Both mappers come from the
+ * auto-configured {@link Jackson2ObjectMapperBuilder}, so they have the same modules, features and
+ * {@code spring.jackson.*} settings as the JSON one.</p>
+ *
+ * <p>Spring MVC already registers these converters when the formats are on the classpath, but with a plain builder;
+ * Spring Boot puts a converter bean in the place of the default converter of the same class.</p>
+ *
+ * <p>Types serialized outside Spring MVC, with the shared {@link JsonMappers} (NDJSON of {@code /orders/export} and
+ * {@code /orders/import}, {@link JsonReport#toString()}), are warmed up once the application has started.</p>
+ *
+ * <pre>
+ * curl -H "Accept: application/x-jackson-smile" http://localhost:8080/myworld/Jackson/report --output report.sml
+ * </pre>
+ */
+@Configuration
 public class JacksonConfig {
 
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Builds the {@link JsonMappers} readers and writers of these types before the first request, see
+     * {@link JsonMappers#warmUp(Profile, Class...)}.
+     */
+    @Bean
+    public ApplicationRunner jsonMappersWarmUp() {
+        return args -> {
+            JsonMappers.warmUp(Profile.LENIENT, JsonOrderController.Order.class, JsonOrderController.PlaceOrderRequest.class);
+            JsonMappers.warmUp(Profile.DEFAULT, JsonReport.class);
+        };
+    }
+
 //    @Bean
 //    public ObjectMapper objectMapper() {
 //        ObjectMapper mapper = new ObjectMapper();
@@ -1,5 +1,14 @@
 package com.github.yash777.myworld.api.online;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -7,8 +16,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yash777.commons.objectmapper.JsonValidator;
 
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,6 +31,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * <li>✔ Validate a raw JSON string dynamically using Jackson</li>
  * <li>📦 Return a compact single-line version of the JSON if it's valid</li>
  * <li>❌ Return a clear, user-friendly error message if invalid (includes line/column info)</li>
+ * <li>🌊 Stream large request bodies (hundreds of MB) through {@code /validate/stream} in constant memory</li>
  * </ul>
  * 
  * 🔍 Test your JSON online:
@@ -47,14 +56,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @RequestMapping("/online/jsonapi")
 public class JsonValidatorController {
 	
-	private final ObjectMapper objectMapper;
-	
-	public JsonValidatorController() {
-		objectMapper = new ObjectMapper();
-		objectMapper.configure(com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-		objectMapper.configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-		objectMapper.setSerializationInclusion(com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL);
-	}
+	private static final JsonValidator VALIDATOR = new JsonValidator();
 	
 	/**
 	 * Validate JSON and return compact single-line JSON or error message.
@@ -74,16 +76,53 @@ public class JsonValidatorController {
 			@RequestParam(required = true)
 			String jsonInput
 			) {
-		try {
-			JsonNode jsonNode = objectMapper.readTree(jsonInput);
-			return objectMapper.writeValueAsString(jsonNode);
+		return VALIDATOR.validateAndCompactJson(jsonInput);
+	}
+	
+	/**
+	 * Validate a JSON request body of any size without holding it in memory: the body is read as a stream and, with
+	 * {@code compact=true}, every token is copied straight to the response as compact JSON.
+	 *
+	 * <p>Invalid JSON gives {@code 400} with the same error message as {@link #validateJson(String)}. If the
+	 * error comes after the first response buffer was already sent, the response is aborted instead, so the client
+	 * sees a broken transfer rather than a truncated document with status {@code 200}.</p>
+	 *
+	 * <pre>{@code
+	 * curl -X POST --data-binary @big.json -H "Content-Type: application/json" "http://localhost:8080/online/jsonapi/validate/stream"
+	 * }</pre>
+	 *
+	 * @param compact {@code true} to return the compact JSON, {@code false} to only return whether it is valid
+	 */
+	@PostMapping(path = "/validate/stream", consumes = MediaType.ALL_VALUE)
+	public void validateJsonStream(
+			@Parameter(description = "true: return the compact JSON, false: only validate")
+			@RequestParam(required = false, defaultValue = "true") boolean compact,
+			HttpServletRequest request,
+			HttpServletResponse response
+			) throws IOException {
+		try (InputStream body = request.getInputStream()) {
+			if (compact) {
+				response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+				JsonValidator.compact(body, response.getOutputStream());
+			} else {
+				long tokens = JsonValidator.validate(body);
+				writeText(response, HttpStatus.OK, "✅ Valid JSON (" + tokens + " tokens)");
+			}
 		} catch (JsonProcessingException e) {
-			return "❌ Invalid JSON at line " + e.getLocation().getLineNr()
-					+ ", column " + e.getLocation().getColumnNr()
-					+ ": " + e.getOriginalMessage();
+			if (response.isCommitted()) {
+				throw e;
+			}
+			response.resetBuffer();
+			writeText(response, HttpStatus.BAD_REQUEST, JsonValidator.errorMessage(e));
 		}
 	}
 	
+	private static void writeText(HttpServletResponse response, HttpStatus status, String text) throws IOException {
+		response.setStatus(status.value());
+		response.setContentType(MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8");
+		response.getOutputStream().write(text.getBytes(StandardCharsets.UTF_8));
+	}
+	
 	/**
 	 * Standalone Java main method for testing JSON validation.
 	 */
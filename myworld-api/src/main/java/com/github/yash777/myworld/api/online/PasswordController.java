@@ -1,20 +1,22 @@
 package com.github.yash777.myworld.api.online;
 
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.github.yash777.postman.PasswordGenerator;
 import com.github.yash777.security.crypto.CipherKeyEncryptDecrypt;
+import com.github.yash777.security.crypto.PasswordCodec;
 
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,6 +27,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
  * <p>This controller supports the following endpoints:</p>
  * <ul>
  *   <li><b>GET /myapp/pswd/generate/default</b> — Generates a random password with configurable rules.</li>
+ *   <li><b>GET /myapp/pswd/generate/batch</b> — Generates up to {@value #MAX_BATCH_SIZE} passwords with the same rules,
+ *   answering 400 Bad Request for invalid parameters.</li>
  *   <li><b>GET /myapp/pswd/encode</b> — Encrypts a password with optional salt, timestamp, and custom key set.</li>
  *   <li><b>GET /myapp/pswd/decode</b> — Decrypts an encoded password using the same configuration used for encoding.</li>
  * </ul>
@@ -42,12 +46,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @RequestMapping("/myapp/pswd")
 public class PasswordController {
 	
-	private static final String UPPERCASE = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-	private static final String LOWERCASE = "abcdefghijklmnopqrstuvwxyz";
-	private static final String DIGITS = "0123456789";
-	private static final String SPECIAL_CHARS = "!@#$%^&*()-_+=";
-	
-	private static final SecureRandom random = new SecureRandom();
+	/** Upper bound of {@code count} for {@code /generate/batch}. */
+	public static final int MAX_BATCH_SIZE = 1000;
+	/** Upper bound of {@code length}: the generator draws 8 random bytes per character, for every password of a batch. */
+	public static final int MAX_LENGTH = 1024;
 	
 	/**
 	 * Generates a random password based on the provided parameters.
@@ -56,7 +58,7 @@ public class PasswordController {
 	 * (uppercase, lowercase, digits, special characters). The final password is randomized
 	 * and shuffled to ensure unpredictability.</p>
 	 *
-	 * @param length the desired password length (minimum 4)
+	 * @param length the desired password length (4 to {@value #MAX_LENGTH})
 	 * @param useUppercase whether to include uppercase letters (A–Z)
 	 * @param useLowercase whether to include lowercase letters (a–z)
 	 * @param useDigits whether to include numeric digits (0–9)
@@ -78,53 +80,54 @@ public class PasswordController {
 		if (length < 4) {
 			return "Password length must be at least 4";
 		}
-		
-		StringBuilder characterPool = new StringBuilder();
-		List<Character> passwordChars = new ArrayList<>();
-		
-		if (useUppercase) {
-			characterPool.append(UPPERCASE);
-			passwordChars.add(UPPERCASE.charAt(random.nextInt(UPPERCASE.length())));
-		}
-		
-		if (useLowercase) {
-			characterPool.append(LOWERCASE);
-			passwordChars.add(LOWERCASE.charAt(random.nextInt(LOWERCASE.length())));
-		}
-		
-		if (useDigits) {
-			characterPool.append(DIGITS);
-			passwordChars.add(DIGITS.charAt(random.nextInt(DIGITS.length())));
-		}
-		
-		if (useSpecial) {
-			characterPool.append(SPECIAL_CHARS);
-			passwordChars.add(SPECIAL_CHARS.charAt(random.nextInt(SPECIAL_CHARS.length())));
+		if (length > MAX_LENGTH) {
+			return "Password length must be at most " + MAX_LENGTH;
 		}
-		
-		if (characterPool.length() == 0) {
+		if (!(useUppercase || useLowercase || useDigits || useSpecial)) {
 			return "At least one character type must be selected.";
 		}
-		
-		while (passwordChars.size() < length) {
-			char ch = characterPool.charAt(random.nextInt(characterPool.length()));
-			passwordChars.add(ch);
+		return PasswordGenerator.generatePassword(length, useUppercase, useLowercase, useDigits, useSpecial, null);
+	}
+	
+	/**
+	 * Generates {@code count} passwords at once, with the same rules as {@link #generatePassword}, for jobs that
+	 * provision many accounts.
+	 *
+	 * @param count number of passwords (1 to {@value #MAX_BATCH_SIZE})
+	 * @param length password length (4 to {@value #MAX_LENGTH})
+	 * @return the generated passwords
+	 * @throws IllegalArgumentException if the count, length or character selection is invalid, answered with
+	 *                                  400 Bad Request by {@link #handleInvalidParameter(IllegalArgumentException)}
+	 */
+	@GetMapping("/generate/batch")
+	public List<String> generatePasswords(
+			@RequestParam int count,
+			@RequestParam int length,
+			@Parameter(description = "UPPERCASE = \"ABCDEFGHIJKLMNOPQRSTUVWXYZ\"")
+			@RequestParam(required = false, defaultValue = "true") boolean useUppercase,
+			@Parameter(description = "LOWERCASE = \"abcdefghijklmnopqrstuvwxyz\"")
+			@RequestParam(required = false, defaultValue = "true") boolean useLowercase,
+			@Parameter(description = "DIGITS = \"0123456789\"")
+			@RequestParam(required = false, defaultValue = "true") boolean useDigits,
+			@Parameter(description = "SPECIAL_CHARS = \"!@#$%^&*()-_+=\"")
+			@RequestParam(required = false, defaultValue = "true") boolean useSpecial
+			) {
+		if (count < 1 || count > MAX_BATCH_SIZE) {
+			throw new IllegalArgumentException("Password count must be between 1 and " + MAX_BATCH_SIZE);
 		}
-		
-		Collections.shuffle(passwordChars);
-		
-		StringBuilder finalPassword = new StringBuilder();
-		for (char c : passwordChars) {
-			finalPassword.append(c);
+		if (length < 4 || length > MAX_LENGTH) {
+			throw new IllegalArgumentException("Password length must be between 4 and " + MAX_LENGTH);
 		}
-		
-		return finalPassword.toString();
+		if (!(useUppercase || useLowercase || useDigits || useSpecial)) {
+			throw new IllegalArgumentException("At least one character type must be selected.");
+		}
+		return PasswordGenerator.generatePasswords(count, length, useUppercase, useLowercase, useDigits, useSpecial, null);
 	}
 	
 	/**
 	 * Encodes (encrypts) a given password using the provided salt, optional creation date, and character set.
 	 *
-	 * <p>This endpoint supports reversible encryption using {@link CipherKeyEncryptDecrypt}.
+	 * <p>This endpoint supports reversible encryption using {@link PasswordCodec}.
 	 * The encryption behavior depends on the provided salt and optional creation date.</p>
 	 *
 	 * @param salt_UserName a unique user identifier or salt (e.g., email)
@@ -147,8 +150,6 @@ public class PasswordController {
 			@RequestParam(required = false) String customChars
 			) throws Exception {
 		
-		CipherKeyEncryptDecrypt cipher = new CipherKeyEncryptDecrypt();
-		
 		// Parse creation date if provided
 		LocalDateTime parsedDate = null;
 		if (creationDate != null && !creationDate.isBlank()) {
@@ -159,12 +160,7 @@ public class PasswordController {
 			}
 		}
 		
-		// Select appropriate secret key
-		if (customChars != null && !customChars.isBlank()) {
-			CipherKeyEncryptDecrypt.secretPasswordKey = customChars;
-		} else {
-			CipherKeyEncryptDecrypt.secretPasswordKey = CipherKeyEncryptDecrypt.ENCRYPT_PASS_DB;
-		}
+		PasswordCodec cipher = codecFor(customChars);
 		
 		if (parsedDate != null) {
 			Date dateFrom = CipherKeyEncryptDecrypt.getDateFrom(creationDate);
@@ -204,8 +200,6 @@ public class PasswordController {
 			@RequestParam(required = false) String customChars
 			) throws Exception {
 		
-		CipherKeyEncryptDecrypt cipher = new CipherKeyEncryptDecrypt();
-		
 		// Parse creation date if provided
 		LocalDateTime parsedDate = null;
 		if (creationDate != null && !creationDate.isBlank()) {
@@ -216,12 +210,7 @@ public class PasswordController {
 			}
 		}
 		
-		// Select appropriate secret key
-		if (customChars != null && !customChars.isBlank()) {
-			CipherKeyEncryptDecrypt.secretPasswordKey = customChars;
-		} else {
-			CipherKeyEncryptDecrypt.secretPasswordKey = CipherKeyEncryptDecrypt.ENCRYPT_PASS_DB;
-		}
+		PasswordCodec cipher = codecFor(customChars);
 		
 		if (parsedDate != null) {
 			Date dateFrom = CipherKeyEncryptDecrypt.getDateFrom(creationDate);
@@ -230,4 +219,25 @@ public class PasswordController {
 			return cipher.decode(encoded_Password, salt_UserName, null);
 		}
 	}
+	
+	/**
+	 * Answers invalid request parameters of this controller with 400 Bad Request and the message, instead of the
+	 * 500 of the global handler.
+	 */
+	@ExceptionHandler(IllegalArgumentException.class)
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public String handleInvalidParameter(IllegalArgumentException ex) {
+		return ex.getMessage();
+	}
+	
+	/**
+	 * Selects the secret key: the custom character set when given, the default DB secret otherwise. The codec is
+	 * immutable and shared per secret, so concurrent requests with different secrets do not interfere.
+	 */
+	private static PasswordCodec codecFor(String customChars) {
+		if (customChars != null && !customChars.isBlank()) {
+			return PasswordCodec.forSecret(customChars);
+		}
+		return PasswordCodec.forSecret(CipherKeyEncryptDecrypt.ENCRYPT_PASS_DB);
+	}
 }
@@ -1,7 +1,6 @@
 package com.github.yash777.myworld.aspects;
 
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
@@ -16,6 +15,9 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yash777.commons.lang.SeededStringMap;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
 
 //@Aspect @Order(1) // This aspect executes before others with a higher order
 //@Component
@@ -23,7 +25,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class ApiEndpointTimeAspect {
 	// Thread-local flag to be used by downstream aspects
 	public static final ThreadLocal<Boolean> reqTriggered = ThreadLocal.withInitial(() -> false);
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ObjectMapper objectMapper = JsonMappers.mapper(Profile.DEFAULT);
 	
 	@Around("@annotation(org.springframework.web.bind.annotation.RequestMapping) " +
 			"|| @annotation(org.springframework.web.bind.annotation.GetMapping)" +
@@ -61,7 +63,7 @@ public class ApiEndpointTimeAspect {
 			}
 			
 			// Print Query Parameters
-			Map<String, String> queryParams = new HashMap<>();
+			Map<String, String> queryParams = new SeededStringMap<>();
 			Enumeration<String> paramNames = request.getParameterNames();
 			while (paramNames.hasMoreElements()) {
 				String param = paramNames.nextElement();
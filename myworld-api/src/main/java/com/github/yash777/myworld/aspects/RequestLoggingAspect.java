@@ -29,7 +29,9 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yash777.commons.lang.SeededStringMap;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
 
 /**
  * Aspect for logging details of incoming HTTP requests to Spring controller methods.
@@ -157,8 +159,7 @@ public class RequestLoggingAspect {
 						String requestBody = reduce.get();
 						System.out.println("HttpServletRequest Body String: " + requestBody );
 						try {
-							ObjectMapper objectMapper = new ObjectMapper();
-							JsonNode requestBodyJson = objectMapper.valueToTree(requestBody);
+							JsonNode requestBodyJson = JsonMappers.mapper(Profile.DEFAULT).valueToTree(requestBody);
 							System.out.println("HttpServletRequest Body JSON Node: " + requestBodyJson);
 						} catch (Exception e) {
 							System.err.println("Error parsing request body: " + e.getMessage());
@@ -294,7 +295,7 @@ public class RequestLoggingAspect {
 	private Map<String, String> getRequestHeaders(HttpServletRequest request) {
 		return Collections.list(request.getHeaderNames())
 				.stream()
-				.collect(Collectors.toMap(name -> name, request::getHeader));
+				.collect(Collectors.toMap(name -> name, request::getHeader, (first, second) -> first, SeededStringMap::new));
 	}
 	/**
 	 * Extracts query parameters from the incoming request as a map.
@@ -302,10 +303,10 @@ public class RequestLoggingAspect {
 	 * @param request the HTTP servlet request
 	 * @return map of parameter names to values (stringified)
 	 */
-	private Map<Object, Object> getRequestParameters(HttpServletRequest request) {
+	private Map<String, String> getRequestParameters(HttpServletRequest request) {
 		return request.getParameterMap()
 				.entrySet()
 				.stream()
-				.collect(Collectors.toMap(Map.Entry::getKey, entry -> Arrays.toString(entry.getValue())));
+				.collect(Collectors.toMap(Map.Entry::getKey, entry -> Arrays.toString(entry.getValue()), (first, second) -> first, SeededStringMap::new));
 	}
 }
@@ -1,6 +1,8 @@
 package com.github.yash777.myworld.aspects.monitor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -20,7 +22,7 @@ import java.util.stream.IntStream;
 //@EnableAspectJAutoProxy
 public class EndpointMonitorAspect {
 	
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ObjectMapper objectMapper = JsonMappers.mapper(Profile.DEFAULT);
 	
 	@Around("@annotation(org.springframework.web.bind.annotation.RequestMapping) " +
 			"|| @annotation(org.springframework.web.bind.annotation.GetMapping)" +
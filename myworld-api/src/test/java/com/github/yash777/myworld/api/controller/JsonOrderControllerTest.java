@@ -0,0 +1,117 @@
+package com.github.yash777.myworld.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
+import com.github.yash777.commons.objectmapper.NdJson;
+
+public class JsonOrderControllerTest {
+
+    static final MediaType NDJSON = MediaType.parseMediaType(NdJson.MEDIA_TYPE);
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new JsonOrderController()).build();
+    }
+
+    @Test
+    void testImportThenExport() throws Exception {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 600; i++) { // more than one parallel batch of the import
+            lines.append("{\"userId\":\"import-").append(i).append("\",\"userShortName\":\"U").append(i)
+                    .append("\",\"pointsUsed\":0,\"items\":[{\"productId\":\"P").append(i)
+                    .append("\",\"model\":\"M\",\"category\":\"C\",\"price\":60.0,\"quantity\":2}]}\n");
+        }
+        List<JsonOrderController.Order> placed = orders(stream(post("/orders/import").contentType(NDJSON).content(lines.toString())));
+        assertEquals(600, placed.size());
+        for (int i = 0; i < placed.size(); i++) {
+            JsonOrderController.Order order = placed.get(i);
+            assertEquals("import-" + i, order.getUserId()); // in the order of the lines
+            assertEquals(120.0, order.getPaymentAmount());
+            assertEquals(4, order.getPointsEarned());
+        }
+
+        List<JsonOrderController.Order> exported = orders(stream(get("/orders/export")));
+        Set<String> exportedIds = exported.stream().map(JsonOrderController.Order::getOrderId).collect(Collectors.toSet());
+        for (JsonOrderController.Order order : placed) {
+            assertTrue(exportedIds.contains(order.getOrderId()), order.getOrderId());
+        }
+    }
+
+    @Test
+    void testImportStopsAtInvalidLine() throws Exception {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 256; i++) { // one full batch, placed before the batch with the error is bound
+            lines.append("{\"userId\":\"valid-").append(i).append("\",\"items\":[]}\n");
+        }
+        lines.append("{\"userId\":\"same-batch\",\"items\":[]}\n")
+                .append("{\"userId\": oops}\n")
+                .append("{\"userId\":\"after-error\",\"items\":[]}\n");
+        MvcResult result = mockMvc.perform(post("/orders/import").contentType(NDJSON).content(lines.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThrows(Exception.class, () -> mockMvc.perform(asyncDispatch(result)));
+        Set<String> users = orders(stream(get("/orders/export"))).stream().map(JsonOrderController.Order::getUserId)
+                .collect(Collectors.toSet());
+        assertTrue(users.contains("valid-0") && users.contains("valid-255"));
+        assertFalse(users.contains("same-batch"));
+        assertFalse(users.contains("after-error"));
+    }
+
+    @Test
+    void testExportWhileOrdersArePlaced() throws Exception {
+        // the export iterates while other requests add orders, without ConcurrentModificationException
+        Thread placing = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                JsonOrderController.PlaceOrderRequest request = new JsonOrderController.PlaceOrderRequest("concurrent-" + i, "C", 0, List.of());
+                new JsonOrderController().placeOrder(request);
+            }
+        });
+        placing.start();
+        for (int i = 0; i < 20; i++) {
+            orders(stream(get("/orders/export")));
+        }
+        placing.join();
+    }
+
+    String stream(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    static List<JsonOrderController.Order> orders(String ndjson) throws Exception {
+        List<JsonOrderController.Order> orders = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            if (!line.isEmpty()) {
+                orders.add(JsonMappers.reader(Profile.LENIENT, JsonOrderController.Order.class).readValue(line));
+            }
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.yash777.myworld.api.http.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+public class CustomDateStdDeserializerTest {
+
+    static final String FULL_FORMAT = "dd.MM.yyyy'T'HH:mm:ss.SSS'Z'";
+    static final String SHORT_FORMAT = "dd.MM.yyyy";
+
+    static ObjectMapper mapper;
+
+    @BeforeAll
+    static void registerFormats() {
+        CustomDateStdDeserializer.addDateFormats(Arrays.asList(FULL_FORMAT, SHORT_FORMAT));
+        mapper = new ObjectMapper().registerModule(new SimpleModule().addDeserializer(Date.class, new CustomDateStdDeserializer()));
+    }
+
+    @Test
+    void testRegisteredFormats() throws Exception {
+        for (String text : new String[] {"05.01.2024", "5.1.2024", "31.02.2024", "05.01.2024T10:11:12.123Z"}) {
+            String pattern = text.contains("T") ? FULL_FORMAT : SHORT_FORMAT;
+            assertEquals(new SimpleDateFormat(pattern).parse(text), read(text), text);
+        }
+        assertTrue(CustomDateStdDeserializer.getDateFormats().containsAll(Arrays.asList(FULL_FORMAT, SHORT_FORMAT)));
+        assertThrows(UnsupportedOperationException.class, () -> CustomDateStdDeserializer.getDateFormats().clear());
+    }
+
+    @Test
+    void testFallbacks() throws Exception {
+        assertEquals(new Date(1_700_000_000_000L), read("1700000000000"));
+        // no registered format: Jackson's default ISO-8601 parsing
+        assertEquals(new Date(1_704_449_472_123L), read("2024-01-05T10:11:12.123Z"));
+        assertNull(mapper.readValue("{\"date\":\" \"}", Holder.class).date);
+        assertThrows(JsonMappingException.class, () -> read("05.01.2024 garbage"));
+    }
+
+    @Test
+    void testContextTimeZoneOffsetIsAdded() throws Exception {
+        ObjectMapper kolkata = mapper.copy().setTimeZone(TimeZone.getTimeZone("Asia/Kolkata"));
+        Date date = kolkata.readValue("\"05.01.2024\"", Date.class);
+        assertEquals(new SimpleDateFormat(SHORT_FORMAT).parse("05.01.2024").getTime() + 19_800_000L, date.getTime());
+    }
+
+    static Date read(String text) throws Exception {
+        return mapper.readValue("\"" + text + "\"", Date.class);
+    }
+
+    public static class Holder {
+        public Date date;
+    }
+}
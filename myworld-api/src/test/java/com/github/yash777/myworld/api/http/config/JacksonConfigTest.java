@@ -0,0 +1,97 @@
+package com.github.yash777.myworld.api.http.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+public class JacksonConfigTest {
+
+    static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    // JacksonConfig with the converters and the Jackson2ObjectMapperBuilder of Spring Boot, and a spring.jackson setting
+    final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class))
+            .withUserConfiguration(JacksonConfig.class)
+            .withPropertyValues("spring.jackson.default-property-inclusion=non_null");
+
+    public static class Sample {
+        public String name = "sample";
+        public String note; // null: left out with non_null
+        public Date created = new Date(0);
+    }
+
+    @RestController
+    static class SampleController {
+        @GetMapping("/sample")
+        Sample get() {
+            return new Sample();
+        }
+
+        @PostMapping("/sample")
+        Sample echo(@RequestBody Sample sample) {
+            return sample;
+        }
+    }
+
+    @Test
+    void testBinaryFormatsAreNegotiated() {
+        contextRunner.run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new SampleController())
+                    .setMessageConverters(context.getBean(HttpMessageConverters.class).getConverters().toArray(new HttpMessageConverter<?>[0]))
+                    .build();
+            assertConfigured(read(mockMvc, SMILE, new SmileFactory()));
+            assertConfigured(read(mockMvc, CBOR, new CBORFactory()));
+            assertConfigured(read(mockMvc, MediaType.APPLICATION_JSON, new JsonFactory()));
+
+            // request bodies in the binary formats
+            ObjectMapper smile = new ObjectMapper(new SmileFactory());
+            byte[] body = smile.writeValueAsBytes(new Sample());
+            byte[] echoed = mockMvc.perform(post("/sample").contentType(SMILE).accept(SMILE).content(body))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+            assertEquals("sample", smile.readTree(echoed).get("name").asText());
+        });
+    }
+
+    static JsonNode read(MockMvc mockMvc, MediaType type, JsonFactory format) throws Exception {
+        byte[] response = mockMvc.perform(get("/sample").accept(type))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(type))
+                .andReturn().getResponse().getContentAsByteArray();
+        return new ObjectMapper(format).readTree(response);
+    }
+
+    /** The features of the Spring Boot mapper: non_null from the property, ISO dates from the Boot defaults. */
+    static void assertConfigured(JsonNode sample) {
+        assertEquals("sample", sample.get("name").asText());
+        assertFalse(sample.has("note"), sample.toString());
+        assertTrue(sample.get("created").isTextual(), sample.toString());
+        assertTrue(sample.get("created").asText().startsWith("1970-01-01T00:00:00"), sample.toString());
+    }
+}
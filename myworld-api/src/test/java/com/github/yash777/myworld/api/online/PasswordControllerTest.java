@@ -0,0 +1,54 @@
+package com.github.yash777.myworld.api.online;
+
+import static org.hamcrest.Matchers.hasLength;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+public class PasswordControllerTest {
+
+	MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.standaloneSetup(new PasswordController()).build();
+	}
+
+	@Test
+	void testBatch() throws Exception {
+		mockMvc.perform(get("/myapp/pswd/generate/batch").param("count", "3").param("length", String.valueOf(PasswordController.MAX_LENGTH)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(3))
+				.andExpect(jsonPath("$[0]").value(hasLength(PasswordController.MAX_LENGTH)));
+	}
+
+	@Test
+	void testBatchRejectsInvalidParameters() throws Exception {
+		batch(PasswordController.MAX_BATCH_SIZE + 1, 12);
+		batch(0, 12);
+		batch(1, 3);
+		batch(1, PasswordController.MAX_LENGTH + 1);
+		batch(1, Integer.MAX_VALUE); // would otherwise allocate (2 * length - 1) * 4 random bytes
+		mockMvc.perform(get("/myapp/pswd/generate/batch").param("count", "1").param("length", "12")
+				.param("useUppercase", "false").param("useLowercase", "false").param("useDigits", "false").param("useSpecial", "false"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("At least one character type must be selected."));
+	}
+
+	@Test
+	void testDefaultRejectsLongPasswords() throws Exception {
+		mockMvc.perform(get("/myapp/pswd/generate/default").param("length", String.valueOf(PasswordController.MAX_LENGTH + 1)))
+				.andExpect(content().string("Password length must be at most " + PasswordController.MAX_LENGTH));
+	}
+
+	void batch(int count, int length) throws Exception {
+		mockMvc.perform(get("/myapp/pswd/generate/batch").param("count", String.valueOf(count)).param("length", String.valueOf(length)))
+				.andExpect(status().isBadRequest());
+	}
+}
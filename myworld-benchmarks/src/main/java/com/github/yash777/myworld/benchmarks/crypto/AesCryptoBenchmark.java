@@ -0,0 +1,100 @@
+package com.github.yash777.myworld.benchmarks.crypto;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.yash777.security.crypto.AesCryptoManager;
+import com.github.yash777.security.crypto.AesCryptoManager.CipherMode;
+import com.github.yash777.security.crypto.AesCryptoManager.KeySize;
+
+/**
+ * Throughput and latency (sampled percentiles) of {@link AesCryptoManager#encrypt(String, SecretKey, CipherMode, IvParameterSpec)}
+ * and {@link AesCryptoManager#decrypt(String, SecretKey, CipherMode)} for every ({@link KeySize}, {@link CipherMode})
+ * pair and payloads from 64 B to 16 MB.
+ *
+ * <pre>{@code
+ * java -jar myworld-benchmarks/target/benchmarks.jar AesCryptoBenchmark -p payloadSize=64,1024 -rf json
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AesCryptoBenchmark {
+
+	@Param({"AES_128", "AES_192", "AES_256"})
+	KeySize keySize;
+
+	@Param({"ECB", "CBC", "GCM"})
+	CipherMode mode;
+
+	/** Payload length in characters (ASCII, so also in bytes). */
+	@Param({"64", "1024", "65536", "1048576", "16777216"})
+	int payloadSize;
+
+	SecretKey key;
+	String payload;
+	String encrypted;
+	/** GCM refuses a repeated key + IV, so every encryption gets its own IV. */
+	long ivCounter;
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(AesCryptoBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("target/" + AesCryptoBenchmark.class.getSimpleName() + ".json")
+				.build();
+		new Runner(options).run();
+	}
+
+	@Setup
+	public void setup() throws Exception {
+		KeyGenerator generator = KeyGenerator.getInstance("AES");
+		generator.init(keySize.bits);
+		key = generator.generateKey();
+		char[] chars = new char[payloadSize];
+		Arrays.fill(chars, 'x');
+		payload = new String(chars);
+		encrypted = AesCryptoManager.encrypt(payload, key, mode, nextIv());
+	}
+
+	@Benchmark
+	public String encrypt() throws Exception {
+		return AesCryptoManager.encrypt(payload, key, mode, nextIv());
+	}
+
+	@Benchmark
+	public String decrypt() throws Exception {
+		return AesCryptoManager.decrypt(encrypted, key, mode);
+	}
+
+	private IvParameterSpec nextIv() {
+		return mode == CipherMode.ECB ? null : AesCryptoManager.ivFromDate(new Date(++ivCounter));
+	}
+}
@@ -0,0 +1,88 @@
+package com.github.yash777.myworld.benchmarks.crypto;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.yash777.security.crypto.CipherKeyEncryptDecrypt;
+import com.github.yash777.security.crypto.CryptoService;
+import com.github.yash777.security.crypto.DerivedKeyCache;
+
+/**
+ * Throughput and latency of the PBKDF2 based password encoders {@link CipherKeyEncryptDecrypt} and
+ * {@link CryptoService}, for a returning user (the derived key is served by {@link DerivedKeyCache}) and for a new
+ * user on every call (full key derivation).
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordEncodingBenchmark {
+
+	@Param({"returning", "new"})
+	String user;
+
+	static final String SALT = "yash@myworld.com";
+	static final String RAW = "Y@sh^0@dm!n%)";
+
+	CipherKeyEncryptDecrypt cipherKey = new CipherKeyEncryptDecrypt();
+	CryptoService cryptoService = new CryptoService();
+	Date createdDate = new Date(1_700_000_000_000L);
+	String encoded;
+	long users;
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(PasswordEncodingBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("target/" + PasswordEncodingBenchmark.class.getSimpleName() + ".json")
+				.build();
+		new Runner(options).run();
+	}
+
+	@Setup
+	public void setup() throws Exception {
+		CipherKeyEncryptDecrypt.secretPasswordKey = CipherKeyEncryptDecrypt.ENCRYPT_PASS_DB;
+		encoded = cipherKey.encode(RAW, SALT, createdDate);
+	}
+
+	@Benchmark
+	public String cipherKeyEncode() throws Exception {
+		return cipherKey.encode(RAW, salt(), createdDate);
+	}
+
+	@Benchmark
+	public String cipherKeyDecode() throws Exception {
+		// a new salt cannot decode the stored value, so this one always uses the returning user
+		return cipherKey.decode(encoded, SALT, createdDate);
+	}
+
+	@Benchmark
+	public String cryptoServiceEncode() throws Exception {
+		return cryptoService.encode(RAW, salt(), createdDate);
+	}
+
+	private String salt() {
+		return "new".equals(user) ? SALT + ++users : SALT;
+	}
+}
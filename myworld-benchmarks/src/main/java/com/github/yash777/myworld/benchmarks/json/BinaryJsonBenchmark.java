@@ -0,0 +1,182 @@
+package com.github.yash777.myworld.benchmarks.json;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Response size and CPU of JSON text against Smile and CBOR, for the list of orders of the {@code /orders} endpoint
+ * (same shape as {@code JsonOrderController.Order}). The mappers are configured as Spring Boot configures the one of
+ * the JSON converter, which {@code JacksonConfig} reuses for the binary converters.
+ *
+ * <ul>
+ *   <li>{@code write}: bytes of one response, as the message converter writes it; with the GC profiler,
+ *   {@code gc.alloc.rate.norm} bytes allocated per response</li>
+ *   <li>{@code read}: parsing one response on the client side</li>
+ *   <li>size: printed by {@link #setup()} as {@code # <format>: <orders> orders, <n> bytes}</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * java -jar myworld-benchmarks/target/benchmarks.jar BinaryJsonBenchmark -p orders=100 -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryJsonBenchmark {
+
+	public enum Format {
+		JSON(new JsonFactory()), SMILE(new SmileFactory()), CBOR(new CBORFactory());
+
+		final JsonFactory factory;
+
+		Format(JsonFactory factory) {
+			this.factory = factory;
+		}
+	}
+
+	@Param({"JSON", "SMILE", "CBOR"})
+	Format format;
+
+	@Param({"1", "100"})
+	int orders;
+
+	List<Order> payload;
+	byte[] encoded;
+	ObjectWriter writer;
+	ObjectReader reader;
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(BinaryJsonBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("target/" + BinaryJsonBenchmark.class.getSimpleName() + ".json")
+				.build();
+		new Runner(options).run();
+	}
+
+	@Setup
+	public void setup() throws Exception {
+		// Spring Boot's defaults for the converter mapper
+		ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.factory(format.factory)
+				.build();
+		JavaType type = mapper.getTypeFactory().constructCollectionType(List.class, Order.class);
+		writer = mapper.writerFor(type);
+		reader = mapper.readerFor(type);
+		payload = new ArrayList<>(orders);
+		for (int i = 1; i <= orders; i++) {
+			payload.add(order(i));
+		}
+		encoded = writer.writeValueAsBytes(payload);
+		System.out.println("# " + format + ": " + orders + " orders, " + encoded.length + " bytes");
+	}
+
+	@Benchmark
+	public byte[] write() throws Exception {
+		return writer.writeValueAsBytes(payload);
+	}
+
+	@Benchmark
+	public List<Order> read() throws Exception {
+		return reader.readValue(encoded);
+	}
+
+	private static Order order(int n) {
+		Timestamp placed = new Timestamp(1_700_000_000_000L + n * 60_000L);
+		Order order = new Order();
+		order.orderId = "ORD-" + n;
+		order.userId = "USER-" + (n % 17);
+		order.userShortName = "Yash";
+		order.orderDate = placed;
+		order.orderStatus = "CONFIRMED";
+		order.paymentStatus = "PAID";
+		order.pointsUsed = n % 5;
+		order.subOrders = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			SubOrderItem item = new SubOrderItem();
+			item.uniqueId = "5f0c3e1a-7b2d-4c9e-9a41-" + String.format("%012d", n * 10L + i);
+			item.productId = "PRD-" + (100 + i);
+			item.model = "Model " + (char) ('A' + i);
+			item.category = "Electronics";
+			item.quantity = i + 1;
+			item.offerPrice = 49.90 * (i + 1);
+			item.actualPrice = 59.90 * (i + 1);
+			item.status = "CONFIRMED";
+			item.pointsEarned = (int) (item.offerPrice / 30);
+			item.agentName = "John Doe";
+			item.agentPhoneNumber = "9990001111";
+			item.agentId = "AGENT-1";
+			item.pickedOn = placed;
+			order.paymentAmount += item.offerPrice;
+			order.pointsEarned += item.pointsEarned;
+			order.subOrders.add(item);
+		}
+		order.totalPointsEarned = order.pointsEarned;
+		return order;
+	}
+
+	public static class Order {
+		public String orderId;
+		public String userId;
+		public String userShortName;
+		public Timestamp orderDate;
+		public String orderStatus;
+		public String paymentStatus;
+		public double paymentAmount;
+		public int pointsUsed;
+		public int pointsEarned;
+		public int totalPointsEarned;
+		public List<SubOrderItem> subOrders;
+	}
+
+	public static class SubOrderItem {
+		public String uniqueId;
+		public String productId;
+		public String model;
+		public String category;
+		public int quantity;
+		public double offerPrice;
+		public double actualPrice;
+		public String status;
+		public int pointsEarned;
+		public String agentName;
+		public String agentPhoneNumber;
+		public String agentId;
+		public Timestamp pickedOn;
+	}
+}
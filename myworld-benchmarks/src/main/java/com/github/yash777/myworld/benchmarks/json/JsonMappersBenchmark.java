@@ -0,0 +1,144 @@
+package com.github.yash777.myworld.benchmarks.json;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
+
+/**
+ * JMH comparison of a JSON round trip (write a DTO, read it back) with a new, configured {@link ObjectMapper} per
+ * call, as the callers of {@code getObjectMapper()} did, and with the shared readers and writers of
+ * {@link JsonMappers}.
+ *
+ * <ul>
+ *   <li>{@code steady*}: average time and, with the GC profiler, {@code gc.alloc.rate.norm} bytes per round trip</li>
+ *   <li>{@code startup*}: single shot in a fresh JVM, the first round trip of the process (class loading and
+ *   serializer introspection included)</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * java -jar myworld-benchmarks/target/benchmarks.jar JsonMappersBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonMappersBenchmark {
+
+	public static class Order {
+		public long id;
+		public String customer;
+		public Date created;
+		public String note; // null, left out by LENIENT
+		public List<Line> lines;
+	}
+
+	public static class Line {
+		public String product;
+		public int quantity;
+		public double price;
+	}
+
+	Order order;
+	ObjectWriter writer;
+	ObjectReader reader;
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(JsonMappersBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("target/" + JsonMappersBenchmark.class.getSimpleName() + ".json")
+				.build();
+		new Runner(options).run();
+	}
+
+	@Setup
+	public void setup() {
+		order = new Order();
+		order.id = 4711;
+		order.customer = "Yash";
+		order.created = new Date(1_700_000_000_000L);
+		order.lines = Arrays.asList(line("Keyboard", 1, 49.90), line("Mouse", 2, 19.50), line("Cable", 5, 4.99));
+		writer = JsonMappers.writer(Profile.LENIENT, Order.class);
+		reader = JsonMappers.reader(Profile.LENIENT, Order.class);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@Warmup(iterations = 3, time = 1)
+	@Measurement(iterations = 5, time = 1)
+	@Fork(1)
+	public Order steadyNewMapperPerCall() throws Exception {
+		ObjectMapper mapper = newLenientMapper();
+		return mapper.readValue(mapper.writeValueAsString(order), Order.class);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@Warmup(iterations = 3, time = 1)
+	@Measurement(iterations = 5, time = 1)
+	@Fork(1)
+	public Order steadySharedReaderWriter() throws Exception {
+		return reader.readValue(writer.writeValueAsString(order));
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 0)
+	@Measurement(iterations = 1)
+	@Fork(10)
+	public Order startupNewMapper() throws Exception {
+		ObjectMapper mapper = newLenientMapper();
+		return mapper.readValue(mapper.writeValueAsString(order), Order.class);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 0)
+	@Measurement(iterations = 1)
+	@Fork(10)
+	public Order startupWarmedRegistry() throws Exception {
+		// setup() already created the reader and writer, as JacksonConfig does with JsonMappers.warmUp at application start
+		return reader.readValue(writer.writeValueAsString(order));
+	}
+
+	private static ObjectMapper newLenientMapper() {
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		return mapper;
+	}
+
+	private static Line line(String product, int quantity, double price) {
+		Line line = new Line();
+		line.product = product;
+		line.quantity = quantity;
+		line.price = price;
+		return line;
+	}
+}
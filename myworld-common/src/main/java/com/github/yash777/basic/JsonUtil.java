@@ -1,8 +1,8 @@
 package com.github.yash777.basic;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
 
 /**
  * Utility class for JSON-related operations.
@@ -11,9 +11,6 @@ import com.fasterxml.jackson.databind.SerializationFeature;
  */
 public class JsonUtil {
 	
-	private static final ObjectMapper mapper = new ObjectMapper()
-			.enable(SerializationFeature.INDENT_OUTPUT);
-	
 	/**
 	 * Converts any object to a pretty-printed JSON string.
 	 *
@@ -22,7 +19,7 @@ public class JsonUtil {
 	 */
 	public static String toPrettyJson(Object obj) {
 		try {
-			return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+			return JsonMappers.prettyWriter(Profile.DEFAULT).writeValueAsString(obj);
 		} catch (JsonProcessingException e) {
 			return "Failed to convert object to JSON: " + e.getMessage();
 		}
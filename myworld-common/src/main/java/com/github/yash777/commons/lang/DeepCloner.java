@@ -0,0 +1,435 @@
+package com.github.yash777.commons.lang;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Deep copy of an object graph, field by field, without a trip through JSON or Java serialization.
+ *
+ * <ul>
+ *   <li>Plain classes: a new instance from the no-arg constructor (may be private), then every instance field of the
+ *   class and its superclasses is copied; primitives as they are, references cloned recursively. The constructor
+ *   and fields of a class are looked up once and cached.</li>
+ *   <li>Records: the canonical constructor with cloned components. A record cannot be created before its
+ *   components, so a cycle through a record is rejected.</li>
+ *   <li>Arrays, {@link Date} (and {@code java.sql} subclasses), {@link Calendar} and {@link Optional}: copied.</li>
+ *   <li>JDK collections and maps: a new instance of the same class (sorted ones with the same comparator) with
+ *   cloned elements. Those without a public no-arg constructor ({@code List.of}, {@code Arrays.asList},
+ *   unmodifiable and synchronized views) are copied into an {@code ArrayList}, {@code LinkedHashSet} or
+ *   {@code LinkedHashMap}. Collections and maps of other classes are copied the same way (their own fields are
+ *   not).</li>
+ *   <li>Shared, as immutable: Strings, boxed primitives, {@link BigInteger}, {@link BigDecimal}, {@code java.time}
+ *   types, {@link UUID}, {@link URI}, {@link Locale}, enums and classes.</li>
+ *   <li>Any other JDK type ({@code AtomicInteger}, {@code StringBuilder}, {@code BitSet}, ...) may be mutable and
+ *   is rejected.</li>
+ * </ul>
+ *
+ * <p>Each object is cloned once per call, so shared references stay shared and cycles are preserved. The copy
+ * recurses along references, so the depth of the graph is limited by the thread's stack. Rejected graphs throw an
+ * {@link IllegalArgumentException}, on which {@code FasterXmlObjectMapperUtil.deepClone} copies through Jackson
+ * instead.</p>
+ *
+ * <pre>{@code
+ * Employee copy = DeepCloner.deepClone(employee);
+ * }</pre>
+ */
+public final class DeepCloner {
+
+	/** Public no-arg constructor of a collection or map class, if it has one. */
+	private static final ClassValue<Optional<Constructor<?>>> CONTAINER_CONSTRUCTORS = new ClassValue<Optional<Constructor<?>>>() {
+		@Override
+		protected Optional<Constructor<?>> computeValue(Class<?> type) {
+			try {
+				return Optional.of(type.getConstructor());
+			} catch (NoSuchMethodException | RuntimeException e) {
+				return Optional.empty();
+			}
+		}
+	};
+
+	/** Classes whose instances are immutable and shared, besides enums. */
+	private static final Set<Class<?>> IMMUTABLE = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+			Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+			UUID.class, URI.class, Locale.class, Class.class);
+
+	/** Per-class copier, built on first use. */
+	private static final ClassValue<ClassCopier> COPIERS = new ClassValue<ClassCopier>() {
+		@Override
+		protected ClassCopier computeValue(Class<?> type) {
+			return type.isRecord() ? new RecordCopier(type) : new BeanCopier(type);
+		}
+	};
+
+	private DeepCloner() {
+	}
+
+	/**
+	 * Returns a deep copy of {@code source}.
+	 *
+	 * @throws IllegalArgumentException if a class of the graph cannot be instantiated (no no-arg constructor), is a
+	 *                                  JDK type that is not known to be immutable, or a record is part of a cycle
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T deepClone(T source) {
+		if (isShared(source)) {
+			return source;
+		}
+		return (T) cloneValue(source, new Clones());
+	}
+
+	private static Object cloneValue(Object source, Clones clones) {
+		if (isShared(source)) {
+			return source;
+		}
+		Object clone = clones.get(source);
+		if (clone == Clones.IN_PROGRESS) {
+			throw new IllegalArgumentException("Cannot deep clone " + source.getClass().getName() + ": part of a cycle through a record");
+		}
+		if (clone != null) {
+			return clone;
+		}
+		Class<?> type = source.getClass();
+		if (type.isArray()) {
+			return cloneArray(source, clones);
+		}
+		if (source instanceof Date) {
+			return register(source, ((Date) source).clone(), clones);
+		}
+		if (source instanceof Calendar) {
+			return register(source, ((Calendar) source).clone(), clones);
+		}
+		if (source instanceof Optional) {
+			clones.put(source, Clones.IN_PROGRESS); // created after its value, as a record
+			return register(source, ((Optional<?>) source).map(value -> cloneValue(value, clones)), clones);
+		}
+		if (source instanceof Collection) {
+			return cloneCollection((Collection<?>) source, clones);
+		}
+		if (source instanceof Map) {
+			return cloneMap((Map<?, ?>) source, clones);
+		}
+		if (isJdkType(type)) {
+			throw new IllegalArgumentException("Cannot deep clone " + type.getName() + ": JDK type not known to be immutable");
+		}
+		return COPIERS.get(type).copy(source, clones);
+	}
+
+	private static boolean isShared(Object value) {
+		if (value == null || value instanceof Enum) {
+			return true;
+		}
+		Class<?> type = value.getClass();
+		return IMMUTABLE.contains(type) || type.getName().startsWith("java.time.");
+	}
+
+	private static boolean isJdkType(Class<?> type) {
+		String name = type.getName();
+		return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+	}
+
+	private static Object register(Object source, Object clone, Clones clones) {
+		clones.put(source, clone);
+		return clone;
+	}
+
+	private static Object cloneArray(Object source, Clones clones) {
+		Class<?> component = source.getClass().getComponentType();
+		int length = Array.getLength(source);
+		if (component.isPrimitive()) {
+			Object copy = Array.newInstance(component, length);
+			System.arraycopy(source, 0, copy, 0, length);
+			return register(source, copy, clones);
+		}
+		Object[] from = (Object[]) source;
+		Object[] copy = (Object[]) Array.newInstance(component, length);
+		clones.put(source, copy);
+		for (int i = 0; i < length; i++) {
+			copy[i] = cloneValue(from[i], clones);
+		}
+		return copy;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object cloneCollection(Collection<?> source, Clones clones) {
+		if (source instanceof EnumSet) {
+			return register(source, ((EnumSet) source).clone(), clones); // enums are shared
+		}
+		Collection<Object> copy;
+		if (source instanceof SortedSet) {
+			copy = new TreeSet<>(((SortedSet<Object>) source).comparator());
+		} else if (source instanceof PriorityQueue) {
+			copy = new PriorityQueue<>(Math.max(1, source.size()), ((PriorityQueue<Object>) source).comparator());
+		} else {
+			copy = newInstanceOrNull(source.getClass());
+			if (copy == null) {
+				copy = source instanceof Set ? new LinkedHashSet<>(source.size() * 2) : new ArrayList<>(source.size());
+			}
+		}
+		clones.put(source, copy);
+		for (Object element : source) {
+			copy.add(cloneValue(element, clones));
+		}
+		return copy;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object cloneMap(Map<?, ?> source, Clones clones) {
+		Map<Object, Object> copy;
+		if (source instanceof EnumMap) {
+			copy = new EnumMap((EnumMap) source); // same key type, values replaced below
+		} else if (source instanceof SortedMap) {
+			copy = new TreeMap<>(((SortedMap<Object, Object>) source).comparator());
+		} else {
+			copy = newInstanceOrNull(source.getClass());
+			if (copy == null) {
+				copy = new LinkedHashMap<>(source.size() * 2);
+			}
+		}
+		clones.put(source, copy);
+		for (Map.Entry<?, ?> entry : source.entrySet()) {
+			copy.put(cloneValue(entry.getKey(), clones), cloneValue(entry.getValue(), clones));
+		}
+		return copy;
+	}
+
+	/** A new instance from the public no-arg constructor, {@code null} if there is none. */
+	@SuppressWarnings("unchecked")
+	private static <C> C newInstanceOrNull(Class<?> type) {
+		if (type == ArrayList.class) {
+			return (C) new ArrayList<>();
+		}
+		if (type == HashMap.class) {
+			return (C) new HashMap<>();
+		}
+		Constructor<?> constructor = CONTAINER_CONSTRUCTORS.get(type).orElse(null);
+		try {
+			return constructor == null ? null : (C) constructor.newInstance();
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Source to clone, by identity: open addressing over one array of key/value pairs, allocated on the first put. Most
+	 * graphs are a handful of objects, for which {@link java.util.IdentityHashMap} (a 64 slot table up front) costs
+	 * more than the copy itself.
+	 */
+	private static final class Clones {
+		/** Value of a record (or Optional) whose components are being cloned. */
+		static final Object IN_PROGRESS = new Object();
+
+		private Object[] table;
+		private int size;
+
+		Object get(Object source) {
+			if (table == null) {
+				return null;
+			}
+			int mask = table.length - 1;
+			for (int i = slot(source, mask);; i = (i + 2) & mask) {
+				Object key = table[i];
+				if (key == source) {
+					return table[i + 1];
+				}
+				if (key == null) {
+					return null;
+				}
+			}
+		}
+
+		void put(Object source, Object clone) {
+			if (table == null) {
+				table = new Object[16];
+			} else if (size * 4 >= table.length) { // keep the load factor under 1/2
+				resize();
+			}
+			if (insert(table, source, clone)) {
+				size++;
+			}
+		}
+
+		private void resize() {
+			Object[] old = table;
+			table = new Object[old.length * 2];
+			for (int i = 0; i < old.length; i += 2) {
+				if (old[i] != null) {
+					insert(table, old[i], old[i + 1]);
+				}
+			}
+		}
+
+		/** Puts or replaces the pair, {@code true} if the source is new. */
+		private static boolean insert(Object[] table, Object source, Object clone) {
+			int mask = table.length - 1;
+			int i = slot(source, mask);
+			while (table[i] != null && table[i] != source) {
+				i = (i + 2) & mask;
+			}
+			boolean added = table[i] == null;
+			table[i] = source;
+			table[i + 1] = clone;
+			return added;
+		}
+
+		private static int slot(Object key, int mask) {
+			int h = System.identityHashCode(key);
+			return ((h << 1) - (h << 8)) & mask; // even index, as IdentityHashMap does
+		}
+	}
+
+	private interface ClassCopier {
+		Object copy(Object source, Clones clones);
+	}
+
+	/**
+	 * No-arg constructor plus field copies, through method handles built once per class. A primitive field is copied by
+	 * one handle that reads the source and writes the copy without boxing.
+	 */
+	private static final class BeanCopier implements ClassCopier {
+		private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class);
+		private static final MethodType COPY = MethodType.methodType(void.class, Object.class, Object.class);
+		private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+		private final MethodHandle constructor;
+		/** {@code (Object copy, Object source)void} per primitive field. */
+		private final MethodHandle[] primitives;
+		private final MethodHandle[] getters;
+		private final MethodHandle[] setters;
+
+		BeanCopier(Class<?> type) {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			try {
+				Constructor<?> noArg = type.getDeclaredConstructor();
+				noArg.setAccessible(true);
+				constructor = lookup.unreflectConstructor(noArg).asType(CONSTRUCTOR);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				throw new IllegalArgumentException("Cannot deep clone " + type.getName() + ": no accessible no-arg constructor", e);
+			}
+			List<MethodHandle> primitiveCopies = new ArrayList<>();
+			List<MethodHandle> referenceGetters = new ArrayList<>();
+			List<MethodHandle> referenceSetters = new ArrayList<>();
+			for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					if (Modifier.isStatic(field.getModifiers())) {
+						continue;
+					}
+					MethodHandle getter;
+					MethodHandle setter;
+					try {
+						field.setAccessible(true); // also lets the setter write final fields
+						getter = lookup.unreflectGetter(field);
+						setter = lookup.unreflectSetter(field);
+					} catch (IllegalAccessException | RuntimeException e) { // a JDK superclass, not open to reflection
+						throw new IllegalArgumentException("Cannot deep clone " + type.getName() + ": " + field + " is not accessible", e);
+					}
+					if (field.getType().isPrimitive()) {
+						// setter(copy, getter(source))
+						primitiveCopies.add(MethodHandles.collectArguments(setter, 1, getter).asType(COPY));
+					} else {
+						referenceGetters.add(getter.asType(GETTER));
+						referenceSetters.add(setter.asType(COPY));
+					}
+				}
+			}
+			primitives = primitiveCopies.toArray(new MethodHandle[0]);
+			getters = referenceGetters.toArray(new MethodHandle[0]);
+			setters = referenceSetters.toArray(new MethodHandle[0]);
+		}
+
+		@Override
+		public Object copy(Object source, Clones clones) {
+			Object copy;
+			try {
+				copy = (Object) constructor.invokeExact();
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable e) { // thrown by the constructor
+				throw new IllegalArgumentException("Cannot deep clone " + source.getClass().getName(), e);
+			}
+			clones.put(source, copy);
+			try {
+				for (MethodHandle primitive : primitives) {
+					primitive.invokeExact(copy, source);
+				}
+				for (int i = 0; i < getters.length; i++) {
+					setters[i].invokeExact(copy, cloneValue((Object) getters[i].invokeExact(source), clones));
+				}
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) { // field handles throw no checked exceptions
+				throw new IllegalStateException(e);
+			}
+			return copy;
+		}
+	}
+
+	/** Canonical constructor with cloned components. */
+	private static final class RecordCopier implements ClassCopier {
+		private final Constructor<?> constructor;
+		private final Method[] accessors;
+
+		RecordCopier(Class<?> type) {
+			RecordComponent[] components = type.getRecordComponents();
+			Class<?>[] parameterTypes = new Class<?>[components.length];
+			accessors = new Method[components.length];
+			for (int i = 0; i < components.length; i++) {
+				parameterTypes[i] = components[i].getType();
+				accessors[i] = components[i].getAccessor();
+				accessors[i].setAccessible(true);
+			}
+			try {
+				constructor = type.getDeclaredConstructor(parameterTypes);
+				constructor.setAccessible(true);
+			} catch (NoSuchMethodException | RuntimeException e) {
+				throw new IllegalArgumentException("Cannot deep clone " + type.getName(), e);
+			}
+		}
+
+		@Override
+		public Object copy(Object source, Clones clones) {
+			try {
+				clones.put(source, Clones.IN_PROGRESS); // the record does not exist before its components
+				Object[] values = new Object[accessors.length];
+				for (int i = 0; i < accessors.length; i++) {
+					values[i] = cloneValue(accessors[i].invoke(source), clones);
+				}
+				return register(source, constructor.newInstance(values), clones);
+			} catch (InvocationTargetException e) {
+				throw new IllegalArgumentException("Cannot deep clone " + source.getClass().getName(), e.getCause());
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalArgumentException("Cannot deep clone " + source.getClass().getName(), e);
+			}
+		}
+	}
+}
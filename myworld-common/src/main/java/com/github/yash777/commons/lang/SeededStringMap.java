@@ -0,0 +1,380 @@
+package com.github.yash777.commons.lang;
+
+import java.security.SecureRandom;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@code String} keyed {@link Map} for keys that come from outside (query parameter names, header names, JSON field
+ * names), hashed with SipHash-1-3 under a random per-process key instead of {@link String#hashCode()}.
+ *
+ * <p>{@code String.hashCode} is public knowledge: {@code "Aa"} and {@code "BB"} collide (see {@link StringHashCollision}),
+ * so do all {@code 2^n} concatenations of them, and a request with thousands of such parameter names turns every
+ * {@code HashMap} lookup into a scan of the same bucket. Without the process key the SipHash value of a name cannot
+ * be predicted, so colliding names cannot be crafted.</p>
+ *
+ * <p>Entries live in flat arrays with open addressing (linear probing, at most half full, removed slots marked
+ * with a tombstone). {@code null} keys are not supported, {@code null} values are. Not thread safe; iteration order
+ * is unspecified.</p>
+ *
+ * <pre>{@code
+ * Map<String, String> queryParams = new SeededStringMap<>();
+ * queryParams.put(name, request.getParameter(name));
+ * }</pre>
+ *
+ * @param <V> the value type
+ */
+public final class SeededStringMap<V> extends AbstractMap<String, V> {
+	private static final int MIN_CAPACITY = 8;
+	private static final Object TOMBSTONE = new Object();
+
+	private static final long PROCESS_K0;
+	private static final long PROCESS_K1;
+	static {
+		SecureRandom random = new SecureRandom();
+		PROCESS_K0 = random.nextLong();
+		PROCESS_K1 = random.nextLong();
+	}
+
+	private final long k0;
+	private final long k1;
+	/** {@code null} for a free slot, {@link #TOMBSTONE} for a removed one, else the String key. */
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+	private int size;
+	/** Live entries plus tombstones, decides when to rehash. */
+	private int used;
+	private int modCount;
+	private Set<Map.Entry<String, V>> entrySet;
+
+	public SeededStringMap() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize number of entries that fit without a resize
+	 */
+	public SeededStringMap(int expectedSize) {
+		this(expectedSize, PROCESS_K0, PROCESS_K1);
+	}
+
+	public SeededStringMap(Map<String, ? extends V> map) {
+		this(map.size());
+		putAll(map);
+	}
+
+	/** Fixed hash key, for tests. */
+	SeededStringMap(int expectedSize, long k0, long k1) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal size: " + expectedSize);
+		}
+		this.k0 = k0;
+		this.k1 = k1;
+		int capacity = MIN_CAPACITY;
+		while (capacity < expectedSize * 2 && capacity < (1 << 30)) {
+			capacity <<= 1;
+		}
+		allocate(capacity);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof String && indexOf((String) key) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		int index = indexOf((String) key);
+		return index >= 0 ? (V) values[index] : null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(String key, V value) {
+		Objects.requireNonNull(key, "key");
+		int hash = hash(key);
+		int mask = keys.length - 1;
+		int free = -1;
+		for (int i = hash & mask; ; i = (i + 1) & mask) {
+			Object slot = keys[i];
+			if (slot == null) {
+				if (free < 0) {
+					free = i;
+				}
+				break;
+			}
+			if (slot == TOMBSTONE) {
+				if (free < 0) {
+					free = i;
+				}
+			} else if (hashes[i] == hash && slot.equals(key)) {
+				V old = (V) values[i];
+				values[i] = value;
+				return old;
+			}
+		}
+		if (keys[free] == null) {
+			used++;
+		}
+		keys[free] = key;
+		values[free] = value;
+		hashes[free] = hash;
+		size++;
+		modCount++;
+		if (used * 2 > keys.length) {
+			// grow only if the live entries need it, else just drop the tombstones
+			rehash(size * 4 > keys.length ? keys.length * 2 : keys.length);
+		}
+		return null;
+	}
+
+	@Override
+	public V remove(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		int index = indexOf((String) key);
+		if (index < 0) {
+			return null;
+		}
+		@SuppressWarnings("unchecked")
+		V old = (V) values[index];
+		removeAt(index);
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		if (used > 0) {
+			allocate(keys.length);
+			size = 0;
+			used = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<String, V>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private int indexOf(String key) {
+		int hash = hash(key);
+		int mask = keys.length - 1;
+		for (int i = hash & mask; ; i = (i + 1) & mask) {
+			Object slot = keys[i];
+			if (slot == null) {
+				return -1;
+			}
+			if (slot != TOMBSTONE && hashes[i] == hash && slot.equals(key)) {
+				return i;
+			}
+		}
+	}
+
+	private void removeAt(int index) {
+		keys[index] = TOMBSTONE;
+		values[index] = null;
+		size--;
+		modCount++;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+	}
+
+	private void rehash(int capacity) {
+		Object[] oldKeys = keys;
+		Object[] oldValues = values;
+		int[] oldHashes = hashes;
+		allocate(capacity);
+		int mask = capacity - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			Object key = oldKeys[j];
+			if (key != null && key != TOMBSTONE) {
+				int i = oldHashes[j] & mask;
+				while (keys[i] != null) {
+					i = (i + 1) & mask;
+				}
+				keys[i] = key;
+				values[i] = oldValues[j];
+				hashes[i] = oldHashes[j];
+			}
+		}
+		used = size;
+	}
+
+	private int hash(String key) {
+		long hash = sipHash13(k0, k1, key);
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/**
+	 * SipHash-1-3 of the UTF-16LE bytes of the string (4 chars per 64 bit word, no byte[] copy).
+	 */
+	static long sipHash13(long k0, long k1, String s) {
+		long v0 = k0 ^ 0x736f6d6570736575L;
+		long v1 = k1 ^ 0x646f72616e646f6dL;
+		long v2 = k0 ^ 0x6c7967656e657261L;
+		long v3 = k1 ^ 0x7465646279746573L;
+		int length = s.length();
+		int i = 0;
+		for (; i + 4 <= length; i += 4) {
+			long m = s.charAt(i) | (long) s.charAt(i + 1) << 16 | (long) s.charAt(i + 2) << 32 | (long) s.charAt(i + 3) << 48;
+			v3 ^= m;
+			// one compression round
+			v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+			v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+			v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+			v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+			v0 ^= m;
+		}
+		long last = (long) (length * 2) << 56;
+		for (int shift = 0; i < length; i++, shift += 16) {
+			last |= (long) s.charAt(i) << shift;
+		}
+		v3 ^= last;
+		v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+		v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+		v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+		v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+		v0 ^= last;
+		v2 ^= 0xff;
+		// three finalization rounds
+		for (int round = 0; round < 3; round++) {
+			v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+			v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+			v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+			v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+		}
+		return v0 ^ v1 ^ v2 ^ v3;
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<String, V>> {
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			SeededStringMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, V>> iterator() {
+			return new EntryIterator();
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Map.Entry<String, V>> {
+		private int next = advance(0);
+		private int last = -1;
+		private int expectedModCount = modCount;
+
+		private int advance(int from) {
+			while (from < keys.length && (keys[from] == null || keys[from] == TOMBSTONE)) {
+				from++;
+			}
+			return from;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < keys.length;
+		}
+
+		@Override
+		public Map.Entry<String, V> next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next >= keys.length) {
+				throw new NoSuchElementException();
+			}
+			last = next;
+			next = advance(next + 1);
+			return new Entry(last);
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt(last); // a tombstone never moves entries, so the iteration goes on unchanged
+			last = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	/** Entry view of a slot; {@link #setValue(Object)} writes through. */
+	private final class Entry implements Map.Entry<String, V> {
+		private final int index;
+		private final String key;
+
+		Entry(int index) {
+			this.index = index;
+			this.key = (String) keys[index];
+		}
+
+		@Override
+		public String getKey() {
+			return key;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return keys[index] == key ? (V) values[index] : get(key);
+		}
+
+		@Override
+		public V setValue(V value) {
+			return put(key, value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+			return key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+}
@@ -38,4 +38,23 @@ public class StringHashCollision {
 			System.out.println("- But strings are not equal: \"" + s1 + "\" != \"" + s2 + "\"");
 		}
 	}
+	
+	/**
+	 * Builds {@code 2^blocks} distinct keys with the same {@code hashCode()}: every combination of "Aa" and "BB"
+	 * blocks ("AaAa", "AaBB", "BBAa", "BBBB", ...). Used to test maps against hash flooding, see {@link SeededStringMap}.
+	 *
+	 * @param blocks number of two-char blocks per key (the key length is {@code 2 * blocks}), at most 30
+	 * @return the colliding keys
+	 */
+	public static String[] collidingKeys(int blocks) {
+		String[] keys = new String[1 << blocks];
+		for (int i = 0; i < keys.length; i++) {
+			StringBuilder key = new StringBuilder(blocks * 2);
+			for (int b = 0; b < blocks; b++) {
+				key.append((i >>> b & 1) == 0 ? "Aa" : "BB");
+			}
+			keys[i] = key.toString();
+		}
+		return keys;
+	}
 }
\ No newline at end of file
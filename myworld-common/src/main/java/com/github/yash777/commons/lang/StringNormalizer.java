@@ -0,0 +1,276 @@
+package com.github.yash777.commons.lang;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Normalizes many fields at once (CSV columns, JSON values, ...) with a fixed chain of steps, done in a single
+ * pass per field.
+ *
+ * <p>The enabled {@link Step}s always run in this order, whatever order they are given in:
+ * {@link Step#NFC} &rarr; {@link Step#STRIP_INVISIBLE} &rarr; {@link Step#TRIM} &rarr; {@link Step#CASE_FOLD}.
+ * Stripping, trimming and folding write into one reusable {@code char[]} per worker, so the only String
+ * created per field is the result; a field that does not change is returned as the same instance (when it is a String).
+ * {@code NFC} only allocates for text that is not already in NFC form.</p>
+ *
+ * <p>Arrays larger than {@value #CHUNK_SIZE} fields are split in chunks and normalized on the common
+ * {@link java.util.concurrent.ForkJoinPool}. A {@code StringNormalizer} is immutable and thread safe.</p>
+ *
+ * <pre>{@code
+ * StringNormalizer normalizer = new StringNormalizer(Step.TRIM, Step.STRIP_INVISIBLE, Step.CASE_FOLD);
+ * String[] emails = normalizer.normalize(csvColumn);  // "  John@Example.COM\t" -> "john@example.com"
+ *
+ * // same as StringUtils.trimAdvanced(value, "\"'") plus the Unicode space trim
+ * StringNormalizer unquote = new StringNormalizer("\"'", Step.TRIM);
+ * }</pre>
+ */
+public final class StringNormalizer {
+	static final int CHUNK_SIZE = 1 << 12;
+
+	/**
+	 * Normalization steps.
+	 */
+	public enum Step {
+		/** Unicode canonical composition ({@link Normalizer.Form#NFC}). */
+		NFC,
+		/** Removes invisible format characters (Unicode category Cf: zero width space/joiners, direction marks, BOM, soft hyphen, ...) anywhere in the text. */
+		STRIP_INVISIBLE,
+		/** Trims leading and trailing {@link StringUtils#trimSpaces(String) Unicode spaces} and the extra trim characters. */
+		TRIM,
+		/** Simple (one char to one char) case folding, {@code toLowerCase(toUpperCase(c))}, locale independent. */
+		CASE_FOLD
+	}
+
+	/** Unicode category Cf, for {@link Step#STRIP_INVISIBLE}. */
+	private static final boolean[] INVISIBLE = new boolean[Character.MAX_VALUE + 1];
+	static {
+		for (int c = 0; c <= Character.MAX_VALUE; c++) {
+			INVISIBLE[c] = Character.getType(c) == Character.FORMAT;
+		}
+	}
+
+	private final Set<Step> steps;
+	private final boolean nfc;
+	private final boolean strip;
+	private final boolean trim;
+	private final boolean fold;
+	/** Characters removed by {@link Step#TRIM}, {@code null} if the step is off. */
+	private final boolean[] trimTable;
+
+	public StringNormalizer(Step... steps) {
+		this(null, steps);
+	}
+
+	/**
+	 * @param trimChars extra characters to trim, like the skip string of {@link StringUtils#trimAdvanced(String, String)};
+	 *                  enables {@link Step#TRIM}. May be {@code null}.
+	 * @param steps     the steps to apply
+	 */
+	public StringNormalizer(String trimChars, Step... steps) {
+		EnumSet<Step> set = EnumSet.noneOf(Step.class);
+		for (Step step : steps) {
+			set.add(step);
+		}
+		if (trimChars != null && !trimChars.isEmpty()) {
+			set.add(Step.TRIM);
+		}
+		this.steps = Collections.unmodifiableSet(set);
+		this.nfc = set.contains(Step.NFC);
+		this.strip = set.contains(Step.STRIP_INVISIBLE);
+		this.trim = set.contains(Step.TRIM);
+		this.fold = set.contains(Step.CASE_FOLD);
+		if (trim) {
+			trimTable = new boolean[Character.MAX_VALUE + 1];
+			for (int c = 0; c <= Character.MAX_VALUE; c++) {
+				trimTable[c] = StringUtils.isUnicodeSpace((char) c);
+			}
+			if (trimChars != null) {
+				for (int i = 0; i < trimChars.length(); i++) {
+					trimTable[trimChars.charAt(i)] = true;
+				}
+			}
+		} else {
+			trimTable = null;
+		}
+	}
+
+	public Set<Step> getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Normalizes one value.
+	 *
+	 * @param value the value, may be {@code null}
+	 * @return the normalized value, {@code null} for {@code null}
+	 */
+	public String normalize(CharSequence value) {
+		return normalize(value, new Buffer());
+	}
+
+	/**
+	 * Normalizes all values.
+	 *
+	 * @param values the values, may contain {@code null}s
+	 * @return a new array with the normalized values
+	 */
+	public String[] normalize(CharSequence[] values) {
+		String[] result = new String[values.length];
+		normalize(values, result);
+		return result;
+	}
+
+	/**
+	 * Normalizes all values into {@code result}, which may be {@code values} itself when that is a {@code String[]}.
+	 */
+	public void normalize(CharSequence[] values, String[] result) {
+		if (result.length < values.length) {
+			throw new IllegalArgumentException("Array length " + result.length + " is less than " + values.length);
+		}
+		forEachChunk(values.length, (from, to) -> {
+			Buffer buffer = new Buffer();
+			for (int i = from; i < to; i++) {
+				result[i] = normalize(values[i], buffer);
+			}
+		});
+	}
+
+	/**
+	 * Normalizes a column stored as one {@code char[]}: field {@code i} is {@code data[offsets[i] .. offsets[i + 1])}.
+	 * No String or {@link CharSequence} is created for the input fields.
+	 *
+	 * <pre>{@code
+	 * char[] data = "Alice  Bob ".toCharArray();
+	 * int[] offsets = {0, 7, 11};
+	 * String[] names = normalizer.normalizeColumn(data, offsets); // ["Alice", "Bob"]
+	 * }</pre>
+	 *
+	 * @param data    the characters of all fields, back to back
+	 * @param offsets start of every field, plus the end of the last one ({@code fields + 1} values, ascending)
+	 * @return the normalized fields
+	 */
+	public String[] normalizeColumn(char[] data, int[] offsets) {
+		if (offsets.length == 0) {
+			return new String[0];
+		}
+		String[] result = new String[offsets.length - 1];
+		forEachChunk(result.length, (from, to) -> {
+			Buffer buffer = new Buffer();
+			Slice slice = new Slice(data);
+			for (int i = from; i < to; i++) {
+				slice.start = offsets[i];
+				slice.end = offsets[i + 1];
+				if (slice.start > slice.end || slice.end > data.length) {
+					throw new IllegalArgumentException("Invalid offsets " + slice.start + ".." + slice.end + " of field " + i);
+				}
+				result[i] = normalize(slice, buffer);
+			}
+		});
+		return result;
+	}
+
+	private String normalize(CharSequence value, Buffer buffer) {
+		if (value == null) {
+			return null;
+		}
+		CharSequence text = value;
+		if (nfc && !Normalizer.isNormalized(text, Normalizer.Form.NFC)) {
+			text = Normalizer.normalize(text, Normalizer.Form.NFC);
+		}
+		int start = 0;
+		int end = text.length();
+		if (trim) {
+			// stripped characters between trimmed ones must not stop the trim
+			while (start < end && isTrimmedOrStripped(text.charAt(start))) {
+				start++;
+			}
+			while (start < end && isTrimmedOrStripped(text.charAt(end - 1))) {
+				end--;
+			}
+		}
+		char[] chars = buffer.ensureCapacity(end - start);
+		int length = 0;
+		boolean changed = start > 0 || end < text.length();
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (strip && INVISIBLE[c]) {
+				changed = true;
+				continue;
+			}
+			if (fold) {
+				char folded = Character.toLowerCase(Character.toUpperCase(c));
+				changed |= folded != c;
+				c = folded;
+			}
+			chars[length++] = c;
+		}
+		if (!changed) {
+			return text.toString();
+		}
+		return new String(chars, 0, length);
+	}
+
+	private boolean isTrimmedOrStripped(char c) {
+		return trimTable[c] || (strip && INVISIBLE[c]);
+	}
+
+	/** Reusable output buffer, one per worker. */
+	private static final class Buffer {
+		private char[] chars = new char[64];
+
+		char[] ensureCapacity(int length) {
+			if (chars.length < length) {
+				chars = new char[Math.max(length, chars.length * 2)];
+			}
+			return chars;
+		}
+	}
+
+	/** Reusable view of one field of a column, see {@link #normalizeColumn(char[], int[])}. */
+	private static final class Slice implements CharSequence {
+		private final char[] data;
+		int start;
+		int end;
+
+		Slice(char[] data) {
+			this.data = data;
+		}
+
+		@Override
+		public int length() {
+			return end - start;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return data[start + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int from, int to) {
+			return new String(data, start + from, to - from);
+		}
+
+		@Override
+		public String toString() {
+			return new String(data, start, end - start);
+		}
+	}
+
+	private interface RangeTask {
+		void run(int from, int to);
+	}
+
+	private static void forEachChunk(int length, RangeTask task) {
+		if (length <= CHUNK_SIZE) {
+			task.run(0, length);
+			return;
+		}
+		int chunks = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		IntStream.range(0, chunks).parallel()
+				.forEach(chunk -> task.run(chunk * CHUNK_SIZE, Math.min(length, (chunk + 1) * CHUNK_SIZE)));
+	}
+}
@@ -1,7 +1,6 @@
 package com.github.yash777.commons.lang;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -94,6 +93,7 @@ public class StringUtils {
 	 * 
 	 * @see <a href="https://github.com/apache/commons-lang/pull/395">Apache Commons PR #395</a>
 	 * @see <a href="https://github.com/Yash-777/commons-lang/blob/master/src/main/java/org/apache/commons/lang3/StringUtils.java#L7111">Implementation Reference</a>
+	 * @see SubstringReplacer for many open/close pairs and every occurrence, in one pass
 	 */
 	public static String replaceSubstringInBetween(final String str, final String replace, final String open, final String close) {
 		if (isEmpty(str) || isEmpty(open) || isEmpty(close) || replace == null || str.length() <= 2) {
@@ -130,7 +130,15 @@ public class StringUtils {
 	 * @return true if blank, false otherwise
 	 */
 	public static boolean isBlank(String str) {
-		return str == null || trimSpaces(str).isEmpty();
+		if (str == null) {
+			return true;
+		}
+		for (int i = 0; i < str.length(); i++) {
+			if (!UNICODE_SPACE_TABLE[str.charAt(i)]) {
+				return false;
+			}
+		}
+		return true;
 	}
 	
 	/**
@@ -221,35 +229,70 @@ public class StringUtils {
 		return codesStringBuilder.toString();
 	}
 	
+	/**
+	 * Lookup table of the {@link UnicodeSpace} characters, indexed by {@code char}. Built once, so the trims
+	 * below are a plain scan from both ends instead of a regex compiled on every call.
+	 */
+	private static final boolean[] UNICODE_SPACE_TABLE = new boolean[Character.MAX_VALUE + 1];
+	static {
+		for (UnicodeSpace unicode : UnicodeSpace.values()) {
+			UNICODE_SPACE_TABLE[unicode.getCode().charAt(0)] = true;
+		}
+	}
+	
+	/**
+	 * Checks if the character is one of the {@link UnicodeSpace} whitespace/invisible characters.
+	 *
+	 * @param ch the character
+	 * @return true if {@link #trimSpaces(String)} would trim it
+	 */
+	public static boolean isUnicodeSpace(char ch) {
+		return UNICODE_SPACE_TABLE[ch];
+	}
+	
 	/**
 	 * Trims only the leading Unicode whitespace and invisible characters from a string.
 	 *
 	 * @param text the original string
-	 * @return the string with leading spaces trimmed
+	 * @return the string with leading spaces trimmed, the same instance if there is nothing to trim
 	 */
 	public static String trimSpacesLeading(String text) {
-		String spaceTrimRegex = "^[" + Pattern.quote(getUnicodeSpaces()) + "]+";
-		return text.replaceAll(spaceTrimRegex, "");
+		int len = text.length();
+		int st = 0;
+		while (st < len && UNICODE_SPACE_TABLE[text.charAt(st)]) {
+			st++;
+		}
+		return st > 0 ? text.substring(st) : text;
 	}
 	/**
 	 * Trims only the trailing Unicode whitespace and invisible characters from a string.
 	 *
 	 * @param text the original string
-	 * @return the string with trailing spaces trimmed
+	 * @return the string with trailing spaces trimmed, the same instance if there is nothing to trim
 	 */
 	public static String trimSpacesTrailing(String text) {
-		String spaceTrimRegex = "[" + Pattern.quote(getUnicodeSpaces()) + "]+$";
-		return text.replaceAll(spaceTrimRegex, "");
+		int len = text.length();
+		while (len > 0 && UNICODE_SPACE_TABLE[text.charAt(len - 1)]) {
+			len--;
+		}
+		return len < text.length() ? text.substring(0, len) : text;
 	}
 	/**
 	 * Trims leading and trailing Unicode whitespace and invisible characters from a string.
 	 *
 	 * @param text the original string
-	 * @return the trimmed string
+	 * @return the trimmed string, the same instance if there is nothing to trim
 	 */
 	public static String trimSpaces(String text) {
-		String spaceTrimRegex = "^[" + Pattern.quote(getUnicodeSpaces()) + "]+|[" + Pattern.quote(getUnicodeSpaces()) + "]+$";
-		return text.replaceAll(spaceTrimRegex, "");
+		int len = text.length();
+		int st = 0;
+		while (st < len && UNICODE_SPACE_TABLE[text.charAt(st)]) {
+			st++;
+		}
+		while (st < len && UNICODE_SPACE_TABLE[text.charAt(len - 1)]) {
+			len--;
+		}
+		return (st > 0 || len < text.length()) ? text.substring(st, len) : text;
 	}
 	
 	/**
@@ -0,0 +1,318 @@
+package com.github.yash777.commons.lang;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi rule version of {@link StringUtils#replaceSubstringInBetween(String, String, String, String)}: replaces the
+ * text between an {@code open} and a {@code close} marker, for many marker pairs, in a single pass over the input.
+ *
+ * <p>All {@code open} markers are compiled once into an Aho-Corasick automaton (a dense DFA over the characters
+ * that occur in the markers), each {@code close} marker into a KMP table. The input is then read once, char by char:
+ * plain text is copied through in runs, the text of an open section is held back until its {@code close} marker is
+ * found and then dropped for the replacement. This works the same on a {@link CharSequence} and on a
+ * {@link Reader} of any size; only the text of the current open section is buffered, at most
+ * {@code maxSectionLength} chars.</p>
+ *
+ * <ul>
+ *   <li>Like {@code replaceSubstringInBetween} the markers are kept, but <b>every</b> section is replaced, not only the first.</li>
+ *   <li>The {@code open} marker that ends first wins (so an {@code "<pass"} rule shadows {@code "<password>"}); for
+ *   markers ending at the same position the longest one, then the first registered rule.</li>
+ *   <li>Text inside a section is not searched for other {@code open} markers. A section without {@code close}, or
+ *   longer than {@code maxSectionLength}, is not replaced: its text is searched again from just after its
+ *   {@code open} marker, so the sections of other rules in it are still replaced.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * SubstringReplacer redact = new SubstringReplacer(Arrays.asList(
+ *         new SubstringReplacer.Rule("***", "<password>", "</password>"),
+ *         new SubstringReplacer.Rule("***", "\"cardNumber\":\"", "\"")));
+ * String masked = redact.replace(payload);
+ * redact.replace(reader, writer); // large payloads, streamed
+ * }</pre>
+ */
+public final class SubstringReplacer {
+	private static final int BUFFER_SIZE = 8192;
+	public static final int DEFAULT_MAX_SECTION_LENGTH = 64 * 1024;
+
+	/**
+	 * One replacement rule, parameters in the order of {@code replaceSubstringInBetween}.
+	 */
+	public static final class Rule {
+		private final String replace;
+		private final String open;
+		private final String close;
+
+		/**
+		 * @param replace the string to insert between open and close markers
+		 * @param open    the starting marker string, not empty
+		 * @param close   the ending marker string, not empty
+		 */
+		public Rule(String replace, String open, String close) {
+			if (replace == null || StringUtils.isEmpty(open) || StringUtils.isEmpty(close)) {
+				throw new IllegalArgumentException("replace must not be null, open and close must not be empty");
+			}
+			this.replace = replace;
+			this.open = open;
+			this.close = close;
+		}
+
+		public String getReplace() {
+			return replace;
+		}
+
+		public String getOpen() {
+			return open;
+		}
+
+		public String getClose() {
+			return close;
+		}
+	}
+
+	private final List<Rule> rules;
+	/** Character class of every char, 0 for chars that occur in no open marker. */
+	private final char[] charClass;
+	private final int classCount;
+	/** DFA transitions, {@code delta[state * classCount + class]}. */
+	private final int[] delta;
+	/** Rule whose open marker ends in the state, -1 for none. */
+	private final int[] match;
+	private final char[][] closes;
+	/** KMP failure function of every close marker. */
+	private final int[][] closeFailure;
+	private final int maxSectionLength;
+
+	public SubstringReplacer(List<Rule> rules) {
+		this(rules, DEFAULT_MAX_SECTION_LENGTH);
+	}
+
+	/**
+	 * @param maxSectionLength the most chars from the end of an {@code open} marker to the end of its {@code close}
+	 *                         marker; longer sections are treated as not closed, which bounds the text held back
+	 */
+	public SubstringReplacer(List<Rule> rules, int maxSectionLength) {
+		if (rules.isEmpty()) {
+			throw new IllegalArgumentException("No rules");
+		}
+		if (maxSectionLength < 1) {
+			throw new IllegalArgumentException("maxSectionLength must be positive: " + maxSectionLength);
+		}
+		this.rules = List.copyOf(rules);
+		this.maxSectionLength = maxSectionLength;
+
+		charClass = new char[Character.MAX_VALUE + 1];
+		int classes = 1;
+		for (Rule rule : this.rules) {
+			for (int i = 0; i < rule.open.length(); i++) {
+				char c = rule.open.charAt(i);
+				if (charClass[c] == 0) {
+					charClass[c] = (char) classes++;
+				}
+			}
+		}
+		classCount = classes;
+
+		// trie of the open markers
+		List<Map<Character, Integer>> children = new ArrayList<>();
+		List<Integer> output = new ArrayList<>();
+		children.add(new HashMap<>());
+		output.add(-1);
+		for (int r = 0; r < this.rules.size(); r++) {
+			String open = this.rules.get(r).open;
+			int state = 0;
+			for (int i = 0; i < open.length(); i++) {
+				Integer next = children.get(state).get(open.charAt(i));
+				if (next == null) {
+					next = children.size();
+					children.add(new HashMap<>());
+					output.add(-1);
+					children.get(state).put(open.charAt(i), next);
+				}
+				state = next;
+			}
+			if (output.get(state) < 0) {
+				output.set(state, r);
+			}
+		}
+
+		// breadth first: failure links, inherited outputs and the dense transition table
+		int states = children.size();
+		delta = new int[states * classCount];
+		match = new int[states];
+		int[] failure = new int[states];
+		int[] queue = new int[states];
+		int head = 0;
+		int tail = 0;
+		match[0] = -1;
+		for (Map.Entry<Character, Integer> child : children.get(0).entrySet()) {
+			delta[charClass[child.getKey()]] = child.getValue();
+			queue[tail++] = child.getValue();
+		}
+		while (head < tail) {
+			int state = queue[head++];
+			int fail = failure[state];
+			// the state's own marker is the longest one ending here
+			match[state] = output.get(state) >= 0 ? output.get(state) : match[fail];
+			System.arraycopy(delta, fail * classCount, delta, state * classCount, classCount);
+			for (Map.Entry<Character, Integer> child : children.get(state).entrySet()) {
+				int next = child.getValue();
+				int cls = charClass[child.getKey()];
+				failure[next] = delta[fail * classCount + cls];
+				delta[state * classCount + cls] = next;
+				queue[tail++] = next;
+			}
+		}
+
+		closes = new char[this.rules.size()][];
+		closeFailure = new int[this.rules.size()][];
+		for (int r = 0; r < this.rules.size(); r++) {
+			char[] close = this.rules.get(r).close.toCharArray();
+			int[] table = new int[close.length];
+			for (int i = 1, k = 0; i < close.length; i++) {
+				while (k > 0 && close[i] != close[k]) {
+					k = table[k - 1];
+				}
+				if (close[i] == close[k]) {
+					k++;
+				}
+				table[i] = k;
+			}
+			closes[r] = close;
+			closeFailure[r] = table;
+		}
+	}
+
+	public List<Rule> getRules() {
+		return rules;
+	}
+
+	/**
+	 * Replaces all sections of the string.
+	 *
+	 * @param str the original string, may be {@code null}
+	 * @return the string with all sections replaced, the same instance if no section was found
+	 */
+	public String replace(String str) {
+		if (str == null || str.isEmpty()) {
+			return str;
+		}
+		StringBuilder out = new StringBuilder(str.length());
+		Session session = new Session();
+		try {
+			session.feed(str, 0, str.length(), out);
+			session.finish(out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // StringBuilder does not throw
+		}
+		return session.replaced == 0 ? str : out.toString();
+	}
+
+	/**
+	 * Appends the input with all sections replaced to {@code out}, which can be reused between calls.
+	 *
+	 * @return {@code out}
+	 */
+	public StringBuilder replace(CharSequence input, StringBuilder out) {
+		Session session = new Session();
+		try {
+			session.feed(input, 0, input.length(), out);
+			session.finish(out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out;
+	}
+
+	/**
+	 * Streams the reader to the writer with all sections replaced. Neither is closed.
+	 *
+	 * @return the number of replaced sections
+	 */
+	public int replace(Reader in, Writer out) throws IOException {
+		Session session = new Session();
+		char[] buffer = new char[BUFFER_SIZE];
+		CharBuffer chunk = CharBuffer.wrap(buffer);
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			session.feed(chunk, 0, read, out);
+		}
+		session.finish(out);
+		return session.replaced;
+	}
+
+	/** Matching state of one input. */
+	private final class Session {
+		int state;
+		/** Rule of the open section, -1 while outside a section. */
+		int rule = -1;
+		int closeState;
+		int replaced;
+		/** Text of the open section so far, including the part of the close marker matched yet. */
+		final StringBuilder pending = new StringBuilder();
+
+		void feed(CharSequence input, int from, int to, Appendable out) throws IOException {
+			int runStart = from;
+			for (int i = from; i < to; i++) {
+				char c = input.charAt(i);
+				if (rule < 0) {
+					state = delta[state * classCount + charClass[c]];
+					if (match[state] >= 0) {
+						out.append(input, runStart, i + 1);
+						rule = match[state];
+						closeState = 0;
+						runStart = i + 1;
+					}
+				} else {
+					if (pending.length() == maxSectionLength) {
+						reopen(out); // too long to be closed, then c is read again in the new state
+						runStart = i--;
+						continue;
+					}
+					pending.append(c);
+					char[] close = closes[rule];
+					while (closeState > 0 && close[closeState] != c) {
+						closeState = closeFailure[rule][closeState - 1];
+					}
+					if (close[closeState] == c && ++closeState == close.length) {
+						out.append(rules.get(rule).replace).append(rules.get(rule).close);
+						replaced++;
+						pending.setLength(0);
+						rule = -1;
+						state = 0;
+						runStart = i + 1;
+					}
+				}
+			}
+			if (rule < 0) {
+				out.append(input, runStart, to);
+			}
+		}
+
+		void finish(Appendable out) throws IOException {
+			while (rule >= 0) {
+				reopen(out);
+			}
+			state = 0;
+		}
+
+		/**
+		 * Gives up the open section: its text after the open marker, which was written already, is fed again. A
+		 * section opened in it is shorter, so this ends.
+		 */
+		private void reopen(Appendable out) throws IOException {
+			String text = pending.toString();
+			pending.setLength(0);
+			rule = -1;
+			state = 0;
+			feed(text, 0, text.length(), out);
+		}
+	}
+}
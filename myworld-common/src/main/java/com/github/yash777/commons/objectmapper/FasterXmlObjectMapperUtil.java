@@ -1,7 +1,12 @@
 package com.github.yash777.commons.objectmapper;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.yash777.commons.lang.DeepCloner;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,28 +16,19 @@ import lombok.NoArgsConstructor;
 //https://stackoverflow.com/questions/64036/how-do-you-make-a-deep-copy-of-an-object
 public class FasterXmlObjectMapperUtil {
     //https://fasterxml.github.io/jackson-databind/javadoc/2.7/com/fasterxml/jackson/databind/ObjectMapper.html
-    private static final ObjectMapper objectMapper; // = new ObjectMapper();
-    static {
-    	objectMapper = getObjectMapper();
-    }
+    private static final ObjectMapper objectMapper = JsonMappers.mapper(Profile.LENIENT);
+    private static final ObjectWriter writer = JsonMappers.writer(Profile.LENIENT);
+
+    // Own copy of the shared LENIENT mapper (comments not allowed in payloads), the caller may configure it
     public static ObjectMapper getObjectMapper() {
-		ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-		objectMapper.configure(com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-		objectMapper.configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
-		objectMapper.setSerializationInclusion(com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL);
-		objectMapper.setDefaultPrettyPrinter(new com.fasterxml.jackson.core.util.DefaultPrettyPrinter());
-		
-		// Configure to skip comments in payloads
-		objectMapper.configure(com.fasterxml.jackson.core.JsonParser.Feature.ALLOW_COMMENTS, false);
-
-		return objectMapper;
+		return JsonMappers.mapper(Profile.LENIENT).copy();
 	}
     
     // Write Functions
 
     // Convert Object to JSON String
     public static String objectToJsonString(Object obj) throws Exception {
-        return objectMapper.writeValueAsString(obj);
+        return writer.writeValueAsString(obj);
     }
 
     // Convert Object to JSONNode
@@ -40,17 +36,28 @@ public class FasterXmlObjectMapperUtil {
         return objectMapper.valueToTree(obj);
     }
 
-    // Deep clone an object using serialization/deserialization
+    // Deep clone an object: field by field (DeepCloner) when it already is a T, else converted to T through a
+    // TokenBuffer (Jackson tokens, no JSON text)
     public static <T> T deepClone(Object obj, Class<T> type) throws Exception {
-        String jsonString = objectMapper.writeValueAsString(obj);
-        return objectMapper.readValue(jsonString, type);
+        if (type.isInstance(obj)) {
+            try {
+                return type.cast(DeepCloner.deepClone(obj));
+            } catch (IllegalArgumentException e) {
+                // no no-arg constructor, a JDK type that may be mutable or a cycle through a record: let Jackson handle it
+            }
+        }
+        TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+        writer.writeValue(buffer, obj);
+        try (JsonParser parser = buffer.asParser()) {
+            return JsonMappers.reader(Profile.LENIENT, type).readValue(parser);
+        }
     }
 
     // Read Functions
 
     // Convert JSON String to Object of specified type
     public static <T> T jsonStringToObject(String jsonString, Class<T> type) throws Exception {
-        return objectMapper.readValue(jsonString, type);
+        return JsonMappers.reader(Profile.LENIENT, type).readValue(jsonString);
     }
 
     public static void main(String[] args) {
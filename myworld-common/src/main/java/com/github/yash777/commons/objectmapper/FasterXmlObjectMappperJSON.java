@@ -3,6 +3,7 @@ package com.github.yash777.commons.objectmapper;
 import java.io.File;
 import java.io.IOException;
 import java.util.Date;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -11,6 +12,7 @@ import com.fasterxml.jackson.core.exc.StreamWriteException;
 import com.fasterxml.jackson.databind.DatabindException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,16 +21,13 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 public class FasterXmlObjectMappperJSON {
+	// Own copy of the shared LENIENT mapper, the caller may configure it
 	public ObjectMapper getObjectMapper() {
-		ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-		objectMapper.configure(com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-		objectMapper.configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
-		objectMapper.setSerializationInclusion(com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL);
-		//objectMapper.writer(new DefaultPrettyPrinter());
-		return objectMapper;
+		return JsonMappers.mapper(Profile.LENIENT).copy();
 	}
 	
 	static String payLoadJsonFile = "D:/emp.json";
+	private static final JsonPointerExtractor NAME_AND_DOB = JsonPointerExtractor.of("/name", "/dob");
 	public static void main(String[] args) throws StreamReadException, DatabindException, IOException {
 		FasterXmlObjectMappperJSON obj = new FasterXmlObjectMappperJSON();
 		obj.test();
@@ -48,14 +47,11 @@ public class FasterXmlObjectMappperJSON {
 		
 		Object jsonObj = e;
 		
-		ObjectMapper objectMapper = getObjectMapper();
 		// ✅ WRITE_DATES_AS_TIMESTAMPS should be false for readable date output
-		objectMapper.configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-		
-		String writeValueAsString = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonObj);
+		String writeValueAsString = JsonMappers.prettyWriter(Profile.LENIENT_ISO_DATES).writeValueAsString(jsonObj);
 		System.out.println("writeValueAsString:"+writeValueAsString);
 		
-		Object readValue = objectMapper.readValue(writeValueAsString, Employee.class);
+		Object readValue = JsonMappers.reader(Profile.LENIENT, Employee.class).readValue(writeValueAsString);
 		System.out.println("readValue:"+readValue);
 		
 		this.writeObj(e);
@@ -69,19 +65,17 @@ public class FasterXmlObjectMappperJSON {
 	}
 	public Boolean writeObj(Employee result) throws StreamWriteException, DatabindException, IOException {
 		File file = getFile(payLoadJsonFile);
-		ObjectMapper objectMapper = getObjectMapper();
-		objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, result); // write : "dob" : 1752495563341
+		JsonMappers.prettyWriter(Profile.LENIENT).writeValue(file, result); // write : "dob" : 1752495563341
 		try {
-			String nodeName = "name", nodeDOB = "dob";// Employee.name, Employee.dob
-			JsonNode readTree = objectMapper.readTree(file);
-			if (readTree.get(nodeName) != null) { 
-				System.out.println("Specific Node:"+readTree.get(nodeName).toString());
+			String nodeName = "/name", nodeDOB = "/dob";// Employee.name, Employee.dob
+			// streams the file up to the two fields, the rest is neither read into a tree nor parsed
+			Map<String, JsonNode> nodes = NAME_AND_DOB.extract(file);
+			if (nodes.get(nodeName) != null) { 
+				System.out.println("Specific Node:"+nodes.get(nodeName).toString());
 			}
-			if (readTree.get(nodeDOB) != null) { 
-				System.out.println("Specific Node:"+readTree.get(nodeDOB).toString()); // json : dob=Mon Jul 14 17:49:23 IST 2025
+			if (nodes.get(nodeDOB) != null) { 
+				System.out.println("Specific Node:"+nodes.get(nodeDOB).toString()); // json : dob=Mon Jul 14 17:49:23 IST 2025
 			}
-			System.out.println("Full Tree:\n"+readTree);
-			System.out.println("Full Tree PrettyString:\n"+readTree.toPrettyString());
 			return Boolean.TRUE;
 		} catch (JsonProcessingException e) {
 			return Boolean.FALSE;
@@ -89,12 +83,7 @@ public class FasterXmlObjectMappperJSON {
 	}
 	public Employee readJson() throws StreamReadException, DatabindException, IOException {
 		File file = getFile(payLoadJsonFile);
-		ObjectMapper objectMapper = getObjectMapper();
-		
-		// ✅ WRITE_DATES_AS_TIMESTAMPS should be false for readable date output
-		objectMapper.configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-		
-		return objectMapper.readValue(file, new com.fasterxml.jackson.core.type.TypeReference<Employee>(){});
+		return JsonMappers.reader(Profile.LENIENT, Employee.class).readValue(file);
 	}
 	
 }
@@ -0,0 +1,135 @@
+package com.github.yash777.commons.objectmapper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * One shared Jackson {@link ObjectMapper} per configuration {@link Profile}, and the {@link ObjectReader}s and
+ * {@link ObjectWriter}s built from it.
+ *
+ * <p>A mapper keeps the serializers and deserializers it has built for each type; a mapper created per call (or per
+ * object) builds them again every time, which is most of the cost of a small {@code writeValueAsString}. Readers and
+ * writers are immutable and thread safe, and the ones for a type are created once and resolve their root
+ * (de)serializer up front; {@link #warmUp(Profile, Class...)} does that at startup, before the first request.</p>
+ *
+ * <p>The mappers are shared: use readers and writers, and do not change the configuration of {@link #mapper(Profile)}.
+ * Code that needs its own configuration starts from {@code mapper(profile).copy()}.</p>
+ *
+ * <pre>{@code
+ * String json = JsonMappers.writer(Profile.LENIENT).writeValueAsString(dto);
+ * PayLoadDTO dto = JsonMappers.reader(Profile.LENIENT, PayLoadDTO.class).readValue(json);
+ * String pretty = JsonMappers.prettyWriter(Profile.DEFAULT).writeValueAsString(report);
+ * }</pre>
+ */
+public final class JsonMappers {
+
+	public enum Profile {
+		/** Jackson defaults, as {@code new ObjectMapper()}. */
+		DEFAULT,
+		/** Unknown properties are ignored when reading, {@code null} values are left out when writing. */
+		LENIENT,
+		/** {@link #LENIENT}, with dates written as ISO-8601 strings instead of epoch millis. */
+		LENIENT_ISO_DATES
+	}
+
+	private static final Map<Profile, Registry> REGISTRIES = new EnumMap<>(Profile.class);
+	static {
+		for (Profile profile : Profile.values()) {
+			REGISTRIES.put(profile, new Registry(newMapper(profile)));
+		}
+	}
+
+	private JsonMappers() {
+	}
+
+	/**
+	 * The shared mapper of the profile, e.g. for {@code readTree} or {@code valueToTree}. Do not reconfigure it.
+	 */
+	public static ObjectMapper mapper(Profile profile) {
+		return REGISTRIES.get(profile).mapper;
+	}
+
+	/** Reader of the profile without a value type, e.g. for {@code readTree}. */
+	public static ObjectReader reader(Profile profile) {
+		return REGISTRIES.get(profile).reader;
+	}
+
+	/** Reader of the profile for {@code type}, created once per type. */
+	public static ObjectReader reader(Profile profile, Class<?> type) {
+		Registry registry = REGISTRIES.get(profile);
+		return registry.readers.computeIfAbsent(registry.mapper.constructType(type), registry.mapper::readerFor);
+	}
+
+	/** Reader of the profile for a generic type, e.g. {@code List<PayLoadDTO>}, created once per type. */
+	public static ObjectReader reader(Profile profile, JavaType type) {
+		Registry registry = REGISTRIES.get(profile);
+		return registry.readers.computeIfAbsent(type, registry.mapper::readerFor);
+	}
+
+	/** Compact writer of the profile. */
+	public static ObjectWriter writer(Profile profile) {
+		return REGISTRIES.get(profile).writer;
+	}
+
+	/**
+	 * Writer of the profile for values of {@code type}, created once per type. It writes the properties of
+	 * {@code type}, so use {@link #writer(Profile)} for values that may be subclasses.
+	 */
+	public static ObjectWriter writer(Profile profile, Class<?> type) {
+		Registry registry = REGISTRIES.get(profile);
+		return registry.writers.computeIfAbsent(type, registry.mapper::writerFor);
+	}
+
+	/** Indenting writer of the profile (default pretty printer). */
+	public static ObjectWriter prettyWriter(Profile profile) {
+		return REGISTRIES.get(profile).prettyWriter;
+	}
+
+	/**
+	 * Builds the readers and writers of the types now, so that the first request does not pay for the introspection.
+	 */
+	public static void warmUp(Profile profile, Class<?>... types) {
+		for (Class<?> type : types) {
+			reader(profile, type);
+			writer(profile, type);
+		}
+	}
+
+	private static ObjectMapper newMapper(Profile profile) {
+		ObjectMapper mapper = new ObjectMapper();
+		if (profile != Profile.DEFAULT) {
+			mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+			mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		}
+		if (profile == Profile.LENIENT_ISO_DATES) {
+			mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+		}
+		return mapper;
+	}
+
+	private static final class Registry {
+		final ObjectMapper mapper;
+		final ObjectReader reader;
+		final ObjectWriter writer;
+		final ObjectWriter prettyWriter;
+		final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+		final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+		Registry(ObjectMapper mapper) {
+			this.mapper = mapper;
+			this.reader = mapper.reader();
+			this.writer = mapper.writer();
+			this.prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package com.github.yash777.commons.objectmapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
+
+/**
+ * Reads the values at a set of JSON pointers (RFC 6901, e.g. {@code /dd/d1} or {@code /items/0/name}) from a JSON
+ * document, without building the tree of the whole document.
+ *
+ * <p>The document is scanned with Jackson's token parser, walking a trie of the pointers: only the values at the
+ * pointers are read into {@link JsonNode}s, members and array elements off every path are skipped token by token,
+ * and the scan stops as soon as every pointer has been found. Checking two top-level fields of a large file reads
+ * the file only up to them.</p>
+ *
+ * <p>Pointers that are not in the document are left out of the result. When a name occurs twice in an object, the
+ * first value counts. An extractor is immutable and thread safe, create it once per set of pointers.</p>
+ *
+ * <pre>{@code
+ * JsonPointerExtractor extractor = JsonPointerExtractor.of("/name", "/dob");
+ * Map<String, JsonNode> values = extractor.extract(file);
+ * JsonNode name = values.get("/name"); // null if the document has no "name"
+ * }</pre>
+ */
+public final class JsonPointerExtractor {
+
+	private final Node root = new Node();
+	private final int pointerCount;
+
+	private JsonPointerExtractor(Collection<String> pointers) {
+		int count = 0;
+		for (String expression : pointers) {
+			Node node = root;
+			for (JsonPointer pointer = JsonPointer.compile(expression); !pointer.matches(); pointer = pointer.tail()) {
+				Node parent = node;
+				node = node.children.computeIfAbsent(pointer.getMatchingProperty(), name -> new Node());
+				node.index = pointer.getMatchingIndex();
+				parent.indexes |= node.index >= 0;
+			}
+			if (node.pointer == null) {
+				node.pointer = expression;
+				count++;
+			}
+		}
+		pointerCount = count;
+	}
+
+	/**
+	 * @throws IllegalArgumentException if an expression is not a valid JSON pointer
+	 */
+	public static JsonPointerExtractor of(String... pointers) {
+		return of(Arrays.asList(pointers));
+	}
+
+	/**
+	 * @throws IllegalArgumentException if an expression is not a valid JSON pointer
+	 */
+	public static JsonPointerExtractor of(Collection<String> pointers) {
+		return new JsonPointerExtractor(pointers);
+	}
+
+	/**
+	 * The values found in the file, by pointer (in the order they were found).
+	 *
+	 * @throws com.fasterxml.jackson.core.JsonProcessingException if the JSON is malformed before the last pointer
+	 *                                                            was found
+	 */
+	public Map<String, JsonNode> extract(File file) throws IOException {
+		ObjectMapper mapper = JsonMappers.mapper(Profile.DEFAULT);
+		try (JsonParser parser = mapper.createParser(file)) {
+			return extract(mapper, parser);
+		}
+	}
+
+	/**
+	 * The values found in the stream, which is not closed, by pointer (in the order they were found).
+	 *
+	 * @throws com.fasterxml.jackson.core.JsonProcessingException if the JSON is malformed before the last pointer
+	 *                                                            was found
+	 */
+	public Map<String, JsonNode> extract(InputStream in) throws IOException {
+		ObjectMapper mapper = JsonMappers.mapper(Profile.DEFAULT);
+		try (JsonParser parser = mapper.createParser(in)) {
+			parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			return extract(mapper, parser);
+		}
+	}
+
+	/** The values found in the JSON text, by pointer (in the order they were found). */
+	public Map<String, JsonNode> extract(String json) throws IOException {
+		ObjectMapper mapper = JsonMappers.mapper(Profile.DEFAULT);
+		try (JsonParser parser = mapper.createParser(json)) {
+			return extract(mapper, parser);
+		}
+	}
+
+	private Map<String, JsonNode> extract(ObjectMapper mapper, JsonParser parser) throws IOException {
+		Scan scan = new Scan(mapper, parser);
+		if (pointerCount > 0 && parser.nextToken() != null) {
+			scan.value(root);
+		}
+		return scan.found;
+	}
+
+	/** A step of one or more pointers: an object member name or an array index. */
+	private static final class Node {
+		final Map<String, Node> children = new HashMap<>();
+		/** The pointer that ends here, {@code null} if this is only a step towards longer ones. */
+		String pointer;
+		/** The step as an array index, {@code -1} if it is not a number (then it only matches a member name). */
+		int index = -1;
+		/** Whether a child step is an array index, so arrays without one can be skipped whole. */
+		boolean indexes;
+	}
+
+	/** State of one extraction; the parser is always at the first token of the value matched against a node. */
+	private final class Scan {
+		final ObjectMapper mapper;
+		final JsonParser parser;
+		final Map<String, JsonNode> found = new LinkedHashMap<>();
+
+		Scan(ObjectMapper mapper, JsonParser parser) {
+			this.mapper = mapper;
+			this.parser = parser;
+		}
+
+		/** Matches the current value against {@code node}; returns {@code true} once every pointer was found. */
+		boolean value(Node node) throws IOException {
+			if (node.pointer != null) {
+				JsonNode value = mapper.readTree(parser); // the only place a tree is built
+				return add(node, value) || subtree(node, value);
+			}
+			JsonToken token = parser.currentToken();
+			if (token == JsonToken.START_OBJECT) {
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					Node child = node.children.get(parser.getCurrentName());
+					parser.nextToken();
+					if (child == null) {
+						parser.skipChildren();
+					} else if (value(child)) {
+						return true;
+					}
+				}
+			} else if (token == JsonToken.START_ARRAY) {
+				if (!node.indexes) {
+					parser.skipChildren();
+					return false;
+				}
+				for (int index = 0; parser.nextToken() != JsonToken.END_ARRAY; index++) {
+					Node child = node.children.get(Integer.toString(index));
+					if (child == null) {
+						parser.skipChildren();
+					} else if (value(child)) {
+						return true;
+					}
+				}
+			}
+			return false; // a scalar: longer pointers do not match
+		}
+
+		/** Pointers below one that was read whole are looked up in its tree. */
+		private boolean subtree(Node node, JsonNode tree) {
+			for (Map.Entry<String, Node> step : node.children.entrySet()) {
+				JsonNode child = tree.isObject() ? tree.get(step.getKey())
+						: tree.isArray() && step.getValue().index >= 0 ? tree.get(step.getValue().index) : null;
+				if (child != null && (add(step.getValue(), child) || subtree(step.getValue(), child))) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private boolean add(Node node, JsonNode value) {
+			return node.pointer != null && found.putIfAbsent(node.pointer, value) == null && found.size() == pointerCount;
+		}
+	}
+}
@@ -1,35 +1,138 @@
 package com.github.yash777.commons.objectmapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+/**
+ * Validates JSON and returns it compacted to a single line.
+ *
+ * <p>Validation is a pass of Jackson's token parser, and compaction copies every token straight to a compact
+ * generator: no {@code JsonNode} tree is built, so the stream methods need a few KB of buffers whatever the size of
+ * the document. Members and numbers are copied as they are (duplicate names are kept, {@code 1.50} stays
+ * {@code 1.50}). A document is a single root value: anything but whitespace after it is an error.</p>
+ *
+ * <pre>{@code
+ * String compact = new JsonValidator().validateAndCompactJson(json);
+ *
+ * try (InputStream in = Files.newInputStream(big); OutputStream out = Files.newOutputStream(small)) {
+ *     JsonValidator.compact(in, out);
+ * } catch (JsonProcessingException e) {
+ *     System.out.println(JsonValidator.errorMessage(e));
+ * }
+ * }</pre>
+ */
 public class JsonValidator {
 
-    // Create and configure ObjectMapper
+    /** Thread safe once configured; parsers and generators are created from it per call. */
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    // Own copy of the shared LENIENT_ISO_DATES mapper, the caller may configure it
     public ObjectMapper getObjectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.configure(com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        objectMapper.configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        objectMapper.setSerializationInclusion(com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL);
-        return objectMapper;
+        return JsonMappers.mapper(JsonMappers.Profile.LENIENT_ISO_DATES).copy();
     }
 
     // Validate and return compact JSON or error
     public String validateAndCompactJson(String jsonInput) {
-        ObjectMapper objectMapper = getObjectMapper();
-
-        try {
-            // Parse JSON
-            JsonNode jsonNode = objectMapper.readTree(jsonInput);
-
-            // Return compact JSON
-            return objectMapper.writeValueAsString(jsonNode);
+        StringWriter compact = new StringWriter(jsonInput.length());
+        try (JsonParser parser = FACTORY.createParser(jsonInput)) {
+            copy(parser, FACTORY.createGenerator(compact));
+            return compact.toString();
         } catch (JsonProcessingException e) {
             // Return user-friendly error message
-            return "❌ Invalid JSON at line " + e.getLocation().getLineNr()
-                   + ", column " + e.getLocation().getColumnNr()
-                   + ": " + e.getOriginalMessage();
+            return errorMessage(e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Reading a String failed", e); // not expected
+        }
+    }
+
+    /**
+     * Checks that the stream is well-formed JSON (UTF-8/16/32, detected). String values are skipped, not decoded.
+     *
+     * @return the number of tokens read
+     * @throws JsonProcessingException if the JSON is malformed, see {@link #errorMessage(JsonProcessingException)}
+     */
+    public static long validate(InputStream in) throws IOException {
+        long tokens = 0;
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            while (parser.nextToken() != null) {
+                tokens++;
+                if (parser.getParsingContext().inRoot()) {
+                    requireEnd(parser);
+                    break;
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Copies the JSON from {@code in} to {@code out} as compact UTF-8, checking it on the way. Neither stream is
+     * closed. If the JSON is malformed, the tokens before the error may already have been written to {@code out}
+     * and the output is left unfinished.
+     *
+     * @return the number of tokens copied
+     * @throws JsonProcessingException if the JSON is malformed, see {@link #errorMessage(JsonProcessingException)}
+     */
+    public static long compact(InputStream in, OutputStream out) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return copy(parser, FACTORY.createGenerator(out, JsonEncoding.UTF8));
+        }
+    }
+
+    /**
+     * The error text of the validator: {@code ❌ Invalid JSON at line L, column C: reason}.
+     */
+    public static String errorMessage(JsonProcessingException e) {
+        JsonLocation location = e.getLocation();
+        if (location == null) {
+            return "❌ Invalid JSON: " + e.getOriginalMessage();
+        }
+        return "❌ Invalid JSON at line " + location.getLineNr()
+               + ", column " + location.getColumnNr()
+               + ": " + e.getOriginalMessage();
+    }
+
+    private static long copy(JsonParser parser, JsonGenerator generator) throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long tokens = 0;
+        for (JsonToken token; (token = parser.nextToken()) != null; ) {
+            tokens++;
+            if (token.isNumeric()) {
+                // as written: no double rounding, no "Infinity" for 1e400
+                generator.writeNumber(parser.getText());
+            } else {
+                generator.copyCurrentEvent(parser);
+            }
+            if (parser.getParsingContext().inRoot()) {
+                requireEnd(parser);
+                break;
+            }
+        }
+        // only closed (and flushed) on success, so that close() does not balance an unfinished document
+        generator.close();
+        return tokens;
+    }
+
+    /**
+     * Called when the root value is complete: only whitespace may follow, not a second value ({@code {} {}}).
+     */
+    private static void requireEnd(JsonParser parser) throws IOException {
+        JsonToken trailing = parser.nextToken();
+        if (trailing != null) {
+            throw new JsonParseException(parser, "Unexpected " + trailing + " after the root value");
         }
     }
 
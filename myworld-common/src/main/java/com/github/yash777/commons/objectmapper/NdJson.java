@@ -0,0 +1,241 @@
+package com.github.yash777.commons.objectmapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
+
+/**
+ * Newline-delimited JSON (NDJSON, {@code application/x-ndjson}): one JSON record per line, read and written record by
+ * record, so a batch of any size never has to be in memory as a whole, as it has with a JSON array and
+ * {@link FasterXmlObjectMapperUtil#jsonStringToObject(String, Class)}.
+ *
+ * <p>Records are bound and written with the shared {@link Profile#LENIENT} reader and writer of {@link JsonMappers}:
+ * unknown properties are ignored, {@code null} values left out. Blank lines are skipped.</p>
+ *
+ * <pre>{@code
+ * // export
+ * try (OutputStream out = Files.newOutputStream(file)) {
+ *     NdJson.write(out, orders);
+ * }
+ * // import: lines bound on the common pool, 500 per task, records passed to save(...) in file order
+ * try (InputStream in = Files.newInputStream(file)) {
+ *     NdJson.readParallel(in, Order.class, 500, true, repository::save);
+ * }
+ * }</pre>
+ */
+public final class NdJson {
+
+	public static final String MEDIA_TYPE = "application/x-ndjson";
+
+	/** Flushes when a {@link LineWriter} asks for it, not after every record. */
+	private static final ObjectWriter WRITER = JsonMappers.writer(Profile.LENIENT).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+	private NdJson() {
+	}
+
+	/**
+	 * Binds the records of {@code in} one by one, on the calling thread, and passes them to {@code action}. The stream
+	 * is not closed.
+	 *
+	 * @return the number of records
+	 * @throws IOException if a line is not a valid record (the message names the line), or reading fails
+	 */
+	public static <T> long read(InputStream in, Class<T> type, Consumer<? super T> action) throws IOException {
+		ObjectReader reader = JsonMappers.reader(Profile.LENIENT, type);
+		BufferedReader lines = lines(in);
+		long count = 0;
+		long lineNumber = 0;
+		for (String line; (line = lines.readLine()) != null;) {
+			lineNumber++;
+			if (!line.isBlank()) {
+				action.accept(bind(reader, line, lineNumber));
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Reads the lines of {@code in} on the calling thread and binds them on the common {@link ForkJoinPool}, in
+	 * batches of {@code batchSize} lines. At most two batches per pool thread are in memory at a time. The stream is
+	 * not closed.
+	 *
+	 * @param ordered {@code true}: {@code action} is called on the calling thread, in the order of the lines.
+	 *                {@code false}: it is called on the pool threads as their batch is bound, in no particular order
+	 *                and concurrently, so it must be thread safe
+	 * @return the number of records
+	 * @throws IOException if a line is not a valid record (the message names the line; records of other batches may
+	 *                     already have been passed to {@code action}), or reading fails
+	 */
+	public static <T> long readParallel(InputStream in, Class<T> type, int batchSize, boolean ordered,
+			Consumer<? super T> action) throws IOException {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+		}
+		ObjectReader reader = JsonMappers.reader(Profile.LENIENT, type);
+		int maxInFlight = Math.max(2, 2 * ForkJoinPool.getCommonPoolParallelism());
+		Deque<CompletableFuture<List<T>>> inFlight = new ArrayDeque<>();
+		BufferedReader lines = lines(in);
+		long count = 0;
+		long lineNumber = 0;
+		try {
+			List<String> batch = new ArrayList<>(batchSize);
+			for (String line; (line = lines.readLine()) != null;) {
+				lineNumber++;
+				batch.add(line);
+				if (batch.size() == batchSize) {
+					inFlight.add(bindAsync(reader, batch, lineNumber - batch.size() + 1, ordered ? null : action));
+					batch = new ArrayList<>(batchSize);
+					while (inFlight.size() >= maxInFlight) {
+						count += complete(inFlight.poll(), ordered ? action : null);
+					}
+				}
+			}
+			if (!batch.isEmpty()) {
+				inFlight.add(bindAsync(reader, batch, lineNumber - batch.size() + 1, ordered ? null : action));
+			}
+			while (!inFlight.isEmpty()) {
+				count += complete(inFlight.poll(), ordered ? action : null);
+			}
+			return count;
+		} finally {
+			inFlight.forEach(future -> future.cancel(false)); // after a failure: batches not started yet
+		}
+	}
+
+	/**
+	 * Writes {@code records} to {@code out}, one line each, and flushes. The stream is not closed.
+	 *
+	 * @return the number of records
+	 */
+	public static long write(OutputStream out, Iterable<?> records) throws IOException {
+		try (LineWriter writer = writer(out, Integer.MAX_VALUE)) {
+			for (Object record : records) {
+				writer.write(record);
+			}
+			return writer.count();
+		}
+	}
+
+	/**
+	 * A writer of records to {@code out} that flushes every {@code flushEvery} records (and on {@link LineWriter#flush()}
+	 * and {@link LineWriter#close()}), e.g. to stream a response as the records are produced.
+	 */
+	public static LineWriter writer(OutputStream out, int flushEvery) throws IOException {
+		if (flushEvery < 1) {
+			throw new IllegalArgumentException("flushEvery must be positive: " + flushEvery);
+		}
+		return new LineWriter(out, flushEvery);
+	}
+
+	/** Writes records as lines; closing it flushes, but does not close the stream. Not thread safe. */
+	public static final class LineWriter implements Closeable, Flushable {
+		private final JsonGenerator generator;
+		private final int flushEvery;
+		private long count;
+
+		private LineWriter(OutputStream out, int flushEvery) throws IOException {
+			this.generator = WRITER.createGenerator(out, JsonEncoding.UTF8);
+			this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			this.generator.setRootValueSeparator(null); // the newline ends each record instead
+			this.flushEvery = flushEvery;
+		}
+
+		public void write(Object record) throws IOException {
+			WRITER.writeValue(generator, record);
+			generator.writeRaw('\n');
+			if (++count % flushEvery == 0) {
+				generator.flush();
+			}
+		}
+
+		/** The number of records written. */
+		public long count() {
+			return count;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			generator.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			generator.close();
+		}
+	}
+
+	private static BufferedReader lines(InputStream in) {
+		return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
+	private static <T> T bind(ObjectReader reader, String line, long lineNumber) throws IOException {
+		try {
+			return reader.readValue(line);
+		} catch (JsonProcessingException e) {
+			throw new IOException("Invalid NDJSON record at line " + lineNumber + ": " + e.getOriginalMessage(), e);
+		}
+	}
+
+	private static <T> CompletableFuture<List<T>> bindAsync(ObjectReader reader, List<String> lines, long firstLine,
+			Consumer<? super T> action) {
+		return CompletableFuture.supplyAsync(() -> {
+			List<T> records = new ArrayList<>(lines.size());
+			for (int i = 0; i < lines.size(); i++) {
+				String line = lines.get(i);
+				if (line.isBlank()) {
+					continue;
+				}
+				try {
+					T record = bind(reader, line, firstLine + i);
+					if (action != null) {
+						action.accept(record);
+					}
+					records.add(record);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			return records;
+		}, ForkJoinPool.commonPool());
+	}
+
+	/** Waits for a batch; passes its records to {@code action} if the batch did not. */
+	private static <T> int complete(CompletableFuture<List<T>> batch, Consumer<? super T> action) throws IOException {
+		List<T> records;
+		try {
+			records = batch.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			}
+			throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+		}
+		if (action != null) {
+			records.forEach(action);
+		}
+		return records.size();
+	}
+}
@@ -0,0 +1,177 @@
+package com.github.yash777.postman;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Bloom filter of banned (breached, common) passwords, built offline from a password list and memory-mapped from
+ * disk, so that a list of millions of passwords costs about {@code 1.44 * log2(1 / falsePositiveRate)} bits per
+ * password of page cache instead of hundreds of MB of Strings on the heap.
+ *
+ * <p>Passwords are compared case-insensitively, like {@link PasswordPolicyValidator#isPasswordBanned(String)}. A
+ * lookup hashes the characters twice (no allocation) and probes {@code k} bits of the mapped file; a "no" is always
+ * right, a "yes" is wrong with about the configured false-positive rate.</p>
+ *
+ * <pre>
+ * File: magic "BPF1" | hash count k (int) | bit count m (long) | m / 8 bytes of bits
+ * </pre>
+ *
+ * <pre>{@code
+ * BannedPasswordFilter.build(Paths.get("breached.txt"), Paths.get("banned.bloom"), 0.001);
+ * BannedPasswordFilter filter = BannedPasswordFilter.open(Paths.get("banned.bloom"));
+ * boolean banned = filter.mightContain("P@ssw0rd");
+ * }</pre>
+ */
+public final class BannedPasswordFilter {
+	private static final int MAGIC = 0x42504631; // "BPF1"
+	private static final int HEADER_LENGTH = 4 + 4 + 8;
+	private static final long MAX_BITS = (long) (Integer.MAX_VALUE - HEADER_LENGTH) * 8;
+	private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+	private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+	private final ByteBuffer bits;
+	private final int hashes;
+	private final long bitCount;
+
+	private BannedPasswordFilter(ByteBuffer bits, int hashes, long bitCount) {
+		this.bits = bits;
+		this.hashes = hashes;
+		this.bitCount = bitCount;
+	}
+
+	/**
+	 * Maps a filter written by {@link #build(Path, Path, double)}. The pages are read by the OS on first access.
+	 *
+	 * @throws IOException if the file cannot be read or is not a filter file
+	 */
+	public static BannedPasswordFilter open(Path filterFile) throws IOException {
+		try (FileChannel channel = FileChannel.open(filterFile, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_LENGTH || size > Integer.MAX_VALUE) {
+				throw new IOException("Not a banned password filter: " + filterFile);
+			}
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			int hashes = mapped.getInt(4);
+			long bitCount = mapped.getLong(8);
+			if (mapped.getInt(0) != MAGIC || hashes < 1 || bitCount < 1 || HEADER_LENGTH + (bitCount + 7) / 8 != size) {
+				throw new IOException("Not a banned password filter: " + filterFile);
+			}
+			// the mapping stays valid after the channel is closed
+			return new BannedPasswordFilter(mapped.position(HEADER_LENGTH).slice(), hashes, bitCount);
+		}
+	}
+
+	/**
+	 * Builds a filter file from a password list with one password per line (UTF-8, blank lines skipped).
+	 *
+	 * @param passwordList      the list, read twice: once to count, once to insert
+	 * @param filterFile        the file to write
+	 * @param falsePositiveRate wanted false-positive rate, e.g. {@code 0.001}
+	 * @return the number of passwords added
+	 */
+	public static long build(Path passwordList, Path filterFile, double falsePositiveRate) throws IOException {
+		if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+			throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+		}
+		long count = 0;
+		try (BufferedReader reader = Files.newBufferedReader(passwordList, StandardCharsets.UTF_8)) {
+			for (String line; (line = reader.readLine()) != null;) {
+				if (!line.isBlank()) {
+					count++;
+				}
+			}
+		}
+		long bitCount = Math.max(64, (long) Math.ceil(-Math.max(1, count) * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+		if (bitCount > MAX_BITS) {
+			throw new IllegalArgumentException(count + " passwords at rate " + falsePositiveRate + " need more than 2 GB");
+		}
+		int hashes = (int) Math.max(1, Math.round((double) bitCount / Math.max(1, count) * Math.log(2)));
+
+		ByteBuffer file = ByteBuffer.allocate(HEADER_LENGTH + (int) ((bitCount + 7) / 8));
+		file.putInt(MAGIC).putInt(hashes).putLong(bitCount);
+		BannedPasswordFilter filter = new BannedPasswordFilter(file.slice(), hashes, bitCount);
+		try (BufferedReader reader = Files.newBufferedReader(passwordList, StandardCharsets.UTF_8)) {
+			for (String line; (line = reader.readLine()) != null;) {
+				if (!line.isBlank()) {
+					filter.add(line);
+				}
+			}
+		}
+		file.rewind();
+		try (FileChannel channel = FileChannel.open(filterFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (file.hasRemaining()) {
+				channel.write(file);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns false if the password is certainly not in the list, true if it is (or, rarely, a false positive).
+	 */
+	public boolean mightContain(CharSequence password) {
+		long h1 = hash(password, SEED_1);
+		long h2 = hash(password, SEED_2) | 1; // odd, so the k probes differ
+		for (int i = 0; i < hashes; i++) {
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+			if ((bits.get((int) (bit >>> 3)) & (1 << (bit & 7))) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** Number of hash functions (probes per lookup). */
+	public int hashCount() {
+		return hashes;
+	}
+
+	/** Size of the bit array. */
+	public long bitCount() {
+		return bitCount;
+	}
+
+	private void add(CharSequence password) {
+		long h1 = hash(password, SEED_1);
+		long h2 = hash(password, SEED_2) | 1;
+		for (int i = 0; i < hashes; i++) {
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+			int index = (int) (bit >>> 3);
+			bits.put(index, (byte) (bits.get(index) | (1 << (bit & 7))));
+		}
+	}
+
+	/** 64-bit hash of the lower case characters, murmur3 finalizer after every char. */
+	private static long hash(CharSequence password, long seed) {
+		long h = seed ^ password.length();
+		for (int i = 0, n = password.length(); i < n; i++) {
+			h = (h ^ Character.toLowerCase(password.charAt(i))) * 0xFF51AFD7ED558CCDL;
+			h ^= h >>> 33;
+		}
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		return h ^ (h >>> 33);
+	}
+
+	/**
+	 * Builds a filter file: {@code BannedPasswordFilter <password list> <filter file> [false-positive rate]}.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: BannedPasswordFilter <password list> <filter file> [false-positive rate, default 0.001]");
+			return;
+		}
+		double rate = args.length > 2 ? Double.parseDouble(args[2]) : 0.001;
+		long count = build(Paths.get(args[0]), Paths.get(args[1]), rate);
+		System.out.println("Added " + count + " passwords to " + args[1]);
+	}
+}
@@ -1,115 +1,181 @@
 package com.github.yash777.postman;
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
 
-
+/**
+ * Random passwords from the upper case, lower case, digit and special character groups, or from a custom set.
+ *
+ * <p>A password is built in a {@code char[]}: one character of every selected group, the rest from the whole pool,
+ * then an in-place Fisher-Yates shuffle. The random indexes of a password come from a single
+ * {@link SecureRandom#nextBytes(byte[])} call on a per-thread generator, so threads do not queue on one shared
+ * {@code SecureRandom}.</p>
+ *
+ * <pre>{@code
+ * String password = PasswordGenerator.generatePassword(16, true, true, true, true, null);
+ * List<String> batch = PasswordGenerator.generatePasswords(500, 16, true, true, true, true, null);
+ * }</pre>
+ */
 public class PasswordGenerator { // Java Decompiler Online: https://jdec.app/
-   private static final String UPPERCASE = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-   private static final String LOWERCASE = "abcdefghijklmnopqrstuvwxyz";
-   private static final String DIGITS = "0123456789";
-   private static final String SPECIAL_CHARS = "!@#$%^&*()-_+=";
-   private static final SecureRandom random = new SecureRandom();
-
-   private static String createPassword(int charLength) {
-      StringBuilder var1 = new StringBuilder();
-      var1.append(UPPERCASE.charAt(random.nextInt(UPPERCASE.length())));
-      var1.append(LOWERCASE.charAt(random.nextInt(LOWERCASE.length())));
-      var1.append(DIGITS.charAt(random.nextInt(DIGITS.length())));
-      var1.append(SPECIAL_CHARS.charAt(random.nextInt(SPECIAL_CHARS.length())));
-      String characterPool = UPPERCASE + LOWERCASE + DIGITS + SPECIAL_CHARS;
-
-      for(int var3 = 4; var3 < charLength; ++var3) {
-         var1.append(characterPool.charAt(random.nextInt(characterPool.length())));
-      }
-
-      ArrayList<Character> var8 = new ArrayList<Character>();
-      char[] var4 = var1.toString().toCharArray();
-      int var5 = var4.length;
-
-      for(int var6 = 0; var6 < var5; ++var6) {
-         char var7 = var4[var6];
-         var8.add(var7);
-      }
-
-      Collections.shuffle(var8);
-      StringBuilder var9 = new StringBuilder();
-      Iterator<Character> var10 = var8.iterator();
+	private static final String UPPERCASE = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+	private static final String LOWERCASE = "abcdefghijklmnopqrstuvwxyz";
+	private static final String DIGITS = "0123456789";
+	private static final String SPECIAL_CHARS = "!@#$%^&*()-_+=";
+
+	/**
+	 * DRBG instances lock only themselves, whereas every {@code NativePRNG} instance reads through one shared,
+	 * synchronized {@code /dev/urandom} stream.
+	 */
+	private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(PasswordGenerator::newRandom);
+
+	private static String createPassword(int charLength) {
+		return generatePassword(charLength, true, true, true, true, null);
+	}
 
-      while(var10.hasNext()) {
-         char var11 = (Character)var10.next();
-         var9.append(var11);
-      }
+	public static void main(String[] var0) {
+		System.out.println("Generated Password (12): " + generatePassword(12, false, false, false, false, "jAid5(9D!"));//jDdi5(ii)5((, Djd(_!!DjDdi
 
-      return var9.toString();
-   }
+		System.out.println("Generated Password (12): " +	 createPassword(12));
+		System.out.println("Generated Password (16): " + createPassword(16));
+		System.out.println("Generated Password (20): " + createPassword(20));
+		System.out.println("Generated Password (30): " + createPassword(30));
+		System.out.println("Generated Password (32): " + createPassword(32));
+		System.out.println("Generated Passwords (5x12): " + generatePasswords(5, 12, true, true, true, true, null));
+	}
 
-   public static void main(String[] var0) {
-      System.out.println("Generated Password (12): " + generatePassword(12, false, false, false, false, "jAid5(9D!"));//jDdi5(ii)5((, Djd(_!!DjDdi
-      
-      System.out.println("Generated Password (12): " +	 createPassword(12));
-      System.out.println("Generated Password (16): " + createPassword(16));
-      System.out.println("Generated Password (20): " + createPassword(20));
-      System.out.println("Generated Password (30): " + createPassword(30));
-      System.out.println("Generated Password (32): " + createPassword(32));
-   }
-   
-  public static  java.lang.String generatePassword(
-	         int length,
-	        boolean useUppercase,
-	        boolean useLowercase,
-	        boolean useDigits,
-	        boolean useSpecial,
-	        String customChars
+	/**
+	 * Generates one password. With {@code customChars} only those characters are used and the flags are ignored,
+	 * otherwise the password has at least one character of every selected group (so it is never shorter than the
+	 * number of selected groups).
+	 *
+	 * @return the password, or an error message if the length is not positive or no characters are selected
+	 */
+	public static String generatePassword(
+			int length,
+			boolean useUppercase,
+			boolean useLowercase,
+			boolean useDigits,
+			boolean useSpecial,
+			String customChars
 	) {
-	    if (length < 1) {
-	        return "Password length must be greater than 0.";
-	    }
-
-	    StringBuilder characterPool = new StringBuilder();
-	    List<Character> passwordChars = new ArrayList<>();
-
-	    if (customChars != null && !customChars.isEmpty()) {
-	        characterPool.append(customChars);
-	    } else {
-	        if (useUppercase) {
-	            characterPool.append(UPPERCASE);
-	            passwordChars.add(UPPERCASE.charAt(random.nextInt(UPPERCASE.length())));
-	        }
-
-	        if (useLowercase) {
-	            characterPool.append(LOWERCASE);
-	            passwordChars.add(LOWERCASE.charAt(random.nextInt(LOWERCASE.length())));
-	        }
-
-	        if (useDigits) {
-	            characterPool.append(DIGITS);
-	            passwordChars.add(DIGITS.charAt(random.nextInt(DIGITS.length())));
-	        }
+		if (length < 1) {
+			return "Password length must be greater than 0.";
+		}
+		String[] required = requiredGroups(useUppercase, useLowercase, useDigits, useSpecial, customChars);
+		String pool = pool(required, customChars);
+		if (pool.isEmpty()) {
+			return "No characters available to generate password.";
+		}
+		return generate(length, pool, required, RANDOM.get());
+	}
 
-	        if (useSpecial) {
-	            characterPool.append(SPECIAL_CHARS);
-	            passwordChars.add(SPECIAL_CHARS.charAt(random.nextInt(SPECIAL_CHARS.length())));
-	        }
-	    }
+	/**
+	 * Generates {@code count} passwords with the rules of
+	 * {@link #generatePassword(int, boolean, boolean, boolean, boolean, String)}, e.g. for a provisioning job.
+	 *
+	 * @throws IllegalArgumentException if the count or length is not positive or no characters are selected
+	 */
+	public static List<String> generatePasswords(
+			int count,
+			int length,
+			boolean useUppercase,
+			boolean useLowercase,
+			boolean useDigits,
+			boolean useSpecial,
+			String customChars
+	) {
+		if (count < 1) {
+			throw new IllegalArgumentException("Password count must be greater than 0.");
+		}
+		if (length < 1) {
+			throw new IllegalArgumentException("Password length must be greater than 0.");
+		}
+		String[] required = requiredGroups(useUppercase, useLowercase, useDigits, useSpecial, customChars);
+		String pool = pool(required, customChars);
+		if (pool.isEmpty()) {
+			throw new IllegalArgumentException("No characters available to generate password.");
+		}
+		SecureRandom random = RANDOM.get();
+		List<String> passwords = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			passwords.add(generate(length, pool, required, random));
+		}
+		return passwords;
+	}
 
-	    if (characterPool.length() == 0) {
-	        return "No characters available to generate password.";
-	    }
+	private static String[] requiredGroups(boolean useUppercase, boolean useLowercase, boolean useDigits,
+			boolean useSpecial, String customChars) {
+		if (customChars != null && !customChars.isEmpty()) {
+			return new String[0];
+		}
+		List<String> groups = new ArrayList<>(4);
+		if (useUppercase) {
+			groups.add(UPPERCASE);
+		}
+		if (useLowercase) {
+			groups.add(LOWERCASE);
+		}
+		if (useDigits) {
+			groups.add(DIGITS);
+		}
+		if (useSpecial) {
+			groups.add(SPECIAL_CHARS);
+		}
+		return groups.toArray(new String[0]);
+	}
 
-	    while (passwordChars.size() < length) {
-	        passwordChars.add(characterPool.charAt(random.nextInt(characterPool.length())));
-	    }
+	private static String pool(String[] required, String customChars) {
+		return required.length == 0 && customChars != null ? customChars : String.join("", required);
+	}
 
-	    Collections.shuffle(passwordChars);
+	private static String generate(int length, String pool, String[] required, SecureRandom random) {
+		char[] password = new char[Math.max(length, required.length)];
+		// one random int per character, and one per swap of the shuffle
+		byte[] bits = new byte[(2 * password.length - 1) * Integer.BYTES];
+		random.nextBytes(bits);
+		ByteBuffer draws = ByteBuffer.wrap(bits);
+
+		int i = 0;
+		for (String group : required) {
+			password[i++] = group.charAt(index(draws.getInt(), group.length(), random));
+		}
+		for (; i < password.length; i++) {
+			password[i] = pool.charAt(index(draws.getInt(), pool.length(), random));
+		}
+		// Fisher-Yates, so the required characters do not stay in front
+		for (i = password.length - 1; i > 0; i--) {
+			int j = index(draws.getInt(), i + 1, random);
+			char c = password[i];
+			password[i] = password[j];
+			password[j] = c;
+		}
+
+		String result = new String(password);
+		Arrays.fill(password, '\0');
+		Arrays.fill(bits, (byte) 0);
+		return result;
+	}
 
-	    StringBuilder finalPassword = new StringBuilder();
-	    for (char c : passwordChars) {
-	        finalPassword.append(c);
-	    }
+	/**
+	 * Maps a random int to {@code [0, bound)} without modulo bias (Lemire's multiply-shift): the few ints that would
+	 * bias the result are replaced by a fresh {@link SecureRandom#nextInt(int)}.
+	 */
+	private static int index(int draw, int bound, SecureRandom random) {
+		long product = Integer.toUnsignedLong(draw) * bound;
+		if ((product & 0xFFFFFFFFL) < Integer.toUnsignedLong(-bound) % bound) {
+			return random.nextInt(bound);
+		}
+		return (int) (product >>> 32);
+	}
 
-	    return finalPassword.toString();
+	private static SecureRandom newRandom() {
+		try {
+			return SecureRandom.getInstance("DRBG");
+		} catch (NoSuchAlgorithmException e) {
+			return new SecureRandom();
+		}
 	}
-}
\ No newline at end of file
+}
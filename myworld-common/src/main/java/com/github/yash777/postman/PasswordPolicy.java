@@ -0,0 +1,242 @@
+package com.github.yash777.postman;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.github.yash777.postman.PasswordPolicyValidator.UserDetails;
+
+/**
+ * The password rules of {@link PasswordPolicyValidator} for one user, compiled once and checked in a single pass
+ * over the password.
+ *
+ * <ul>
+ *   <li>Length between {@link #REGULAR_MIN_LENGTH} (regular) or {@link #ADMIN_MIN_LENGTH} (admin) and
+ *   {@link #MAX_LENGTH} characters</li>
+ *   <li>At least one uppercase letter, lowercase letter, digit and special character (anything but {@code A-Za-z0-9})</li>
+ *   <li>No email ID and no run of 3 or more characters from the first or last name (case-insensitive)</li>
+ *   <li>Not banned by {@link PasswordPolicyValidator#isPasswordBanned(String)}, checked after the other rules</li>
+ * </ul>
+ *
+ * <p>Every name fragment of 3+ characters contains a fragment of exactly 3, so the name rule is a lookup of the
+ * last three password characters in a table of the names' trigrams, and the email is followed by a KMP automaton;
+ * both tables are built in the constructor. A policy is immutable and can be shared by threads, e.g. one per user
+ * across a bulk import.</p>
+ *
+ * <pre>{@code
+ * PasswordPolicy policy = PasswordPolicy.forUser(user, user.isAdmin());
+ * boolean ok = policy.isValid(password);
+ * Set<PasswordPolicy.Violation> reasons = policy.check(password);
+ * }</pre>
+ */
+public final class PasswordPolicy {
+	public static final int REGULAR_MIN_LENGTH = 12;
+	public static final int ADMIN_MIN_LENGTH = 16;
+	public static final int MAX_LENGTH = 30;
+
+	/** Fragment length of the name rule. */
+	private static final int FRAGMENT = 3;
+	private static final long WINDOW_MASK = (1L << (16 * FRAGMENT)) - 1;
+	/** Marks used slots of the trigram table, so that a trigram of three {@code '\0'} is not an empty slot. */
+	private static final long USED = 1L << 63;
+
+	private static final int UPPER = 1, LOWER = 2, DIGIT = 4, SPECIAL = 8;
+	private static final int ALL_CLASSES = UPPER | LOWER | DIGIT | SPECIAL;
+
+	public enum Violation {
+		BLANK, TOO_SHORT, TOO_LONG, NO_UPPERCASE, NO_LOWERCASE, NO_DIGIT, NO_SPECIAL, PERSONAL_INFO, BANNED
+	}
+
+	private final int minLength;
+	/** Open addressing set of name trigrams, three chars packed into 48 bits plus {@link #USED}. */
+	private final long[] trigrams;
+	private final int trigramMask;
+	/** Lower case email and its KMP failure function; empty if there is no email rule. */
+	private final char[] email;
+	private final int[] emailFailure;
+
+	private PasswordPolicy(UserDetails user, boolean isAdminUser) {
+		this.minLength = isAdminUser ? ADMIN_MIN_LENGTH : REGULAR_MIN_LENGTH;
+
+		String first = user == null ? null : user.getFirstName();
+		String last = user == null ? null : user.getLastName();
+		int count = fragments(first) + fragments(last);
+		int capacity = Integer.highestOneBit(Math.max(1, count) * 4 - 1) << 1;
+		this.trigrams = new long[capacity];
+		this.trigramMask = capacity - 1;
+		addTrigrams(first);
+		addTrigrams(last);
+
+		String emailId = user == null ? null : user.getEmailId();
+		this.email = emailId == null ? new char[0] : lowerCase(emailId);
+		this.emailFailure = failure(email);
+	}
+
+	/**
+	 * Compiles the policy of the user: admin length rule if {@code isAdminUser}, name and email rules from the
+	 * user's details (missing details are skipped).
+	 */
+	public static PasswordPolicy forUser(UserDetails user, boolean isAdminUser) {
+		return new PasswordPolicy(user, isAdminUser);
+	}
+
+	/**
+	 * Returns true if the password meets every rule. Stops at the first personal info match; the banned list is only
+	 * looked up for a password that passes the other rules.
+	 */
+	public boolean isValid(CharSequence password) {
+		if (password == null) {
+			return false;
+		}
+		int length = password.length();
+		if (length < minLength || length > MAX_LENGTH) {
+			return false;
+		}
+		return scan(password, true) == ALL_CLASSES && !PasswordPolicyValidator.isPasswordBanned(password.toString());
+	}
+
+	/**
+	 * Returns every rule the password breaks, empty if it is valid.
+	 */
+	public Set<Violation> check(CharSequence password) {
+		EnumSet<Violation> violations = EnumSet.noneOf(Violation.class);
+		if (password == null || isBlank(password)) {
+			violations.add(Violation.BLANK);
+			return violations;
+		}
+		int length = password.length();
+		if (length < minLength) {
+			violations.add(Violation.TOO_SHORT);
+		} else if (length > MAX_LENGTH) {
+			violations.add(Violation.TOO_LONG);
+		}
+		int found = scan(password, false);
+		if ((found & UPPER) == 0) violations.add(Violation.NO_UPPERCASE);
+		if ((found & LOWER) == 0) violations.add(Violation.NO_LOWERCASE);
+		if ((found & DIGIT) == 0) violations.add(Violation.NO_DIGIT);
+		if ((found & SPECIAL) == 0) violations.add(Violation.NO_SPECIAL);
+		if (found < 0) violations.add(Violation.PERSONAL_INFO);
+		if (PasswordPolicyValidator.isPasswordBanned(password.toString())) violations.add(Violation.BANNED);
+		return violations;
+	}
+
+	/**
+	 * Returns true if the password contains the email ID or 3+ consecutive characters of the first or last name.
+	 */
+	public boolean containsPersonalInfo(CharSequence password) {
+		return password != null && scan(password, true) < 0;
+	}
+
+	/**
+	 * The single pass: character class bits, plus the sign bit if personal info was found.
+	 */
+	private int scan(CharSequence password, boolean stopOnPersonalInfo) {
+		int found = 0;
+		long window = 0;
+		int matched = 0; // email characters matched so far
+		boolean personal = false;
+		for (int i = 0, n = password.length(); i < n; i++) {
+			char c = password.charAt(i);
+			if (c >= 'A' && c <= 'Z') {
+				found |= UPPER;
+			} else if (c >= 'a' && c <= 'z') {
+				found |= LOWER;
+			} else if (c >= '0' && c <= '9') {
+				found |= DIGIT;
+			} else {
+				found |= SPECIAL;
+			}
+			if (personal) {
+				continue;
+			}
+			char lower = Character.toLowerCase(c);
+			window = ((window << 16) | lower) & WINDOW_MASK;
+			if (i >= FRAGMENT - 1 && containsTrigram(window)) {
+				personal = true;
+			}
+			if (email.length > 0) {
+				while (matched > 0 && email[matched] != lower) {
+					matched = emailFailure[matched - 1];
+				}
+				if (email[matched] == lower && ++matched == email.length) {
+					personal = true;
+				}
+			}
+			if (personal && stopOnPersonalInfo) {
+				return Integer.MIN_VALUE;
+			}
+		}
+		return personal ? found | Integer.MIN_VALUE : found;
+	}
+
+	private boolean containsTrigram(long trigram) {
+		long key = trigram | USED;
+		for (int slot = mix(trigram) & trigramMask;; slot = (slot + 1) & trigramMask) {
+			long entry = trigrams[slot];
+			if (entry == key) {
+				return true;
+			}
+			if (entry == 0) {
+				return false;
+			}
+		}
+	}
+
+	private void addTrigrams(String name) {
+		if (name == null || name.length() < FRAGMENT) {
+			return;
+		}
+		char[] lower = lowerCase(name);
+		long window = 0;
+		for (int i = 0; i < lower.length; i++) {
+			window = ((window << 16) | lower[i]) & WINDOW_MASK;
+			if (i >= FRAGMENT - 1 && !containsTrigram(window)) {
+				int slot = mix(window) & trigramMask;
+				while (trigrams[slot] != 0) {
+					slot = (slot + 1) & trigramMask;
+				}
+				trigrams[slot] = window | USED;
+			}
+		}
+	}
+
+	private static int fragments(String name) {
+		return name == null ? 0 : Math.max(0, name.length() - FRAGMENT + 1);
+	}
+
+	private static int mix(long trigram) {
+		long h = trigram * 0x9E3779B97F4A7C15L;
+		return (int) (h >>> 32);
+	}
+
+	private static char[] lowerCase(String s) {
+		char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(chars[i]);
+		}
+		return chars;
+	}
+
+	/** KMP failure function: length of the longest proper border of {@code pattern[0..i]}. */
+	private static int[] failure(char[] pattern) {
+		int[] failure = new int[pattern.length];
+		for (int i = 1, k = 0; i < pattern.length; i++) {
+			while (k > 0 && pattern[i] != pattern[k]) {
+				k = failure[k - 1];
+			}
+			if (pattern[i] == pattern[k]) {
+				k++;
+			}
+			failure[i] = k;
+		}
+		return failure;
+	}
+
+	private static boolean isBlank(CharSequence s) {
+		for (int i = 0; i < s.length(); i++) {
+			if (!Character.isWhitespace(s.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -1,12 +1,14 @@
 package com.github.yash777.postman;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.StringUtils;
 
 import lombok.AllArgsConstructor;
 import lombok.ToString;
@@ -56,37 +58,36 @@ public class PasswordPolicyValidator {
         boolean isAdmin;
     }
 
-	
-    // Regex patterns for each required character class
-    private static final Pattern UPPER_CASE = Pattern.compile("[A-Z]");
-    private static final Pattern LOWER_CASE = Pattern.compile("[a-z]");
-    private static final Pattern DIGIT = Pattern.compile("[0-9]");
-    private static final Pattern SPECIAL_CHAR = Pattern.compile("[^A-Za-z0-9]");
+    static final int MAX_CACHED_POLICIES = 256;
+    /** Compiled policies of the most recently checked users, keyed by email, names and admin flag. */
+    private static final Map<List<Object>, PasswordPolicy> POLICIES = new LinkedHashMap<List<Object>, PasswordPolicy>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
 
-    /**
-Below are the password policies getting used currently:
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, PasswordPolicy> eldest) {
+            return size() > MAX_CACHED_POLICIES;
+        }
+    };
 
-It contains at least 8 characters and at most 30 characters.
-It contains at least one digit.
-It contains at least one upper case alphabet.
-It contains at least one lower case alphabet.
-It contains at least one special character which includes !@#$%&*()-+=^.
-It doesn’t contain any white space
+    /**
+     * The policy of {@link PasswordPolicy#forUser(UserDetails, boolean)}, compiled on the first call for these user
+     * details and taken from a cache of the last {@value #MAX_CACHED_POLICIES} users afterwards.
      */
-    private static boolean isValidPassword(String password, String patterName, String regex) {
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(password);
+    static PasswordPolicy policy(UserDetails user, boolean isAdminUser) {
+        List<Object> key = user == null ? Arrays.asList(null, null, null, isAdminUser)
+                : Arrays.asList(user.getEmailId(), user.getFirstName(), user.getLastName(), isAdminUser);
+        synchronized (POLICIES) {
+            return POLICIES.computeIfAbsent(key, k -> PasswordPolicy.forUser(user, isAdminUser));
+        }
+    }
 
-        boolean isValid =  matcher.matches();
-        
-        if (isValid)
-        	System.out.format("%7s [%-30S] : %b\n", patterName, password, isValid);
-        else 
-        	System.err.format("%7s [%-30S] : %b\n", patterName, password, isValid);
-        
-        return isValid;
+    static int cachedPolicies() {
+        synchronized (POLICIES) {
+            return POLICIES.size();
+        }
     }
 
+
     /**
      * Returns true if password contains any prohibited substring from user's personal info.
      *
@@ -106,105 +107,31 @@ Examples of disallowed patterns in passwords:
  * "admin@myapp.com!" ← contains full email
  * "min123!A" ← contains "min" (3 letters from "Administrator")
  
+     * <p>The user's name trigrams and email automaton are compiled on the first call for these details and cached for
+     * the last {@value #MAX_CACHED_POLICIES} users; a bulk check of many users should hold one
+     * {@link PasswordPolicy} per user instead.</p>
+     *
      * @param password Password to check
      * @param user User details (first name, last name, email)
      * @return true if password contains prohibited elements, false otherwise
      */
     public static boolean containsProhibitedPatterns(String password, PasswordPolicyValidator.UserDetails user) {
-        String lowerPassword = password.toLowerCase();
-
-        // 1. Check full email ID
-        if (lowerPassword.contains(user.emailId.toLowerCase())) {
-            return true;
-        }
-
-        // 2. Check substrings of first/last name (>= 3 characters)
-        if (hasLongSubstringMatch(lowerPassword, user.firstName)) return true;
-        if (hasLongSubstringMatch(lowerPassword, user.lastName)) return true;
-
-        // 3. Optional: add DOB, address, phone, etc. here if available
-        return false;
-    }
-
-    /**
-     * Helper: returns true if password contains any 3+ letter substring from the given name.
-     */
-    private static boolean hasLongSubstringMatch(String password, String name) {
-        if (name == null || name.length() < 3) return false;
-
-        String lowerName = name.toLowerCase();
-        int len = lowerName.length();
-
-        // Check all substrings of length 3 or more
-        for (int i = 0; i <= len - 3; i++) {
-            for (int j = i + 3; j <= len; j++) {
-                String sub = lowerName.substring(i, j);
-                if (password.contains(sub)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return policy(user, false).containsPersonalInfo(password);
     }
     
     /**
      * Validates a single password against the appropriate policy.
      *
+     * <p>Like {@link #containsProhibitedPatterns(String, UserDetails)}, the policy is compiled on the first call for
+     * the user and cached; bulk callers hold one {@link PasswordPolicy} per user, as {@link #isPasswordValids} does.</p>
+     *
      * @param password The password to validate
      * @param user The user whose password is being validated
      * @param isAdminUser Whether the user is privileged (admin)
      * @return true if the password meets all applicable requirements
      */
     public static boolean isPasswordValid(String password, UserDetails user, boolean isAdminUser) {
-    	if (password == null || password.isBlank()) {
-    		System.err.println("❌ Blank password not allowed. [Empty or blank (password length is zero ) passwords are always prohibited]");
-    		return false;
-    	}
-    	
-    	int minLength = isAdminUser ? 16 : 12;
-    	int maxLength = 30;
-        boolean isIncharRange = true;
-        if (password.length() < minLength || password.length() < maxLength) {
-        	isIncharRange = false;
-        }
-        System.out.println(password.length() + " chars");
-        if (StringUtils.containsIgnoreCase(password, user.getFirstName())
-        		|| StringUtils.containsIgnoreCase(password, user.getLastName())) {
-        	System.err.println("Contains part of name: Invalid login credentials : "+user);
-        }
-        
-        isValidPassword(password, "OLD", "^(?=.*[0-9])(?=.{8,})(?=.*[a-zA-Z])([a-zA-Z0-9!@#$%^&*-_]+)$");
-        isValidPassword(password, "REGULAR", "^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[^a-zA-Z0-9])(?=\\S+$).{12,30}$");
-        isValidPassword(password, "ADMIN", "^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[^a-zA-Z0-9])(?=\\S+$).{16,30}$");
-
-        boolean hasUpper = UPPER_CASE.matcher(password).find();
-        boolean hasLower = LOWER_CASE.matcher(password).find();
-        boolean hasDigit = DIGIT.matcher(password).find();
-        boolean hasSpecial = SPECIAL_CHAR.matcher(password).find();
-
-        
-        boolean isValid =  isIncharRange && hasUpper && hasLower && hasDigit && hasSpecial;
-        
-        if (isValid)
-        	System.out.format("[%-30S] : %b\n", password, isValid);
-        else 
-        	System.err.format("[%-30S] : %b\n", password, isValid);
-        
-        // ❌ Reject if password contains prohibited elements
-        if (containsProhibitedPatterns(password, user)) { //PasswordProhibitedCheck
-        	isValid = false;
-        	System.err.format("ProhibitedPattern : [%-30S] : %b\n", password, isValid);
-        }
-        
-        if (isPassphraseValid(password)) {
-        	System.out.format("🔐 Passphrase (memorable and secure password) : [%-30S] \n", password);
-        }
-        
-        if (isPasswordBanned(password)) {
-        	System.out.format("🔧 Banned Password: Do not allow passwords that are common, trivial, or easily guessable : [%-30S] \n", password);
-        }
-        
-        return isValid;
+        return policy(user, isAdminUser).isValid(password);
     }
 
     /**
@@ -252,8 +179,9 @@ Much harder for attackers to crack using brute-force or dictionary attacks
      */
     public static void isPasswordValids(UserDetails user, List<String> passwords) {
         System.out.println("Validating admin/regular passwords for: " + user.emailId);
+        PasswordPolicy policy = PasswordPolicy.forUser(user, true);
         for (String password : passwords) {
-            isPasswordValid(password, user, true);
+            System.out.format("[%-30S] : %s%n", password, policy.check(password));
         }
     }
 
@@ -337,17 +265,59 @@ Much harder for attackers to crack using brute-force or dictionary attacks
         // Add more as needed or load from external file
     }
 
+    /**
+     * System property with the path of a {@link BannedPasswordFilter} file (e.g. millions of breached passwords),
+     * checked by {@link #isPasswordBanned(String)} in addition to the set above. Mapped on first use; a file that
+     * cannot be loaded fails that check, and the next one tries again.
+     */
+    public static final String BANNED_FILTER_PROPERTY = "password.banned.filter";
+    private static volatile BannedPasswordFilter bannedFilter;
+
+    private static BannedPasswordFilter bannedFilter() {
+        BannedPasswordFilter filter = bannedFilter;
+        if (filter == null) {
+            String path = System.getProperty(BANNED_FILTER_PROPERTY);
+            if (path == null || path.isBlank()) {
+                return null;
+            }
+            synchronized (PasswordPolicyValidator.class) {
+                if (bannedFilter == null) {
+                    try {
+                        bannedFilter = BannedPasswordFilter.open(Paths.get(path));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Cannot load banned password filter " + path, e);
+                    }
+                }
+                filter = bannedFilter;
+            }
+        }
+        return filter;
+    }
+
+    /** Forgets the loaded filter, so that the next check reads {@value #BANNED_FILTER_PROPERTY} again. For tests. */
+    static void resetBannedFilter() {
+        synchronized (PasswordPolicyValidator.class) {
+            bannedFilter = null;
+        }
+    }
+
     /**
      * Check if the password is in the banned list.
      *
      * checking against a banned password list (also known as a password denylist or blacklist).
      *blocking trivial or common passwords like "admin", "123456", "password", etc., is an essential security control.
      *
+     * <p>With {@value #BANNED_FILTER_PROPERTY} set, the large list in that filter file is checked too; being a Bloom
+     * filter it rarely reports a password that is not in the list as banned.</p>
+     *
      * @param password The password to validate
      * @return true if it is a banned (trivial) password
+     * @throws UncheckedIOException If the filter file of {@value #BANNED_FILTER_PROPERTY} cannot be loaded
      */
     public static boolean isPasswordBanned(String password) {
         if (password == null) return false;
-        return BANNED_PASSWORDS.contains(password.toLowerCase());
+        if (BANNED_PASSWORDS.contains(password.toLowerCase())) return true;
+        BannedPasswordFilter filter = bannedFilter();
+        return filter != null && filter.mightContain(password);
     }
 }
@@ -4,11 +4,20 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidAlgorithmParameterException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
@@ -26,9 +35,13 @@ import org.slf4j.LoggerFactory;
  * Provides functionality to:
  * <ul>
  *     <li>Encrypt and decrypt text data</li>
+ *     <li>Encrypt and decrypt streams and files of any size with segmented AES-GCM</li>
+ *     <li>Encrypt and decrypt large batches of values in parallel into one {@link ByteColumn}</li>
  *     <li>Allows 128, 192, and 256-bit key sizes via {@link KeySize} enum</li>
  *     <li>Accepts IV as a string, derived from a date (dd-mm-yyyy), or generated randomly</li>
- *     <li>Auto-generates or loads existing keys from disk (named like <code>secret_128bit.key</code>)</li>
+ *     <li>Auto-generates or loads existing keys from disk (named like <code>secret_128bit.key</code>), cached in memory
+ *     until the key file changes</li>
+ *     <li>Reuses one {@link Cipher} per transformation and thread instead of a provider lookup per call</li>
  *     <li>Log key information and encryption process via SLF4J</li>
  * </ul>
  * 
@@ -51,6 +64,14 @@ public final class AesCryptoManager {
 	private static final String KEY_FILE_PREFIX = "secret_";
 	private static final String KEY_FILE_EXT = ".key";
 	
+	/** Keys by absolute key file path, see {@link #getOrCreateKey(KeySize, File)}. */
+	private static final ConcurrentMap<String, CachedKey> KEY_CACHE = new ConcurrentHashMap<>();
+	/**
+	 * Cipher objects by transformation, one set per thread: {@code Cipher.getInstance} does a provider lookup on every
+	 * call, while {@code init} fully resets an existing instance. A Cipher is not thread safe, hence per thread.
+	 */
+	private static final ThreadLocal<Map<String, Cipher>> THREAD_CIPHERS = ThreadLocal.withInitial(HashMap::new);
+	
 	private AesCryptoManager() {}
 	
 	/**
@@ -117,18 +138,45 @@ public final class AesCryptoManager {
 	 */
 	public static SecretKey getOrCreateKey(KeySize size, File dir) throws Exception {
 		File keyFile = new File(dir, size.getFileName());
-		if (keyFile.exists()) {
-			log.info("Key file exists: {}", keyFile.getAbsolutePath());
-			return loadKeyFromFile(keyFile);
+		String path = keyFile.getAbsolutePath();
+		long lastModified = keyFile.lastModified(); // 0 if the file does not exist
+		long length = keyFile.length();
+		CachedKey cached = KEY_CACHE.get(path);
+		if (cached != null && lastModified != 0 && cached.lastModified == lastModified && cached.length == length) {
+			return cached.key;
 		}
+		synchronized (KEY_CACHE) {
+			if (keyFile.exists()) {
+				log.info("Key file exists: {}", path);
+				SecretKey key = loadKeyFromFile(keyFile);
+				KEY_CACHE.put(path, new CachedKey(key, lastModified, length));
+				return key;
+			}
+			
+			log.info("Generating new AES {} key", size.bits);
+			KeyGenerator keyGen = KeyGenerator.getInstance(KeyGenerator_Algorithm);
+			keyGen.init(size.bits);
+			SecretKey key = keyGen.generateKey();
+			
+			saveKeyToFile(keyFile, key);
+			KEY_CACHE.put(path, new CachedKey(key, keyFile.lastModified(), keyFile.length()));
+			return key;
+		}
+	}
+	
+	/**
+	 * Key read from a key file, valid as long as the file's modification time and length are unchanged.
+	 */
+	private static final class CachedKey {
+		final SecretKey key;
+		final long lastModified;
+		final long length;
 		
-		log.info("Generating new AES {} key", size.bits);
-		KeyGenerator keyGen = KeyGenerator.getInstance(KeyGenerator_Algorithm);
-		keyGen.init(size.bits);
-		SecretKey key = keyGen.generateKey();
-		
-		saveKeyToFile(keyFile, key);
-		return key;
+		CachedKey(SecretKey key, long lastModified, long length) {
+			this.key = key;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
 	}
 	
 	/**
@@ -166,15 +214,15 @@ public final class AesCryptoManager {
 	 * @param data      Plaintext to encrypt
 	 * @param key       AES secret key
 	 * @param mode      Cipher mode enum
-	 * @param ivSpec    IV specification (required for CBC/GCM)
+	 * @param ivSpec    IV specification (required for CBC/GCM); with GCM the caller must never use an IV twice with the
+	 *                  same key, this method does not track earlier calls
 	 * @return Encrypted Base64-encoded string
 	 * @throws Exception If encryption fails
 	 */
 	public static String encrypt(String data, SecretKey key, CipherMode mode, IvParameterSpec ivSpec) throws Exception {
-		Cipher cipher = getCipher(mode.transformation);
+		Cipher cipher = threadCipher(mode.transformation);
 		if (mode == CipherMode.GCM) {
-			GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH, ivSpec.getIV());
-			cipher.init(Cipher.ENCRYPT_MODE, key, gcmSpec);
+			initGcmEncrypt(cipher, key, ivSpec.getIV());
 		} else if (ivSpec != null) {
 			cipher.init(Cipher.ENCRYPT_MODE, key, ivSpec);
 		} else {
@@ -187,6 +235,22 @@ public final class AesCryptoManager {
 		return Base64.getEncoder().encodeToString(finalData);
 	}
 	
+	/**
+	 * Initialises a pooled GCM Cipher for encryption. The Cipher refuses the key and IV of its own last encryption, a
+	 * check a fresh Cipher per call would never make; re-initialising through a throwaway IV first keeps the outcome
+	 * the same on every thread.
+	 */
+	private static void initGcmEncrypt(Cipher cipher, SecretKey key, byte[] iv) throws GeneralSecurityException {
+		try {
+			cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+		} catch (InvalidAlgorithmParameterException e) {
+			byte[] throwaway = iv.clone();
+			throwaway[0] ^= 1;
+			cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, throwaway));
+			cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+		}
+	}
+	
 	/**
 	 * Decrypts a Base64 encoded AES-encrypted string.
 	 *
@@ -197,7 +261,7 @@ public final class AesCryptoManager {
 	 * @throws Exception If decryption fails
 	 */
 	public static String decrypt(String encryptedBase64, SecretKey key, CipherMode mode) throws Exception {
-		Cipher cipher = getCipher(mode.transformation);
+		Cipher cipher = threadCipher(mode.transformation);
 		byte[] data = Base64.getDecoder().decode(encryptedBase64);
 		
 		IvParameterSpec ivSpec = null;
@@ -221,6 +285,124 @@ public final class AesCryptoManager {
 		return new String(decrypted, StandardCharsets.UTF_8);
 	}
 	
+	/**
+	 * Encrypts a stream of any size with AES-GCM in segments of {@value SegmentedGcm#DEFAULT_SEGMENT_SIZE} bytes,
+	 * each with its own nonce and tag, using constant memory. Neither stream is closed.
+	 *
+	 * <pre>{@code
+	 * try (InputStream in = new FileInputStream(report); OutputStream out = new FileOutputStream(encryptedReport)) {
+	 *     AesCryptoManager.encrypt(in, out, key);
+	 * }
+	 * }</pre>
+	 *
+	 * @param in  plaintext
+	 * @param out receives the header and the encrypted segments
+	 * @param key AES secret key
+	 * @throws IOException              If reading or writing fails
+	 * @throws GeneralSecurityException If encryption fails
+	 */
+	public static void encrypt(InputStream in, OutputStream out, SecretKey key) throws IOException, GeneralSecurityException {
+		SegmentedGcm.encrypt(in, out, key, SegmentedGcm.DEFAULT_SEGMENT_SIZE);
+	}
+	
+	/**
+	 * Same as {@link #encrypt(InputStream, OutputStream, SecretKey)} with a given segment size (at most 16 MiB).
+	 */
+	public static void encrypt(InputStream in, OutputStream out, SecretKey key, int segmentSize) throws IOException, GeneralSecurityException {
+		SegmentedGcm.encrypt(in, out, key, segmentSize);
+	}
+	
+	/**
+	 * Decrypts a stream written by {@link #encrypt(InputStream, OutputStream, SecretKey)}. Each segment is written
+	 * to {@code out} once its tag is verified; a tampered, reordered or truncated stream fails with an
+	 * {@link javax.crypto.AEADBadTagException} at the first bad segment.
+	 *
+	 * @param in  header and encrypted segments
+	 * @param out receives the plaintext
+	 * @param key AES secret key
+	 * @throws IOException              If reading or writing fails
+	 * @throws GeneralSecurityException If the stream is not valid or was not encrypted with this key
+	 */
+	public static void decrypt(InputStream in, OutputStream out, SecretKey key) throws IOException, GeneralSecurityException {
+		SegmentedGcm.decrypt(in, out, key);
+	}
+	
+	/**
+	 * File version of {@link #encrypt(InputStream, OutputStream, SecretKey)}: the segments are encrypted in parallel.
+	 *
+	 * @param source plaintext file
+	 * @param target encrypted file, replaced if it exists
+	 * @param key    AES secret key
+	 */
+	public static void encryptFile(File source, File target, SecretKey key) throws IOException, GeneralSecurityException {
+		SegmentedGcm.encryptFile(source, target, key, SegmentedGcm.DEFAULT_SEGMENT_SIZE);
+	}
+	
+	/**
+	 * File version of {@link #decrypt(InputStream, OutputStream, SecretKey)}: the segments are decrypted in parallel.
+	 * On failure the target file is incomplete and must not be used.
+	 *
+	 * @param source encrypted file
+	 * @param target plaintext file, replaced if it exists
+	 * @param key    AES secret key
+	 */
+	public static void decryptFile(File source, File target, SecretKey key) throws IOException, GeneralSecurityException {
+		SegmentedGcm.decryptFile(source, target, key);
+	}
+	
+	/**
+	 * Decrypts only segment {@code index} of an encrypted file (plaintext bytes {@code index * segmentSize} onwards),
+	 * reading nothing but the header and that segment.
+	 *
+	 * @param source encrypted file
+	 * @param key    AES secret key
+	 * @param index  zero based segment index
+	 * @return the plaintext of the segment
+	 */
+	public static byte[] decryptSegment(File source, SecretKey key, long index) throws IOException, GeneralSecurityException {
+		return SegmentedGcm.decryptSegment(source, key, index);
+	}
+	
+	/**
+	 * Encrypts many values at once, spread over the cores, each worker with its own {@link Cipher}. The records are
+	 * written back to back into one array: record {@code i} is laid out like the bytes behind
+	 * {@link #encrypt(String, SecretKey, CipherMode, IvParameterSpec)}, a random IV (CBC/GCM) plus the ciphertext, so
+	 * {@code decrypt(Base64.getEncoder().encodeToString(records.get(i)), key, mode)} gives value {@code i} back.
+	 *
+	 * <pre>{@code
+	 * ByteColumn records = AesCryptoManager.encryptBatch(ByteColumn.of(ssnValues), key, CipherMode.GCM);
+	 * }</pre>
+	 *
+	 * @param values plaintext values
+	 * @param key    AES secret key
+	 * @param mode   Cipher mode enum; CBC and GCM get a random IV per value
+	 * @return the encrypted records
+	 * @throws GeneralSecurityException If encryption fails
+	 */
+	public static ByteColumn encryptBatch(ByteColumn values, SecretKey key, CipherMode mode) throws GeneralSecurityException {
+		return BatchCipher.encrypt(values, key, mode);
+	}
+	
+	/**
+	 * Same as {@link #encryptBatch(ByteColumn, SecretKey, CipherMode)} for a list of values.
+	 */
+	public static ByteColumn encryptBatch(List<byte[]> values, SecretKey key, CipherMode mode) throws GeneralSecurityException {
+		return BatchCipher.encrypt(ByteColumn.of(values), key, mode);
+	}
+	
+	/**
+	 * Decrypts records written by {@link #encryptBatch(ByteColumn, SecretKey, CipherMode)}, in parallel.
+	 *
+	 * @param records encrypted records
+	 * @param key     AES secret key
+	 * @param mode    Cipher mode enum
+	 * @return the plaintext values, in the same order
+	 * @throws GeneralSecurityException If a record cannot be decrypted (the first failure is thrown)
+	 */
+	public static ByteColumn decryptBatch(ByteColumn records, SecretKey key, CipherMode mode) throws GeneralSecurityException {
+		return BatchCipher.decrypt(records, key, mode);
+	}
+	
 	/**
 	 * Returns a Cipher instance for a valid transformation.
 	 *
@@ -228,7 +410,7 @@ public final class AesCryptoManager {
 	 * @return Cipher instance
 	 * @throws Exception If transformation is invalid
 	 */
-	public static Cipher getCipher(String transformation) throws Exception {
+	public static Cipher getCipher(String transformation) throws GeneralSecurityException {
 		switch (transformation) {
 		case "AES/ECB/PKCS5Padding":
 		case "AES/CBC/PKCS5Padding":
@@ -239,6 +421,24 @@ public final class AesCryptoManager {
 		}
 	}
 	
+	/**
+	 * Returns this thread's Cipher for the transformation, created with {@link #getCipher(String)} on first use.
+	 * The caller must {@code init} it before use and must not hand it to another thread.
+	 *
+	 * @param transformation one of the transformations accepted by {@link #getCipher(String)}
+	 * @return the Cipher of the calling thread
+	 * @throws GeneralSecurityException If the transformation is not available
+	 */
+	public static Cipher threadCipher(String transformation) throws GeneralSecurityException {
+		Map<String, Cipher> ciphers = THREAD_CIPHERS.get();
+		Cipher cipher = ciphers.get(transformation);
+		if (cipher == null) {
+			cipher = getCipher(transformation);
+			ciphers.put(transformation, cipher);
+		}
+		return cipher;
+	}
+	
 	/**
 	 * Creates an IV from a string. If shorter than 16 bytes, it's padded.
 	 *
@@ -0,0 +1,149 @@
+package com.github.yash777.security.crypto;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.stream.IntStream;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+
+import com.github.yash777.security.crypto.AesCryptoManager.CipherMode;
+
+/**
+ * Batch encryption behind {@link AesCryptoManager#encryptBatch(ByteColumn, SecretKey, CipherMode)}.
+ *
+ * <p>Every record has the layout of {@link AesCryptoManager#encrypt(String, SecretKey, CipherMode, IvParameterSpec)}
+ * before Base64: a random 16 byte IV (CBC, GCM) followed by the ciphertext. The record sizes are known up front,
+ * so the offsets are computed first and every worker encrypts its values straight into the shared output array.</p>
+ */
+final class BatchCipher {
+	/** Values per parallel task. */
+	static final int VALUES_PER_TASK = 1024;
+
+	private static final int IV_LENGTH = 16;
+	private static final int BLOCK_SIZE = 16;
+	private static final int GCM_TAG_BITS = 128;
+	private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+	private BatchCipher() {}
+
+	static ByteColumn encrypt(ByteColumn values, SecretKey key, CipherMode mode) throws GeneralSecurityException {
+		int size = values.size();
+		int[] offsets = new int[size + 1];
+		long total = 0;
+		for (int i = 0; i < size; i++) {
+			total += encryptedLength(values.length(i), mode);
+			if (total > Integer.MAX_VALUE - 8) {
+				throw new IllegalArgumentException("Encrypted values too large for one column, split the batch");
+			}
+			offsets[i + 1] = (int) total;
+		}
+		byte[] out = new byte[(int) total];
+		byte[] in = values.data();
+		forEachRange(size, (from, to) -> {
+			Cipher cipher = AesCryptoManager.threadCipher(mode.transformation);
+			SecureRandom random = RANDOM.get();
+			byte[] iv = new byte[IV_LENGTH];
+			for (int i = from; i < to; i++) {
+				int position = offsets[i];
+				if (mode == CipherMode.ECB) {
+					cipher.init(Cipher.ENCRYPT_MODE, key);
+				} else {
+					random.nextBytes(iv);
+					System.arraycopy(iv, 0, out, position, IV_LENGTH);
+					position += IV_LENGTH;
+					cipher.init(Cipher.ENCRYPT_MODE, key, mode == CipherMode.GCM ? new GCMParameterSpec(GCM_TAG_BITS, iv) : new IvParameterSpec(iv));
+				}
+				cipher.doFinal(in, values.offset(i), values.length(i), out, position);
+			}
+		});
+		return new ByteColumn(out, offsets);
+	}
+
+	static ByteColumn decrypt(ByteColumn records, SecretKey key, CipherMode mode) throws GeneralSecurityException {
+		int size = records.size();
+		// plaintext upper bounds; CBC/ECB padding makes the exact length known only after decryption
+		int[] bounds = new int[size + 1];
+		for (int i = 0; i < size; i++) {
+			int length = records.length(i) - (mode == CipherMode.ECB ? 0 : IV_LENGTH);
+			if (length < (mode == CipherMode.GCM ? GCM_TAG_BITS / 8 : BLOCK_SIZE)) {
+				throw new GeneralSecurityException("Record " + i + " is too short");
+			}
+			bounds[i + 1] = bounds[i] + (mode == CipherMode.GCM ? length - GCM_TAG_BITS / 8 : length);
+		}
+		byte[] out = new byte[bounds[size]];
+		int[] lengths = new int[size];
+		byte[] in = records.data();
+		forEachRange(size, (from, to) -> {
+			Cipher cipher = AesCryptoManager.threadCipher(mode.transformation);
+			for (int i = from; i < to; i++) {
+				int position = records.offset(i);
+				int length = records.length(i);
+				if (mode == CipherMode.ECB) {
+					cipher.init(Cipher.DECRYPT_MODE, key);
+				} else {
+					cipher.init(Cipher.DECRYPT_MODE, key, mode == CipherMode.GCM
+							? new GCMParameterSpec(GCM_TAG_BITS, in, position, IV_LENGTH)
+							: new IvParameterSpec(in, position, IV_LENGTH));
+					position += IV_LENGTH;
+					length -= IV_LENGTH;
+				}
+				lengths[i] = cipher.doFinal(in, position, length, out, bounds[i]);
+			}
+		});
+		// close the padding gaps
+		int[] offsets = new int[size + 1];
+		for (int i = 0; i < size; i++) {
+			if (bounds[i] != offsets[i]) {
+				System.arraycopy(out, bounds[i], out, offsets[i], lengths[i]);
+			}
+			offsets[i + 1] = offsets[i] + lengths[i];
+		}
+		return new ByteColumn(out, offsets);
+	}
+
+	static int encryptedLength(int length, CipherMode mode) {
+		switch (mode) {
+			case ECB:
+				return (length / BLOCK_SIZE + 1) * BLOCK_SIZE;
+			case CBC:
+				return IV_LENGTH + (length / BLOCK_SIZE + 1) * BLOCK_SIZE;
+			default:
+				return IV_LENGTH + length + GCM_TAG_BITS / 8;
+		}
+	}
+
+	private interface RangeTask {
+		void run(int from, int to) throws GeneralSecurityException;
+	}
+
+	/**
+	 * Runs the task over {@code [0, size)} in ranges of {@value #VALUES_PER_TASK} values on the common
+	 * {@link java.util.concurrent.ForkJoinPool}, rethrowing the first failure.
+	 */
+	private static void forEachRange(int size, RangeTask task) throws GeneralSecurityException {
+		int tasks = (size + VALUES_PER_TASK - 1) / VALUES_PER_TASK;
+		try {
+			IntStream.range(0, tasks).parallel().forEach(t -> {
+				try {
+					task.run(t * VALUES_PER_TASK, Math.min(size, (t + 1) * VALUES_PER_TASK));
+				} catch (GeneralSecurityException e) {
+					throw new BatchException(e);
+				}
+			});
+		} catch (BatchException e) {
+			throw (GeneralSecurityException) e.getCause();
+		}
+	}
+
+	/** Carries a {@link GeneralSecurityException} out of a parallel task. */
+	private static final class BatchException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		BatchException(GeneralSecurityException cause) {
+			super(cause);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.github.yash777.security.crypto;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Many byte values stored back to back in one array: value {@code i} is {@code data[offsets[i] .. offsets[i + 1])}.
+ * Input and output of the batch methods of {@link AesCryptoManager}.
+ *
+ * <pre>{@code
+ * ByteColumn encrypted = AesCryptoManager.encryptBatch(ByteColumn.of(values), key, CipherMode.GCM);
+ * for (int i = 0; i < encrypted.size(); i++) {
+ *     statement.setBytes(1, encrypted.get(i));
+ * }
+ * }</pre>
+ */
+public final class ByteColumn {
+	private final byte[] data;
+	private final int[] offsets;
+
+	/**
+	 * @param data    the values, back to back (not copied)
+	 * @param offsets start of every value plus the end of the last one, ascending (not copied)
+	 */
+	public ByteColumn(byte[] data, int[] offsets) {
+		if (offsets.length == 0 || offsets[0] < 0 || offsets[offsets.length - 1] > data.length) {
+			throw new IllegalArgumentException("Offsets out of range");
+		}
+		for (int i = 1; i < offsets.length; i++) {
+			if (offsets[i] < offsets[i - 1]) {
+				throw new IllegalArgumentException("Offsets not ascending at " + i);
+			}
+		}
+		this.data = data;
+		this.offsets = offsets;
+	}
+
+	/**
+	 * Copies the values into one column.
+	 */
+	public static ByteColumn of(List<byte[]> values) {
+		int[] offsets = new int[values.size() + 1];
+		long total = 0;
+		for (int i = 0; i < values.size(); i++) {
+			total += values.get(i).length;
+			if (total > Integer.MAX_VALUE - 8) {
+				throw new IllegalArgumentException("Values too large for one column, split the batch");
+			}
+			offsets[i + 1] = (int) total;
+		}
+		byte[] data = new byte[(int) total];
+		for (int i = 0; i < values.size(); i++) {
+			System.arraycopy(values.get(i), 0, data, offsets[i], values.get(i).length);
+		}
+		return new ByteColumn(data, offsets);
+	}
+
+	public int size() {
+		return offsets.length - 1;
+	}
+
+	public int offset(int index) {
+		return offsets[index];
+	}
+
+	public int length(int index) {
+		return offsets[index + 1] - offsets[index];
+	}
+
+	/**
+	 * Returns a copy of value {@code index}.
+	 */
+	public byte[] get(int index) {
+		return Arrays.copyOfRange(data, offsets[index], offsets[index + 1]);
+	}
+
+	/**
+	 * Returns a read-only view of value {@code index}, without copying.
+	 */
+	public ByteBuffer slice(int index) {
+		return ByteBuffer.wrap(data, offsets[index], length(index)).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * The shared backing array, see {@link #offset(int)} and {@link #length(int)}.
+	 */
+	public byte[] data() {
+		return data;
+	}
+}
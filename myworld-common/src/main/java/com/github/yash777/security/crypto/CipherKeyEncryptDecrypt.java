@@ -1,9 +1,6 @@
 package com.github.yash777.security.crypto;
 
 import java.io.FileNotFoundException;
-import java.io.UnsupportedEncodingException;
-import java.nio.ByteBuffer;
-import java.security.AlgorithmParameters;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -11,17 +8,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.security.SecureRandom;
 
-import javax.crypto.BadPaddingException;
-import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.SecretKey;
-import javax.crypto.SecretKeyFactory;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.PBEKeySpec;
-import javax.crypto.spec.SecretKeySpec;
-
-import org.apache.commons.codec.binary.Base64;
-
 import lombok.Data;
 
 /**
@@ -31,8 +17,9 @@ import lombok.Data;
 * 
 * https://stackoverflow.com/a/32583766/5081877
 * https://stackoverflow.com/questions/992019/java-256-bit-aes-password-based-encryption
+* 
+* For concurrent use with different secrets see {@link PasswordCodec}; encode/decode here read the static secretPasswordKey.
 */
-//dependency:commons-codec
 @SuppressWarnings("resource")
 //@Slf4j
 @Data 
@@ -186,96 +173,20 @@ public class CipherKeyEncryptDecrypt {
 		return date;
 	}
 	
-	byte[] saltBytes = new byte[SALT_SIZE];
-	
-	static int KEY_LENGTH = 128; // 256 // Define key length (256 bits)
-	static int ITERATIONS = 1024; // Define number of iterations - 10000
-	static String PBKDF2_ALGORITHM = "PBKDF2WithHmacSHA1"; // PBKDF2WithHmacSHA256 - // PBKDF2 with HMAC-SHA256
-	// Helper method to generate SecretKey
-	private SecretKey generateSecretKey(String salt) throws Exception {
-		this.saltBytes = salt.getBytes();
-		SecretKeyFactory factory = SecretKeyFactory.getInstance(PBKDF2_ALGORITHM);
-		PBEKeySpec spec = new PBEKeySpec(secretPasswordKey.toCharArray(), saltBytes, ITERATIONS, KEY_LENGTH);
-		return factory.generateSecret(spec);
-	}
-	// Helper method to generate IvParameterSpec based on createdDate
-	private IvParameterSpec generateIvParameterSpec(Date createdDate) throws UnsupportedEncodingException {
-		String ivStrDate = getStringFrom(createdDate);
-		System.out.println("IvParameterSpec based on Date :"+ivStrDate);
-		
-		byte[] ivBytes = new byte[16]; // AES requires 16-byte IV
-		byte[] ivSource = ivStrDate.getBytes(UTF_8);
-		System.arraycopy(ivSource, 0, ivBytes, 0, Math.min(ivSource.length, ivBytes.length));
-		//System.arraycopy(ivStrDate.getBytes(UTF_8), 0, ivBytes, 0, 16);
-		IvParameterSpec ivParameterSpec = new IvParameterSpec(ivBytes);
-		
-		return ivParameterSpec;
-	}
-	// Extract IV bytes from AlgorithmParameters
-	private byte[] getIvBytesFromParams(AlgorithmParameters params) {
-		try {
-			return params.getParameterSpec(IvParameterSpec.class).getIV();
-		} catch (Exception e) {
-			return new byte[16]; // Default empty iv if there's an error
-		}
-	}
-	// Helper method to encode result (salt + iv + encrypted data)
-	private String encodeResult(byte[] saltBytes, AlgorithmParameters params, byte[] encryptedTextBytes) {
-		byte[] ivBytes = getIvBytesFromParams(params);
-		// prepend salt and iv
-		byte[] buffer = new byte[saltBytes.length + ivBytes.length + encryptedTextBytes.length];
-		System.arraycopy(saltBytes, 0, buffer, 0, saltBytes.length);
-		System.arraycopy(ivBytes, 0, buffer, saltBytes.length, ivBytes.length);
-		System.arraycopy(encryptedTextBytes, 0, buffer, saltBytes.length + ivBytes.length, encryptedTextBytes.length);
-		//return java.util.Base64.getEncoder().encodeToString(buffer);
-		return new org.apache.commons.codec.binary.Base64().encodeToString(buffer);
-	}
+	static final int KEY_LENGTH = 128; // 256 // Define key length (256 bits)
+	static final int ITERATIONS = 1024; // Define number of iterations - 10000
+	static final String PBKDF2_ALGORITHM = "PBKDF2WithHmacSHA1"; // PBKDF2WithHmacSHA256 - // PBKDF2 with HMAC-SHA256
+	static final String AES_ALGORITHM = "AES"; // SecretKeySpec - ALOG (AES)
+	static final String TRANSFORMATION = "AES/CBC/PKCS5Padding"; // Cipher = "AES/CBC/PKCS5Padding"
 	
-	static String AES_ALGORITHM = "AES"; // SecretKeySpec - ALOG (AES)
-	static String TRANSFORMATION = "AES/CBC/PKCS5Padding"; // Cipher = "AES/CBC/PKCS5Padding"
+	// encode/decode with the current secretPasswordKey; concurrent callers with different secrets should hold a
+	// PasswordCodec.forSecret(secret) instead of setting the static key
 	public String encode(String rawPass, String salt, Date createdDate) throws Exception {
-		SecretKey secretKey = generateSecretKey(salt);
-		
-		SecretKeySpec secret = new SecretKeySpec(secretKey.getEncoded(), AES_ALGORITHM);
-		
-		// Encrypt the raw password
-		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-		if (createdDate != null) { // AlgorithmParameterSpec
-			IvParameterSpec ivParameterSpec = generateIvParameterSpec(createdDate);
-			
-			cipher.init(Cipher.ENCRYPT_MODE, secret, ivParameterSpec);
-		} else {
-			cipher.init(Cipher.ENCRYPT_MODE, secret);
-		}
-		
-		AlgorithmParameters params = cipher.getParameters();
-		byte[] encryptedTextBytes = cipher.doFinal(rawPass.getBytes(UTF_8));
-		
-		return encodeResult(saltBytes, params, encryptedTextBytes);
-		//return new Base64().encodeToString(buffer);
+		return PasswordCodec.forSecret(secretPasswordKey).encode(rawPass, salt, createdDate);
 	}
 	
 	public String decode(String encryptedText, String salt, Date createdDate) throws Exception {
-		SecretKey secretKey = generateSecretKey(salt);
-		
-		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-		// strip off the salt and iv
-		ByteBuffer buffer = ByteBuffer.wrap(new Base64().decode(encryptedText));
-		buffer.get(saltBytes, 0, saltBytes.length);
-		byte[] ivBytes1 = new byte[cipher.getBlockSize()];
-		buffer.get(ivBytes1, 0, ivBytes1.length);
-		byte[] encryptedTextBytes = new byte[buffer.capacity() - saltBytes.length - ivBytes1.length];
-		buffer.get(encryptedTextBytes);
-		// Deriving the key
-		SecretKeySpec secret = new SecretKeySpec(secretKey.getEncoded(), AES_ALGORITHM);
-		cipher.init(Cipher.DECRYPT_MODE, secret, new IvParameterSpec(ivBytes1));
-		byte[] decryptedTextBytes = null;
-		try {
-			decryptedTextBytes = cipher.doFinal(encryptedTextBytes);
-		} catch (IllegalBlockSizeException | BadPaddingException e) {
-			System.err.println("Error while decrypt ::"+ e.getMessage());
-		}
-		return new String(decryptedTextBytes);
+		return PasswordCodec.forSecret(secretPasswordKey).decode(encryptedText, salt, createdDate);
 	}
 	
 	public boolean matchesDecoded(String encPass, String salt, String rawPass) throws Exception {
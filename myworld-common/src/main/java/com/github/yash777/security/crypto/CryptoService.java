@@ -8,10 +8,7 @@ import java.util.Date;
 import java.util.Iterator;
 
 import javax.crypto.Cipher;
-import javax.crypto.SecretKey;
-import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
 
 public class CryptoService {
@@ -53,11 +50,9 @@ public class CryptoService {
 	public String encode(String rawPass, String salt, Date createdDate) throws Exception {
         byte[] saltBytes = salt.getBytes();
         String initVector = getDateString(createdDate);
-        // Derive the key using PBKDF2
-        SecretKeyFactory factory = SecretKeyFactory.getInstance(EncoderConstants.PBKDF2_ALGORITHM);
-        PBEKeySpec spec = new PBEKeySpec(key.toCharArray(), saltBytes, EncoderConstants.ITERATIONS, EncoderConstants.KEY_LENGTH);
-        SecretKey secretKey = factory.generateSecret(spec);
-        SecretKeySpec secret = new SecretKeySpec(secretKey.getEncoded(), EncoderConstants.AES_ALGORITHM);
+        // Derive the key using PBKDF2, once per salt (see DerivedKeyCache)
+        SecretKeySpec secret = DerivedKeyCache.SHARED.derive(EncoderConstants.PBKDF2_ALGORITHM, key.toCharArray(), saltBytes,
+                EncoderConstants.ITERATIONS, EncoderConstants.KEY_LENGTH, EncoderConstants.AES_ALGORITHM);
         // Encrypt the raw password
         byte[] ivBytes = new byte[16];
    		System.arraycopy(initVector.getBytes(EncoderConstants.UTF_8), 0, ivBytes, 0, 16);
@@ -0,0 +1,182 @@
+package com.github.yash777.security.crypto;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Bounded, expiring cache of PBKDF2 derived keys, keyed by (algorithm, secret, salt, iterations, key length).
+ *
+ * <p>PBKDF2 is slow on purpose, and {@link CipherKeyEncryptDecrypt} and {@link CryptoService} ran it on every encode,
+ * decode and match. With the cache a repeated verification for the same user skips the derivation, while the first
+ * one for a salt still pays the full iteration count.</p>
+ *
+ * <ul>
+ *     <li>Entries are looked up by a SHA-256 fingerprint of the parameters, the secret itself is not kept as a key</li>
+ *     <li>At most {@code maxEntries} keys, least recently used first out; an entry expires {@code timeToLive} after
+ *     the derivation</li>
+ *     <li>The key bytes of an evicted, expired or invalidated entry are overwritten with zeros</li>
+ *     <li>{@link #hitCount()}, {@link #missCount()} and {@link #evictionCount()} for monitoring</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * SecretKeySpec key = DerivedKeyCache.SHARED.derive("PBKDF2WithHmacSHA1", secret, salt, 1024, 128, "AES");
+ * }</pre>
+ */
+public final class DerivedKeyCache {
+	/** Cache used by {@link CipherKeyEncryptDecrypt} and {@link CryptoService}. */
+	public static final DerivedKeyCache SHARED = new DerivedKeyCache(1024, Duration.ofMinutes(10));
+
+	private final long timeToLiveNanos;
+	private final LinkedHashMap<ByteBuffer, Entry> entries;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * @param maxEntries maximum number of keys held
+	 * @param timeToLive how long a derived key may be served from the cache
+	 */
+	public DerivedKeyCache(int maxEntries, Duration timeToLive) {
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+		}
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.entries = new LinkedHashMap<ByteBuffer, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Entry> eldest) {
+				if (size() <= maxEntries) {
+					return false;
+				}
+				eldest.getValue().clear();
+				evictions++;
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Returns the key derived by {@code algorithm} from the secret, either from the cache or freshly derived. The
+	 * derivation itself runs outside the lock, so a slow first derivation does not block hits for other users.
+	 *
+	 * @param algorithm    {@link SecretKeyFactory} algorithm, e.g. {@code PBKDF2WithHmacSHA1}
+	 * @param secret       the password or master secret (not kept, not cleared)
+	 * @param salt         the salt
+	 * @param iterations   iteration count
+	 * @param keyLength    key length in bits
+	 * @param keyAlgorithm algorithm of the returned key, e.g. {@code AES}
+	 * @return a new {@link SecretKeySpec} holding a copy of the derived key
+	 */
+	public SecretKeySpec derive(String algorithm, char[] secret, byte[] salt, int iterations, int keyLength, String keyAlgorithm)
+			throws GeneralSecurityException {
+		ByteBuffer fingerprint = fingerprint(algorithm, secret, salt, iterations, keyLength);
+		synchronized (this) {
+			Entry entry = entries.get(fingerprint);
+			if (entry != null) {
+				if (System.nanoTime() - entry.createdNanos < timeToLiveNanos) {
+					hits++;
+					return new SecretKeySpec(entry.key, keyAlgorithm);
+				}
+				entries.remove(fingerprint);
+				entry.clear();
+				evictions++;
+			}
+			misses++;
+		}
+
+		PBEKeySpec spec = new PBEKeySpec(secret, salt, iterations, keyLength);
+		byte[] key;
+		try {
+			SecretKey derived = SecretKeyFactory.getInstance(algorithm).generateSecret(spec);
+			key = derived.getEncoded();
+		} finally {
+			spec.clearPassword();
+		}
+		SecretKeySpec result = new SecretKeySpec(key, keyAlgorithm);
+		synchronized (this) {
+			Entry previous = entries.put(fingerprint, new Entry(key, System.nanoTime()));
+			if (previous != null) { // derived concurrently by another thread
+				previous.clear();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Drops all entries and clears their key bytes.
+	 */
+	public synchronized void invalidateAll() {
+		for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+			it.next().clear();
+			it.remove();
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/** Number of calls served from the cache. */
+	public synchronized long hitCount() {
+		return hits;
+	}
+
+	/** Number of calls that ran the key derivation. */
+	public synchronized long missCount() {
+		return misses;
+	}
+
+	/** Number of entries dropped because the cache was full or the entry had expired. */
+	public synchronized long evictionCount() {
+		return evictions;
+	}
+
+	private static ByteBuffer fingerprint(String algorithm, char[] secret, byte[] salt, int iterations, int keyLength)
+			throws GeneralSecurityException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		ByteBuffer secretBytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(secret));
+		try {
+			// length prefixes keep ("ab", "c") and ("a", "bc") apart
+			update(digest, ByteBuffer.wrap(algorithm.getBytes(StandardCharsets.UTF_8)));
+			update(digest, secretBytes.duplicate());
+			update(digest, ByteBuffer.wrap(salt));
+			digest.update(ByteBuffer.allocate(8).putInt(iterations).putInt(keyLength).array());
+		} finally {
+			Arrays.fill(secretBytes.array(), (byte) 0);
+		}
+		return ByteBuffer.wrap(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, ByteBuffer bytes) {
+		digest.update(ByteBuffer.allocate(4).putInt(bytes.remaining()).array());
+		digest.update(bytes);
+	}
+
+	private static final class Entry {
+		final byte[] key;
+		final long createdNanos;
+
+		Entry(byte[] key, long createdNanos) {
+			this.key = key;
+			this.createdNanos = createdNanos;
+		}
+
+		void clear() {
+			Arrays.fill(key, (byte) 0);
+		}
+	}
+}
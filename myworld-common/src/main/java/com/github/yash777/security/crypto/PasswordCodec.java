@@ -0,0 +1,154 @@
+package com.github.yash777.security.crypto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.github.yash777.time.DateFormatCache;
+
+/**
+ * Immutable, thread-safe form of {@link CipherKeyEncryptDecrypt} for one secret: the same PBKDF2 + AES/CBC
+ * encoding ({@code salt | iv | ciphertext}, Base64), but without the static {@code secretPasswordKey} and the
+ * shared {@code saltBytes} field, so concurrent requests with different secrets cannot corrupt each other.
+ *
+ * <p>A codec holds only final state. The derived keys come from {@link DerivedKeyCache#SHARED} and the
+ * {@link Cipher} from the per-thread pool of {@link AesCryptoManager}, so encode and decode need no lock.</p>
+ *
+ * <pre>{@code
+ * PasswordCodec codec = PasswordCodec.forSecret(customChars);
+ * String encoded = codec.encode("Yash@001", "yash@gmail.com", createdDate);
+ * String raw     = codec.decode(encoded, "yash@gmail.com", createdDate);
+ * }</pre>
+ */
+public final class PasswordCodec {
+	/** Codecs are cached for at most this many secrets, least recently used first out. */
+	static final int MAX_CACHED_SECRETS = 256;
+	/** Codecs by SHA-256 fingerprint of the secret, like {@link DerivedKeyCache}: the secret is not kept as a key. */
+	private static final Map<ByteBuffer, PasswordCodec> BY_SECRET = new LinkedHashMap<ByteBuffer, PasswordCodec>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ByteBuffer, PasswordCodec> eldest) {
+			return size() > MAX_CACHED_SECRETS;
+		}
+	};
+
+	private static final String IV_DATE_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+	private static final int IV_LENGTH = 16;
+
+	private final char[] secret;
+
+	private PasswordCodec(String secret) {
+		this.secret = secret.toCharArray();
+	}
+
+	/**
+	 * Returns the codec for the secret, creating it on first use.
+	 *
+	 * @param secret the master secret the keys are derived from, not blank
+	 */
+	public static PasswordCodec forSecret(String secret) {
+		if (secret == null || secret.isEmpty()) {
+			throw new IllegalArgumentException("Secret must not be empty");
+		}
+		ByteBuffer fingerprint = fingerprint(secret);
+		synchronized (BY_SECRET) {
+			return BY_SECRET.computeIfAbsent(fingerprint, f -> new PasswordCodec(secret));
+		}
+	}
+
+	static int cachedSecrets() {
+		synchronized (BY_SECRET) {
+			return BY_SECRET.size();
+		}
+	}
+
+	/**
+	 * Encrypts the password. With a {@code createdDate} the IV is taken from the date and the result is stable,
+	 * without one a random IV is used.
+	 *
+	 * @param rawPass     the plaintext password
+	 * @param salt        salt for the key derivation (e.g. the user name), also stored in front of the result
+	 * @param createdDate date the IV is derived from, or {@code null}
+	 * @return Base64 of {@code salt | iv | ciphertext}
+	 */
+	public String encode(String rawPass, String salt, Date createdDate) throws GeneralSecurityException {
+		byte[] saltBytes = salt.getBytes();
+		SecretKeySpec key = key(saltBytes);
+		Cipher cipher = AesCryptoManager.threadCipher(CipherKeyEncryptDecrypt.TRANSFORMATION);
+		if (createdDate != null) {
+			cipher.init(Cipher.ENCRYPT_MODE, key, ivFrom(createdDate));
+		} else {
+			cipher.init(Cipher.ENCRYPT_MODE, key);
+		}
+		byte[] iv = cipher.getIV();
+		byte[] plain = rawPass.getBytes(StandardCharsets.UTF_8);
+		byte[] out = new byte[saltBytes.length + iv.length + cipher.getOutputSize(plain.length)];
+		System.arraycopy(saltBytes, 0, out, 0, saltBytes.length);
+		System.arraycopy(iv, 0, out, saltBytes.length, iv.length);
+		int end = saltBytes.length + iv.length + cipher.doFinal(plain, 0, plain.length, out, saltBytes.length + iv.length);
+		return Base64.getEncoder().encodeToString(end == out.length ? out : Arrays.copyOf(out, end));
+	}
+
+	/**
+	 * Decrypts a value produced by {@link #encode(String, String, Date)} with the same secret and salt. The IV is
+	 * read from the value, so {@code createdDate} is not needed and only kept for symmetry.
+	 */
+	public String decode(String encryptedText, String salt, Date createdDate) throws GeneralSecurityException {
+		byte[] saltBytes = salt.getBytes();
+		byte[] data = Base64.getMimeDecoder().decode(encryptedText);
+		int offset = saltBytes.length + IV_LENGTH;
+		if (data.length < offset) {
+			throw new GeneralSecurityException("Encoded value is too short");
+		}
+		Cipher cipher = AesCryptoManager.threadCipher(CipherKeyEncryptDecrypt.TRANSFORMATION);
+		cipher.init(Cipher.DECRYPT_MODE, key(saltBytes), new IvParameterSpec(data, saltBytes.length, IV_LENGTH));
+		return new String(cipher.doFinal(data, offset, data.length - offset), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Decodes {@code encPass} and compares it with the raw password.
+	 */
+	public boolean matchesDecoded(String encPass, String salt, String rawPass) throws GeneralSecurityException {
+		return decode(encPass, salt, null).equals(rawPass);
+	}
+
+	/**
+	 * Encodes the raw password with the date based IV and compares it with {@code encPass}.
+	 */
+	public boolean matchesEncoded(String encPass, String salt, Date createdDate, String rawPass) throws GeneralSecurityException {
+		return encode(rawPass, salt, createdDate).equals(encPass);
+	}
+
+	private SecretKeySpec key(byte[] saltBytes) throws GeneralSecurityException {
+		return DerivedKeyCache.SHARED.derive(CipherKeyEncryptDecrypt.PBKDF2_ALGORITHM, secret, saltBytes,
+				CipherKeyEncryptDecrypt.ITERATIONS, CipherKeyEncryptDecrypt.KEY_LENGTH, CipherKeyEncryptDecrypt.AES_ALGORITHM);
+	}
+
+	private static ByteBuffer fingerprint(String secret) {
+		byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+		try {
+			return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // every JRE has SHA-256
+		} finally {
+			Arrays.fill(bytes, (byte) 0);
+		}
+	}
+
+	private static IvParameterSpec ivFrom(Date createdDate) {
+		byte[] source = DateFormatCache.format(createdDate, IV_DATE_PATTERN).getBytes(StandardCharsets.UTF_8);
+		return new IvParameterSpec(Arrays.copyOf(source, IV_LENGTH));
+	}
+}
@@ -0,0 +1,320 @@
+package com.github.yash777.security.crypto;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Segmented AES-GCM stream format behind the stream and file methods of {@link AesCryptoManager}.
+ *
+ * <pre>
+ * header  : magic "AGS2" (4) | segment size (4, big endian) | random salt (32) | random nonce prefix (7)
+ * key     : HKDF-SHA256(master key, salt, info = header), as long as the master key
+ * segment : AES-GCM(plaintext segment) | tag (16)      repeated, only the last segment may be shorter
+ * nonce   : nonce prefix (7) | segment index (4, big endian) | 1 if last segment else 0 (1)
+ * </pre>
+ *
+ * <p>Segments are encrypted under a key derived for the stream, not under the master key, so the random nonces
+ * of many streams never share one key; the 7-byte prefix alone would reach the GCM limit for random nonces after
+ * a few thousand streams.</p>
+ *
+ * <p>Every segment is encrypted on its own with its own nonce and tag, and the header is authenticated as AAD
+ * of every segment. Because the index and the last-segment flag are part of the nonce, reordered, dropped or
+ * truncated segments fail the tag check. Plaintext of a segment is only released after its tag is verified.</p>
+ */
+final class SegmentedGcm {
+	static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+	/** Upper bound for the segment size, also when read from an untrusted header. */
+	static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+	static final int HEADER_LENGTH = 4 + 4 + 32 + 7;
+
+	private static final int MAGIC = 0x41475332; // "AGS2"
+	private static final int SALT_LENGTH = 32;
+	private static final int NONCE_PREFIX_LENGTH = 7;
+	private static final int NONCE_LENGTH = 12;
+	private static final int TAG_LENGTH = 16;
+	/** Segments per parallel file task, each task allocates its buffers once. */
+	private static final int SEGMENTS_PER_TASK = 16;
+	private static final String TRANSFORMATION = AesCryptoManager.CipherMode.GCM.transformation;
+	private static final String HKDF_MAC = "HmacSHA256";
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private SegmentedGcm() {}
+
+	/** Parsed stream header. */
+	private static final class Header {
+		final byte[] bytes;
+		final int segmentSize;
+		final SecretKey key;
+
+		Header(byte[] bytes, SecretKey masterKey) throws GeneralSecurityException {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			if (buffer.getInt() != MAGIC) {
+				throw new GeneralSecurityException("Not a segmented AES-GCM stream");
+			}
+			this.bytes = bytes;
+			this.segmentSize = buffer.getInt();
+			if (segmentSize <= 0 || segmentSize > MAX_SEGMENT_SIZE) {
+				throw new GeneralSecurityException("Invalid segment size " + segmentSize);
+			}
+			this.key = deriveKey(masterKey, bytes);
+		}
+
+		static Header create(int segmentSize, SecretKey masterKey) throws GeneralSecurityException {
+			if (segmentSize <= 0 || segmentSize > MAX_SEGMENT_SIZE) {
+				throw new IllegalArgumentException("Invalid segment size " + segmentSize);
+			}
+			byte[] saltAndPrefix = new byte[SALT_LENGTH + NONCE_PREFIX_LENGTH];
+			RANDOM.nextBytes(saltAndPrefix);
+			return new Header(ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).putInt(segmentSize).put(saltAndPrefix).array(), masterKey);
+		}
+
+		int cipherSegmentSize() {
+			return segmentSize + TAG_LENGTH;
+		}
+
+		GCMParameterSpec nonce(long index, boolean last) {
+			if (index > 0xFFFF_FFFFL) {
+				throw new IllegalStateException("Too many segments");
+			}
+			byte[] nonce = new byte[NONCE_LENGTH];
+			System.arraycopy(bytes, 8 + SALT_LENGTH, nonce, 0, NONCE_PREFIX_LENGTH);
+			nonce[7] = (byte) (index >>> 24);
+			nonce[8] = (byte) (index >>> 16);
+			nonce[9] = (byte) (index >>> 8);
+			nonce[10] = (byte) index;
+			nonce[11] = (byte) (last ? 1 : 0);
+			return new GCMParameterSpec(TAG_LENGTH * 8, nonce);
+		}
+
+		int seal(Cipher cipher, long index, boolean last, byte[] in, int length, byte[] out) throws GeneralSecurityException {
+			cipher.init(Cipher.ENCRYPT_MODE, key, nonce(index, last));
+			cipher.updateAAD(bytes);
+			return cipher.doFinal(in, 0, length, out, 0);
+		}
+
+		int open(Cipher cipher, long index, boolean last, byte[] in, int length, byte[] out) throws GeneralSecurityException {
+			if (length < TAG_LENGTH) {
+				throw new GeneralSecurityException("Truncated segment " + index);
+			}
+			cipher.init(Cipher.DECRYPT_MODE, key, nonce(index, last));
+			cipher.updateAAD(bytes);
+			return cipher.doFinal(in, 0, length, out, 0);
+		}
+	}
+
+	/**
+	 * HKDF-SHA256 (RFC 5869) of the master key with the salt of the header, bound to the whole header as info.
+	 * One expand block suffices for keys of up to 32 bytes.
+	 */
+	static SecretKey deriveKey(SecretKey masterKey, byte[] header) throws GeneralSecurityException {
+		byte[] master = masterKey.getEncoded();
+		Mac mac = Mac.getInstance(HKDF_MAC);
+		mac.init(new SecretKeySpec(header, 8, SALT_LENGTH, HKDF_MAC));
+		byte[] prk = mac.doFinal(master);
+		mac.init(new SecretKeySpec(prk, HKDF_MAC));
+		mac.update(header);
+		byte[] okm = mac.doFinal(new byte[] {1});
+		try {
+			return new SecretKeySpec(okm, 0, master.length, "AES");
+		} finally {
+			Arrays.fill(master, (byte) 0);
+			Arrays.fill(prk, (byte) 0);
+			Arrays.fill(okm, (byte) 0);
+		}
+	}
+
+	static void encrypt(InputStream in, OutputStream out, SecretKey key, int segmentSize) throws IOException, GeneralSecurityException {
+		Header header = Header.create(segmentSize, key);
+		out.write(header.bytes);
+		Cipher cipher = AesCryptoManager.threadCipher(TRANSFORMATION);
+		byte[] current = new byte[segmentSize];
+		byte[] next = new byte[segmentSize];
+		byte[] sealed = new byte[header.cipherSegmentSize()];
+		int length = in.readNBytes(current, 0, segmentSize);
+		for (long index = 0; ; index++) {
+			// a segment is the last one if nothing follows it, so always read one segment ahead
+			int nextLength = length == segmentSize ? in.readNBytes(next, 0, segmentSize) : 0;
+			boolean last = nextLength == 0;
+			out.write(sealed, 0, header.seal(cipher, index, last, current, length, sealed));
+			if (last) {
+				return;
+			}
+			byte[] swap = current;
+			current = next;
+			next = swap;
+			length = nextLength;
+		}
+	}
+
+	static void decrypt(InputStream in, OutputStream out, SecretKey key) throws IOException, GeneralSecurityException {
+		Header header = new Header(readHeader(in), key);
+		Cipher cipher = AesCryptoManager.threadCipher(TRANSFORMATION);
+		int cipherSegmentSize = header.cipherSegmentSize();
+		byte[] current = new byte[cipherSegmentSize];
+		byte[] next = new byte[cipherSegmentSize];
+		byte[] opened = new byte[header.segmentSize];
+		int length = in.readNBytes(current, 0, cipherSegmentSize);
+		for (long index = 0; ; index++) {
+			int nextLength = length == cipherSegmentSize ? in.readNBytes(next, 0, cipherSegmentSize) : 0;
+			boolean last = nextLength == 0;
+			out.write(opened, 0, header.open(cipher, index, last, current, length, opened));
+			if (last) {
+				return;
+			}
+			byte[] swap = current;
+			current = next;
+			next = swap;
+			length = nextLength;
+		}
+	}
+
+	static void encryptFile(File source, File target, SecretKey key, int segmentSize) throws IOException, GeneralSecurityException {
+		Header header = Header.create(segmentSize, key);
+		try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			long size = in.size();
+			long segments = Math.max(1, (size + segmentSize - 1) / segmentSize);
+			writeFully(out, ByteBuffer.wrap(header.bytes), 0);
+			forEachSegment(segments, (from, to) -> {
+				Cipher cipher = AesCryptoManager.threadCipher(TRANSFORMATION);
+				byte[] plain = new byte[segmentSize];
+				byte[] sealed = new byte[header.cipherSegmentSize()];
+				for (long index = from; index < to; index++) {
+					int length = (int) Math.min(segmentSize, size - index * segmentSize);
+					readFully(in, ByteBuffer.wrap(plain, 0, length), index * segmentSize);
+					int sealedLength = header.seal(cipher, index, index == segments - 1, plain, length, sealed);
+					writeFully(out, ByteBuffer.wrap(sealed, 0, sealedLength), HEADER_LENGTH + index * header.cipherSegmentSize());
+				}
+			});
+		}
+	}
+
+	static void decryptFile(File source, File target, SecretKey key) throws IOException, GeneralSecurityException {
+		try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			Header header = readHeader(in, key);
+			long cipherSize = in.size() - HEADER_LENGTH;
+			int cipherSegmentSize = header.cipherSegmentSize();
+			long segments = segmentCount(header, cipherSize);
+			forEachSegment(segments, (from, to) -> {
+				Cipher cipher = AesCryptoManager.threadCipher(TRANSFORMATION);
+				byte[] sealed = new byte[cipherSegmentSize];
+				byte[] opened = new byte[header.segmentSize];
+				for (long index = from; index < to; index++) {
+					int length = (int) Math.min(cipherSegmentSize, cipherSize - index * cipherSegmentSize);
+					readFully(in, ByteBuffer.wrap(sealed, 0, length), HEADER_LENGTH + index * cipherSegmentSize);
+					int openedLength = header.open(cipher, index, index == segments - 1, sealed, length, opened);
+					writeFully(out, ByteBuffer.wrap(opened, 0, openedLength), index * header.segmentSize);
+				}
+			});
+		}
+	}
+
+	static byte[] decryptSegment(File source, SecretKey key, long index) throws IOException, GeneralSecurityException {
+		try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+			Header header = readHeader(in, key);
+			long cipherSize = in.size() - HEADER_LENGTH;
+			int cipherSegmentSize = header.cipherSegmentSize();
+			long segments = segmentCount(header, cipherSize);
+			if (index < 0 || index >= segments) {
+				throw new IndexOutOfBoundsException("Segment " + index + " of " + segments);
+			}
+			int length = (int) Math.min(cipherSegmentSize, cipherSize - index * cipherSegmentSize);
+			byte[] sealed = new byte[length];
+			readFully(in, ByteBuffer.wrap(sealed), HEADER_LENGTH + index * cipherSegmentSize);
+			byte[] opened = new byte[Math.max(0, length - TAG_LENGTH)];
+			header.open(AesCryptoManager.threadCipher(TRANSFORMATION), index, index == segments - 1, sealed, length, opened);
+			return opened;
+		}
+	}
+
+	private static long segmentCount(Header header, long cipherSize) throws GeneralSecurityException {
+		if (cipherSize < TAG_LENGTH) {
+			throw new GeneralSecurityException("Truncated stream");
+		}
+		return (cipherSize + header.cipherSegmentSize() - 1) / header.cipherSegmentSize();
+	}
+
+	private static byte[] readHeader(InputStream in) throws IOException {
+		byte[] bytes = new byte[HEADER_LENGTH];
+		if (in.readNBytes(bytes, 0, HEADER_LENGTH) != HEADER_LENGTH) {
+			throw new EOFException("Missing segmented AES-GCM header");
+		}
+		return bytes;
+	}
+
+	private static Header readHeader(FileChannel in, SecretKey key) throws IOException, GeneralSecurityException {
+		byte[] bytes = new byte[HEADER_LENGTH];
+		readFully(in, ByteBuffer.wrap(bytes), 0);
+		return new Header(bytes, key);
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position);
+			if (read < 0) {
+				throw new EOFException("File ended at " + position);
+			}
+			position += read;
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	private interface SegmentTask {
+		void run(long from, long to) throws IOException, GeneralSecurityException;
+	}
+
+	/**
+	 * Runs the task over {@code [0, segments)} in ranges of {@value #SEGMENTS_PER_TASK} segments on the common
+	 * {@link java.util.concurrent.ForkJoinPool}, rethrowing the first failure with its checked type.
+	 */
+	private static void forEachSegment(long segments, SegmentTask task) throws IOException, GeneralSecurityException {
+		long tasks = (segments + SEGMENTS_PER_TASK - 1) / SEGMENTS_PER_TASK;
+		try {
+			LongStream.range(0, tasks).parallel().forEach(t -> {
+				try {
+					task.run(t * SEGMENTS_PER_TASK, Math.min(segments, (t + 1) * SEGMENTS_PER_TASK));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				} catch (GeneralSecurityException e) {
+					throw new SegmentException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} catch (SegmentException e) {
+			throw (GeneralSecurityException) e.getCause();
+		}
+	}
+
+	/** Carries a {@link GeneralSecurityException} out of a parallel task. */
+	private static final class SegmentException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		SegmentException(GeneralSecurityException cause) {
+			super(cause);
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package com.github.yash777.time;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk versions of the {@link DateUtil} period helpers, working on {@code long[]} epoch-millis arrays.
+ *
+ * <p>Each method gives, element by element, the same result as the scalar {@code DateUtil} method run with
+ * the given zone as JVM default zone, but without a {@code Date}, {@code Calendar} or {@code LocalDateTime}
+ * per element: local dates are computed with civil-calendar arithmetic on top of a {@link ZoneOffsetTable}.
+ * Only the (rare) values within a day of a DST transition, or outside 1900..2100, take the scalar path.</p>
+ *
+ * <p>Large arrays are split in chunks of {@value #CHUNK_SIZE} elements and processed on the common
+ * {@link java.util.concurrent.ForkJoinPool}. The output array may be the input array.</p>
+ *
+ * <pre>{@code
+ * long[] periodEnds = new long[orderDates.length];
+ * BulkDateUtil.addMonths(orderDates, periodEnds, 1, TimeZone.getTimeZone("Asia/Kolkata"));
+ * }</pre>
+ */
+public final class BulkDateUtil {
+	static final int CHUNK_SIZE = 1 << 14;
+
+	private static final long MILLIS_PER_DAY = ZoneOffsetTable.MILLIS_PER_DAY;
+
+	private BulkDateUtil() {}
+
+	/**
+	 * Bulk {@link DateUtil#addMonths(java.util.Date, int)}: adds the months and moves to the last day of that month.
+	 */
+	public static void addMonths(long[] dates, long[] result, int months, TimeZone timeZone) {
+		checkLength(dates.length, result.length);
+		ZoneOffsetTable zone = ZoneOffsetTable.of(timeZone);
+		ZoneId zoneId = timeZone.toZoneId();
+		forEachChunk(dates.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				long date = dates[i];
+				if (!zone.covers(date)) {
+					// LocalDateTime uses ZoneRules, which only match TimeZone offsets inside the table
+					result[i] = addMonths(date, months, zoneId);
+					continue;
+				}
+				long local = date + zone.getOffset(date);
+				long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+				long millisOfDay = local - epochDay * MILLIS_PER_DAY;
+				long civil = toCivil(epochDay);
+				long monthIndex = year(civil) * 12L + (month(civil) - 1) + months;
+				long year = Math.floorDiv(monthIndex, 12);
+				int month = (int) (monthIndex - year * 12) + 1;
+				long endOfMonth = toEpochDay(year, month, lengthOfMonth(year, month));
+				long value = zone.toEpochMillis(endOfMonth * MILLIS_PER_DAY + millisOfDay);
+				result[i] = value != ZoneOffsetTable.NO_FAST_PATH ? value : addMonths(date, months, zoneId);
+			}
+		});
+	}
+
+	/**
+	 * Bulk {@link DateUtil#getStartDateOfMonth(java.util.Date)}: first day of the month, same time of day.
+	 */
+	public static void getStartDateOfMonth(long[] dates, long[] result, TimeZone timeZone) {
+		checkLength(dates.length, result.length);
+		ZoneOffsetTable zone = ZoneOffsetTable.of(timeZone);
+		forEachChunk(dates.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				long date = dates[i];
+				long local = date + zone.getOffset(date);
+				long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+				long millisOfDay = local - epochDay * MILLIS_PER_DAY;
+				long startOfMonth = epochDay - day(toCivil(epochDay)) + 1;
+				long value = zone.toEpochMillis(startOfMonth * MILLIS_PER_DAY + millisOfDay);
+				result[i] = value != ZoneOffsetTable.NO_FAST_PATH ? value : getStartDateOfMonth(date, timeZone);
+			}
+		});
+	}
+
+	/**
+	 * Bulk {@link DateUtil#updateDateWithEndTime(java.util.Date)}: sets the time to 23:59:59, keeping the milliseconds.
+	 */
+	public static void updateDateWithEndTime(long[] dates, long[] result, TimeZone timeZone) {
+		checkLength(dates.length, result.length);
+		ZoneOffsetTable zone = ZoneOffsetTable.of(timeZone);
+		forEachChunk(dates.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				long date = dates[i];
+				long value = zone.withTimeOfDay(date, 23, 59, 59);
+				result[i] = value != ZoneOffsetTable.NO_FAST_PATH ? value : updateDateWithEndTime(date, timeZone);
+			}
+		});
+	}
+
+	/**
+	 * Bulk {@link DateUtil#isDateBetweenInclusive(java.util.Date, java.util.Date, java.util.Date)}, compared by day.
+	 * The three input arrays are read element-wise.
+	 */
+	public static void isDateBetweenInclusive(long[] startDates, long[] endDates, long[] reqDates, boolean[] result, TimeZone timeZone) {
+		checkLength(startDates.length, endDates.length);
+		checkLength(startDates.length, reqDates.length);
+		checkLength(startDates.length, result.length);
+		ZoneOffsetTable zone = ZoneOffsetTable.of(timeZone);
+		forEachChunk(startDates.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				long start = zone.epochDay(startDates[i]);
+				long end = zone.epochDay(endDates[i]);
+				long req = zone.epochDay(reqDates[i]);
+				if (ZoneOffsetTable.isFourDigitYear(start) && ZoneOffsetTable.isFourDigitYear(end) && ZoneOffsetTable.isFourDigitYear(req)) {
+					result[i] = start <= req && req <= end;
+				} else {
+					result[i] = isDateBetweenInclusive(startDates[i], endDates[i], reqDates[i], timeZone);
+				}
+			}
+		});
+	}
+
+	// ---- scalar fallbacks, same code as DateUtil but with an explicit zone ----
+
+	private static long addMonths(long date, int months, ZoneId zoneId) {
+		LocalDateTime localDateTime = Instant.ofEpochMilli(date).atZone(zoneId).toLocalDateTime().plusMonths(months);
+		localDateTime = localDateTime.withDayOfMonth(localDateTime.toLocalDate().lengthOfMonth());
+		return localDateTime.atZone(zoneId).toInstant().toEpochMilli();
+	}
+
+	private static long getStartDateOfMonth(long date, TimeZone timeZone) {
+		Calendar cal = Calendar.getInstance(timeZone);
+		cal.setTimeInMillis(date);
+		cal.set(Calendar.DAY_OF_MONTH, cal.getActualMinimum(Calendar.DAY_OF_MONTH));
+		return cal.getTimeInMillis();
+	}
+
+	private static long updateDateWithEndTime(long date, TimeZone timeZone) {
+		Calendar calendar = Calendar.getInstance(timeZone);
+		calendar.setTimeInMillis(date);
+		calendar.set(Calendar.HOUR_OF_DAY, 23);
+		calendar.set(Calendar.MINUTE, 59);
+		calendar.set(Calendar.SECOND, 59);
+		return calendar.getTimeInMillis();
+	}
+
+	private static boolean isDateBetweenInclusive(long start, long end, long req, TimeZone timeZone) {
+		String pattern = DateUtil.YEAT_MONTH_DATE_FORMAT;
+		String startDay = DateFormatCache.format(new Date(start), pattern, timeZone);
+		String endDay = DateFormatCache.format(new Date(end), pattern, timeZone);
+		String reqDay = DateFormatCache.format(new Date(req), pattern, timeZone);
+		return startDay.compareTo(reqDay) <= 0 && reqDay.compareTo(endDay) <= 0;
+	}
+
+	// ---- proleptic Gregorian civil-calendar arithmetic (days-from-civil / civil-from-days) ----
+
+	/** Packs {@code year << 9 | month << 5 | day} of the epoch day, read back with {@link #year(long)}, {@link #month(long)} and {@link #day(long)}. */
+	static long toCivil(long epochDay) {
+		long z = epochDay + 719_468;
+		long era = Math.floorDiv(z, 146_097);
+		long dayOfEra = z - era * 146_097;
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		long mp = (5 * dayOfYear + 2) / 153;
+		long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+		long month = mp < 10 ? mp + 3 : mp - 9;
+		long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+		return year << 9 | month << 5 | day;
+	}
+
+	static long toEpochDay(long year, int month, int day) {
+		year -= month <= 2 ? 1 : 0;
+		long era = Math.floorDiv(year, 400);
+		long yearOfEra = year - era * 400;
+		long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146_097 + dayOfEra - 719_468;
+	}
+
+	static long year(long civil) {
+		return civil >> 9;
+	}
+
+	static int month(long civil) {
+		return (int) (civil >> 5) & 0xF;
+	}
+
+	static int day(long civil) {
+		return (int) civil & 0x1F;
+	}
+
+	static int lengthOfMonth(long year, int month) {
+		switch (month) {
+			case 2:
+				return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	private static void checkLength(int expected, int actual) {
+		if (actual < expected) {
+			throw new IllegalArgumentException("Array length " + actual + " is less than " + expected);
+		}
+	}
+
+	private interface RangeTask {
+		void run(int from, int to);
+	}
+
+	private static void forEachChunk(int length, RangeTask task) {
+		if (length <= CHUNK_SIZE) {
+			task.run(0, length);
+			return;
+		}
+		int chunks = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		IntStream.range(0, chunks).parallel()
+				.forEach(chunk -> task.run(chunk * CHUNK_SIZE, Math.min(length, (chunk + 1) * CHUNK_SIZE)));
+	}
+}
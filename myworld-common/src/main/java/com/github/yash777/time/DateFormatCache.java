@@ -0,0 +1,245 @@
+package com.github.yash777.time;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process wide cache of date formatters, keyed by <b>pattern</b>, <b>zone</b> and <b>locale</b>.
+ *
+ * <p>{@link SimpleDateFormat} is neither cheap to build nor thread-safe, so creating one per call
+ * (as {@link DateUtil} used to do) costs a pattern compile, a {@link java.util.Calendar} and a
+ * {@link java.text.DateFormatSymbols} lookup every time. This class keeps:</p>
+ * <ul>
+ *   <li><b>Formatting</b> - immutable {@link DateTimeFormatter} instances shared by all threads.
+ *   Only patterns whose output is identical under both APIs are compiled to a {@code DateTimeFormatter}
+ *   (see {@link #isPortablePattern(String)}), everything else falls back to the per-thread cache below.</li>
+ *   <li><b>Parsing</b> - one {@link SimpleDateFormat} per thread and pattern, so the lenient parsing
+ *   rules callers already depend on ({@code "2024-1-5"}, month roll-over, trailing text) stay unchanged.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * String day = DateFormatCache.format(new Date(), "yyyy-MM-dd");
+ * Date date  = DateFormatCache.parse("2024-02-29", "yyyy-MM-dd");
+ * }</pre>
+ */
+public final class DateFormatCache {
+
+	/** pattern -> zone -> locale -> formatter. Nested maps keep the hot lookup free of key objects. */
+	private static final ConcurrentMap<String, ConcurrentMap<ZoneId, ConcurrentMap<Locale, DateTimeFormatter>>> FORMATTERS
+			= new ConcurrentHashMap<>();
+
+	/** Per-thread {@link SimpleDateFormat} instances, used for parsing and non portable patterns. */
+	private static final ThreadLocal<Map<String, LegacyFormat>> LEGACY_FORMATS = ThreadLocal.withInitial(HashMap::new);
+
+	private DateFormatCache() {}
+
+	/**
+	 * Formats the date with the given pattern in the JVM default zone and locale.
+	 *
+	 * @param date    the date to format, must not be null
+	 * @param pattern a {@link SimpleDateFormat} pattern
+	 * @return the formatted date
+	 * @throws IllegalArgumentException if the pattern is invalid
+	 */
+	public static String format(Date date, String pattern) {
+		return format(date, pattern, ZoneOffsetTable.systemDefault(), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	public static String format(Date date, String pattern, ZoneId zone) {
+		return format(date, pattern, ZoneOffsetTable.of(zone), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	public static String format(Date date, String pattern, Locale locale) {
+		return format(date, pattern, ZoneOffsetTable.systemDefault(), locale);
+	}
+
+	public static String format(Date date, String pattern, TimeZone zone) {
+		return format(date, pattern, ZoneOffsetTable.of(zone), Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * Formats with a zone resolved through the {@link ZoneOffsetTable} caches, without a zone lookup per call.
+	 */
+	public static String format(Date date, String pattern, ZoneOffsetTable zone) {
+		return format(date, pattern, zone, Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * The shared {@code DateTimeFormatter} is only used where the zone's {@link ZoneOffsetTable} covers the
+	 * instant: outside of it (before 1900, or in the few zones whose {@code TimeZone} and {@code ZoneRules}
+	 * disagree) SimpleDateFormat's offsets are kept.
+	 */
+	public static String format(Date date, String pattern, ZoneOffsetTable zone, Locale locale) {
+		if (zone.covers(date.getTime())) {
+			DateTimeFormatter formatter = getFormatter(pattern, zone.getZoneId(), locale);
+			if (formatter != null) {
+				return formatter.format(date.toInstant());
+			}
+		}
+		return legacyFormat(pattern, zone.getTimeZone(), locale, true).format(date);
+	}
+
+	/**
+	 * Parses the text with the given pattern in the JVM default zone and locale, using the same
+	 * lenient rules as {@code new SimpleDateFormat(pattern).parse(text)}.
+	 *
+	 * @param text    the text to parse
+	 * @param pattern a {@link SimpleDateFormat} pattern
+	 * @return the parsed date
+	 * @throws ParseException if the beginning of the text cannot be parsed
+	 */
+	public static Date parse(String text, String pattern) throws ParseException {
+		return parse(text, pattern, TimeZone.getDefault(), Locale.getDefault(Locale.Category.FORMAT), true);
+	}
+
+	public static Date parse(String text, String pattern, boolean lenient) throws ParseException {
+		return parse(text, pattern, TimeZone.getDefault(), Locale.getDefault(Locale.Category.FORMAT), lenient);
+	}
+
+	public static Date parse(String text, String pattern, TimeZone zone, Locale locale, boolean lenient) throws ParseException {
+		return legacyFormat(pattern, zone, locale, lenient).parse(text);
+	}
+
+	/**
+	 * Exception free parse with the per-thread {@link SimpleDateFormat} of the pattern (JVM default zone and locale).
+	 *
+	 * @return the parsed date, or {@code null} with the error index set on the position
+	 * @see SimpleDateFormat#parse(String, ParsePosition)
+	 */
+	public static Date parse(String text, String pattern, ParsePosition position) {
+		return legacyFormat(pattern, TimeZone.getDefault(), Locale.getDefault(Locale.Category.FORMAT), true).parse(text, position);
+	}
+
+	/**
+	 * Returns the shared {@link DateTimeFormatter} for the pattern, zone and locale, or {@code null}
+	 * when the pattern cannot be expressed by {@code DateTimeFormatter} with identical output.
+	 */
+	static DateTimeFormatter getFormatter(String pattern, ZoneId zone, Locale locale) {
+		ConcurrentMap<ZoneId, ConcurrentMap<Locale, DateTimeFormatter>> zones = FORMATTERS.get(pattern);
+		if (zones == null) {
+			if (!isPortablePattern(pattern)) {
+				return null;
+			}
+			zones = FORMATTERS.computeIfAbsent(pattern, p -> new ConcurrentHashMap<>());
+		}
+		ConcurrentMap<Locale, DateTimeFormatter> locales = zones.get(zone);
+		if (locales == null) {
+			locales = zones.computeIfAbsent(zone, z -> new ConcurrentHashMap<>());
+		}
+		DateTimeFormatter formatter = locales.get(locale);
+		if (formatter == null) {
+			formatter = locales.computeIfAbsent(locale, l ->
+					new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(l).withZone(zone));
+		}
+		return formatter;
+	}
+
+	private static SimpleDateFormat legacyFormat(String pattern, TimeZone zone, Locale locale, boolean lenient) {
+		Map<String, LegacyFormat> formats = LEGACY_FORMATS.get();
+		LegacyFormat legacy = formats.get(pattern);
+		if (legacy == null || !legacy.locale.equals(locale)) {
+			legacy = new LegacyFormat(new SimpleDateFormat(pattern, locale), locale);
+			formats.put(pattern, legacy);
+		}
+		SimpleDateFormat sdf = legacy.format;
+		if (!sdf.getTimeZone().getID().equals(zone.getID())) {
+			sdf.setTimeZone(zone);
+		}
+		sdf.setLenient(lenient);
+		return sdf;
+	}
+
+	/**
+	 * Checks whether {@link SimpleDateFormat} and {@link DateTimeFormatter} produce the same output for
+	 * the pattern. The letters differ in meaning across the two APIs (for ex: {@code u} is day-of-week in
+	 * SimpleDateFormat but year in DateTimeFormatter, {@code S} is milliseconds vs. fraction-of-second and
+	 * {@code [ ] { } #} are reserved), so only a known-safe subset is accepted.
+	 *
+	 * @param pattern the SimpleDateFormat pattern
+	 * @return true if the pattern can be served by a cached DateTimeFormatter
+	 */
+	static boolean isPortablePattern(String pattern) {
+		if (pattern == null || pattern.isEmpty()) {
+			return false;
+		}
+		boolean inQuote = false;
+		int i = 0;
+		int length = pattern.length();
+		while (i < length) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				inQuote = !inQuote;
+				i++;
+				continue;
+			}
+			if (inQuote) {
+				i++;
+				continue;
+			}
+			if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+				return false;
+			}
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				int run = 1;
+				while (i + run < length && pattern.charAt(i + run) == c) {
+					run++;
+				}
+				if (!isPortableLetter(c, run)) {
+					return false;
+				}
+				i += run;
+				continue;
+			}
+			i++;
+		}
+		return !inQuote;
+	}
+
+	private static boolean isPortableLetter(char letter, int run) {
+		switch (letter) {
+			case 'y':
+				return true;
+			case 'M':
+			case 'E':
+				return run <= 4;
+			case 'd':
+			case 'H':
+			case 'h':
+			case 'k':
+			case 'K':
+			case 'm':
+			case 's':
+				return run <= 2;
+			case 'D':
+			case 'G':
+				return run <= 3;
+			case 'a':
+				return run == 1;
+			case 'S':
+				return run == 3;
+			default:
+				return false;
+		}
+	}
+
+	private static final class LegacyFormat {
+		final SimpleDateFormat format;
+		final Locale locale;
+
+		LegacyFormat(SimpleDateFormat format, Locale locale) {
+			this.format = format;
+			this.locale = locale;
+		}
+	}
+}
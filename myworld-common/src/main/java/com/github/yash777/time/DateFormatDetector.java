@@ -0,0 +1,271 @@
+package com.github.yash777.time;
+
+import java.text.Format;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Picks the date pattern of a text out of a fixed list of registered patterns, with the result of trying
+ * {@code new SimpleDateFormat(pattern).parse(text)} on each of them in turn, but without the trial and error.
+ *
+ * <p>All patterns are compiled once. A pattern only parses texts that contain its literal characters (separators,
+ * quoted text) in the same order, so other texts are rejected without parsing. Fixed width numeric patterns
+ * ({@code yyyy-MM-dd}, {@code dd/MM/yyyy HH:mm}, ...) also get a <b>shape</b>: the expected length plus the position
+ * of every digit and separator. Texts of that shape are parsed by a {@link DateTimeFormatter}, other texts, and the
+ * patterns with text, zone or two digit year fields, by SimpleDateFormat. Parsing goes through the
+ * {@link ParsePosition} based API, so a non matching pattern never throws a {@link java.text.ParseException}.</p>
+ *
+ * <ul>
+ *   <li>Patterns are tried in registration order, the first one that parses the <b>whole</b> text wins.</li>
+ *   <li>Each thread remembers the last pattern that matched and tries it first, when no earlier
+ *   registered pattern could claim a text of the same shape (so the result never depends on call history).</li>
+ *   <li>Parsing is lenient like {@link SimpleDateFormat} ({@code 2024-13-01} rolls over to {@code 2025-01-01},
+ *   {@code yy} is read with its 80/20 century window), texts without zone are read in the JVM default zone.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * DateFormatDetector detector = new DateFormatDetector(Arrays.asList("yyyy-MM-dd", "dd.MM.yyyy", "yyyy-MM-dd'T'HH:mm:ss"));
+ * Date date = detector.parse("29.02.2024"); // null if no pattern matches
+ * }</pre>
+ */
+public final class DateFormatDetector {
+
+	private final List<CompiledFormat> formats;
+	private final ThreadLocal<CompiledFormat> lastMatch = new ThreadLocal<>();
+
+	/**
+	 * @throws IllegalArgumentException if a pattern is not a valid {@link SimpleDateFormat} pattern
+	 */
+	public DateFormatDetector(Collection<String> patterns) {
+		List<CompiledFormat> compiled = new ArrayList<>();
+		for (String pattern : patterns) {
+			if (pattern != null && !pattern.trim().isEmpty()) {
+				compiled.add(new CompiledFormat(pattern, compiled));
+			}
+		}
+		this.formats = Collections.unmodifiableList(compiled);
+	}
+
+	public boolean isEmpty() {
+		return formats.isEmpty();
+	}
+
+	public List<String> getPatterns() {
+		List<String> patterns = new ArrayList<>(formats.size());
+		for (CompiledFormat format : formats) {
+			patterns.add(format.pattern);
+		}
+		return patterns;
+	}
+
+	/**
+	 * Parses the text with the first registered pattern that matches it completely.
+	 *
+	 * @param text the date text
+	 * @return the parsed date or {@code null} if no pattern matches
+	 */
+	public Date parse(String text) {
+		if (text == null || formats.isEmpty()) {
+			return null;
+		}
+		CompiledFormat tried = lastMatch.get();
+		if (tried != null && tried.unambiguous && tried.matchesShape(text)) {
+			Date date = tried.parse(text);
+			if (date != null) {
+				return date;
+			}
+		} else {
+			tried = null;
+		}
+		for (CompiledFormat format : formats) {
+			if (format != tried) {
+				Date date = format.parse(text);
+				if (date != null) {
+					lastMatch.set(format);
+					return date;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the pattern that {@link #parse(String)} would use for the text, or {@code null}.
+	 */
+	public String detect(String text) {
+		if (text == null) {
+			return null;
+		}
+		for (CompiledFormat format : formats) {
+			if (format.parse(text) != null) {
+				return format.pattern;
+			}
+		}
+		return null;
+	}
+
+	private static final class CompiledFormat {
+		/** Shape placeholder for a digit position. */
+		private static final char DIGIT = '\0';
+
+		final String pattern;
+		/** The literal characters of the pattern, in order. */
+		final String literals;
+		/** Expected text, {@link #DIGIT} for digit positions; {@code null} if the pattern is not fixed width. */
+		final char[] shape;
+		/** Exception free {@code java.text.Format} view of the compiled formatter, for texts of the shape; or {@code null}. */
+		final Format format;
+		/** true if no earlier registered pattern can match a text of this shape. */
+		final boolean unambiguous;
+
+		CompiledFormat(String pattern, List<CompiledFormat> earlier) {
+			new SimpleDateFormat(pattern); // an invalid pattern fails at registration, and quotes are known to be closed
+			this.pattern = pattern;
+			StringBuilder literals = new StringBuilder();
+			StringBuilder shape = new StringBuilder(pattern.length());
+			boolean fixed = true;
+			boolean sameInJavaTime = true;
+			for (int i = 0; i < pattern.length();) {
+				char c = pattern.charAt(i);
+				if (c == '\'' && pattern.charAt(i + 1) == '\'') {
+					literals.append(c);
+					shape.append(c);
+					i += 2;
+				} else if (c == '\'') {
+					// quoted text, where '' is a quote as well
+					for (i++; pattern.charAt(i) != '\'' || pattern.startsWith("''", i); i += pattern.charAt(i) == '\'' ? 2 : 1) {
+						literals.append(pattern.charAt(i));
+						shape.append(pattern.charAt(i));
+					}
+					i++;
+				} else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+					int run = 1;
+					while (i + run < pattern.length() && pattern.charAt(i + run) == c) {
+						run++;
+					}
+					int width = fixedWidth(c, run);
+					for (int w = 0; w < width; w++) {
+						shape.append(DIGIT);
+					}
+					fixed &= width > 0;
+					sameInJavaTime &= "hkK".indexOf(c) < 0; // 12 and 24 resolve differently without AM/PM
+					i += run;
+				} else {
+					literals.append(c);
+					shape.append(c);
+					i++;
+				}
+			}
+			this.literals = literals.toString();
+			this.shape = fixed ? shape.toString().toCharArray() : null;
+			this.format = this.shape != null && sameInJavaTime
+					? DateTimeFormatter.ofPattern(pattern, Locale.getDefault(Locale.Category.FORMAT))
+							.withResolverStyle(ResolverStyle.LENIENT).toFormat()
+					: null;
+			boolean unambiguous = fixed;
+			for (int i = 0; unambiguous && i < earlier.size(); i++) {
+				unambiguous = !earlier.get(i).containsLiterals(shape.toString());
+			}
+			this.unambiguous = unambiguous;
+		}
+
+		boolean matchesShape(String text) {
+			if (shape == null || text.length() != shape.length) {
+				return false;
+			}
+			for (int i = 0; i < shape.length; i++) {
+				char c = text.charAt(i);
+				if (shape[i] == DIGIT ? (c < '0' || c > '9') : c != shape[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Whether the literals of the pattern occur in the text in order, which SimpleDateFormat needs to parse it;
+		 * a {@link #DIGIT} of a shape stands for any digit.
+		 */
+		boolean containsLiterals(String text) {
+			int position = 0;
+			for (int i = 0; i < literals.length(); i++, position++) {
+				char literal = literals.charAt(i);
+				while (position < text.length() && text.charAt(position) != literal
+						&& !(text.charAt(position) == DIGIT && literal >= '0' && literal <= '9')) {
+					position++;
+				}
+				if (position == text.length()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		Date parse(String text) {
+			if (format != null && matchesShape(text)) {
+				ParsePosition position = new ParsePosition(0);
+				Object parsed = format.parseObject(text, position);
+				if (parsed != null && position.getIndex() == text.length()) {
+					long millis = toEpochMillis((TemporalAccessor) parsed);
+					if (millis != ZoneOffsetTable.NO_FAST_PATH) {
+						return new Date(millis);
+					}
+				}
+			} else if (!containsLiterals(text)) {
+				return null;
+			}
+			ParsePosition position = new ParsePosition(0);
+			Date date = DateFormatCache.parse(text, pattern, position);
+			return position.getIndex() == text.length() ? date : null;
+		}
+
+		/**
+		 * The parsed local date and time in the JVM default zone, resolved like {@code GregorianCalendar}; or
+		 * {@link ZoneOffsetTable#NO_FAST_PATH} near an offset transition, outside the table's years, or without a
+		 * day, where SimpleDateFormat decides.
+		 */
+		private static long toEpochMillis(TemporalAccessor temporal) {
+			LocalDate date = temporal.query(TemporalQueries.localDate());
+			if (date == null) {
+				return ZoneOffsetTable.NO_FAST_PATH;
+			}
+			LocalTime time = temporal.query(TemporalQueries.localTime());
+			long local = date.atTime(time != null ? time : LocalTime.MIDNIGHT).toInstant(ZoneOffset.UTC).toEpochMilli();
+			return ZoneOffsetTable.systemDefault().toEpochMillis(local);
+		}
+
+		/** Width of a field that SimpleDateFormat always reads as that many digits, {@code -1} otherwise. */
+		private static int fixedWidth(char letter, int run) {
+			switch (letter) {
+				case 'y':
+					return run == 4 ? 4 : -1;
+				case 'M':
+				case 'd':
+				case 'H':
+				case 'h':
+				case 'k':
+				case 'K':
+				case 'm':
+				case 's':
+					return run == 2 ? 2 : -1;
+				case 'S':
+					return run == 3 ? 3 : -1;
+				default:
+					return -1;
+			}
+		}
+	}
+}
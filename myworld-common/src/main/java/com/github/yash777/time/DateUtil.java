@@ -1,12 +1,12 @@
 package com.github.yash777.time;
 
-import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
@@ -76,18 +76,15 @@ public class DateUtil {
     }
 
     public static int getYearFromDate(Date currentDate) {
-        SimpleDateFormat df = new SimpleDateFormat("yyyy");
-        return Integer.parseInt(df.format(currentDate));
+        return Integer.parseInt(DateFormatCache.format(currentDate, "yyyy"));
     }
 
     public static int getMMFromDate(Date currentDate) {
-        SimpleDateFormat df = new SimpleDateFormat("MM");
-        return Integer.parseInt(df.format(currentDate));
+        return Integer.parseInt(DateFormatCache.format(currentDate, "MM"));
     }
 
     public static int getDDFromDate(Date currentDate) {
-        SimpleDateFormat df = new SimpleDateFormat("dd");
-        return Integer.parseInt(df.format(currentDate));
+        return Integer.parseInt(DateFormatCache.format(currentDate, "dd"));
     }
 
     public static Integer getMonthNumberByName(final String monthName) {
@@ -173,8 +170,7 @@ public class DateUtil {
     public static Date getMonthDateFormat(String date) {
         if (StringUtils.isNotEmpty(date)) {
             try {
-                SimpleDateFormat sf = new SimpleDateFormat("MM/dd/yyyy");
-                return sf.parse(date);
+                return DateFormatCache.parse(date, "MM/dd/yyyy");
             } catch (Exception e) {
             }
         }
@@ -184,8 +180,7 @@ public class DateUtil {
     public static Date getDate(String date) {
         if (StringUtils.isNotEmpty(date)) {
             try {
-                SimpleDateFormat sf = new SimpleDateFormat("yyyy-MM-dd");
-                return sf.parse(date);
+                return DateFormatCache.parse(date, YEAT_MONTH_DATE_FORMAT);
             } catch (Exception e) {
             }
         }
@@ -193,10 +188,8 @@ public class DateUtil {
     }
     
     public static Date convertDateToUTC(Date date) {
-    	SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-    	sdf.setTimeZone(java.util.TimeZone.getTimeZone("UTC"));      
     	// Format the Date object to UTC time
-    	String utcTime = sdf.format(date);
+    	String utcTime = DateFormatCache.format(date, "yyyy-MM-dd HH:mm:ss", ZoneOffset.UTC);
     	Date startDate = DateUtil.getDate(utcTime);
     	return startDate;
     }
@@ -207,8 +200,7 @@ public class DateUtil {
         //String dateString = "Sun Sep 11 00:00:00 IST 2022";
         if (StringUtils.isNotEmpty(dateString)) {
             try {
-                SimpleDateFormat sf = new SimpleDateFormat("E MMM dd HH:mm:ss z yyyy");
-                return sf.parse(dateString);
+                return DateFormatCache.parse(dateString, "E MMM dd HH:mm:ss z yyyy");
             } catch (Exception e) {
             }
         }
@@ -218,10 +210,8 @@ public class DateUtil {
     public static String getDateString(String date, String format) {
         if (StringUtils.isNotEmpty(date)) {
             try {
-                SimpleDateFormat inputSf = new SimpleDateFormat(format);
-                SimpleDateFormat outputSf = new SimpleDateFormat("yyyy/MM/dd");
-                Date formatedDate = inputSf.parse(date);
-                return outputSf.format(formatedDate);
+                Date formatedDate = DateFormatCache.parse(date, format);
+                return DateFormatCache.format(formatedDate, YEAT_MONTH_DATE_SLASH_FORMAT);
             } catch (Exception e) {
             }
         }
@@ -231,10 +221,8 @@ public class DateUtil {
     public static String getDateConversion(String date, String format) {
         if (StringUtils.isNotEmpty(date)) {
             try {
-                SimpleDateFormat inSDF = new SimpleDateFormat(format);
-                SimpleDateFormat outSDF = new SimpleDateFormat("yyyy-mm-dd'T'HH:mm:ss.SSS'Z'");
-                Date formatedDate = inSDF.parse(date);
-                return outSDF.format(formatedDate);
+                Date formatedDate = DateFormatCache.parse(date, format);
+                return DateFormatCache.format(formatedDate, "yyyy-mm-dd'T'HH:mm:ss.SSS'Z'");
             } catch (ParseException ex) {
             }
         }
@@ -242,8 +230,7 @@ public class DateUtil {
     }
 
     public static String getMonthDate(Date date) {
-        SimpleDateFormat sdf = new SimpleDateFormat(MM_DD);
-        return sdf.format(date);
+        return DateFormatCache.format(date, MM_DD);
     }
 
     public static Date getInfinityDate() {
@@ -251,25 +238,23 @@ public class DateUtil {
     }
 
     public static String getYearMonthDateFormat(Date date) {
-        return new SimpleDateFormat(DATE_FORMAT).format(date);
+        return DateFormatCache.format(date, DATE_FORMAT);
     }
 
     public static String getYearMonthDateHyphenFormat(Date date) {
-        return new SimpleDateFormat(YEAT_MONTH_DATE_FORMAT).format(date);
+        return DateFormatCache.format(date, YEAT_MONTH_DATE_FORMAT);
     }
 
     public static String getYearMonthDateSlashFormat(Date date) {
-        return new SimpleDateFormat(YEAT_MONTH_DATE_SLASH_FORMAT).format(date);
+        return DateFormatCache.format(date, YEAT_MONTH_DATE_SLASH_FORMAT);
     }
 
     public static String getYearMonthDateSlashFormat(Date date, String timeZone) {
-        SimpleDateFormat sdf = new SimpleDateFormat(YEAT_MONTH_DATE_SLASH_FORMAT);
-        sdf.setTimeZone(TimeZone.getTimeZone(ZoneId.of(timeZone)));
-        return sdf.format(date);
+        return DateFormatCache.format(date, YEAT_MONTH_DATE_SLASH_FORMAT, ZoneOffsetTable.forZoneId(timeZone));
     }
 
     public static String getYearMonthFormat(Date date) {
-        return new SimpleDateFormat(DATE_FORMAT_YEAR_MONTH).format(date);
+        return DateFormatCache.format(date, DATE_FORMAT_YEAR_MONTH);
     }
 
     public static String getPeriodName(String periodName) {
@@ -296,9 +281,9 @@ public class DateUtil {
     public static String getPeriodNameByLocale(final String periodName, final Locale locale, String inputFormat, String outputFormat) {
         String formattedDate = null;
         try {
-            Date inputDate = new SimpleDateFormat(inputFormat).parse(periodName);
+            Date inputDate = DateFormatCache.parse(periodName, inputFormat);
             if (null != inputDate) {
-                return new SimpleDateFormat(outputFormat, locale).format(inputDate);
+                return DateFormatCache.format(inputDate, outputFormat, locale);
             }
             return null;
         } catch (Exception e) {
@@ -358,8 +343,9 @@ public class DateUtil {
     }
 
     public static boolean isValidStartDate(Date startDate, Date periodStartDate) {
-        periodStartDate = getZeroTimeDate(periodStartDate);
-        startDate = getZeroTimeDate(startDate);
+        ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+        periodStartDate = getZeroTimeDate(periodStartDate, zone);
+        startDate = getZeroTimeDate(startDate, zone);
         if (startDate.compareTo(periodStartDate) <= 0) {
             return true;
         }
@@ -368,8 +354,9 @@ public class DateUtil {
 
     public static boolean isInvalidOrderDate(Date startDate, Date periodStartDate) {
         boolean isOrderInvalid = false;
-        periodStartDate = getZeroTimeDate(periodStartDate);
-        startDate = getZeroTimeDate(startDate);
+        ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+        periodStartDate = getZeroTimeDate(periodStartDate, zone);
+        startDate = getZeroTimeDate(startDate, zone);
         if (startDate.compareTo(periodStartDate) < 0 || startDate.compareTo(periodStartDate) == 0) {
 
         } else {
@@ -393,8 +380,9 @@ public class DateUtil {
 //    }
 
     public static boolean isValidEndDate(Date endDate, Date periodEndDate) {
-        periodEndDate = getZeroTimeDate(periodEndDate);
-        endDate = getZeroTimeDate(endDate);
+        ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+        periodEndDate = getZeroTimeDate(periodEndDate, zone);
+        endDate = getZeroTimeDate(endDate, zone);
         if (endDate.compareTo(periodEndDate) >= 0) {
             return true;
         }
@@ -403,8 +391,9 @@ public class DateUtil {
 
     public static boolean dateCompare(Date endDate, Date periodEndDate) {
         if(endDate!=null && periodEndDate!=null) {
-            periodEndDate = getZeroTimeDate(periodEndDate);
-            endDate = getZeroTimeDate(endDate);
+            ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+            periodEndDate = getZeroTimeDate(periodEndDate, zone);
+            endDate = getZeroTimeDate(endDate, zone);
             if (endDate.compareTo(periodEndDate) <= 0) {
                 return true;
             }
@@ -413,10 +402,22 @@ public class DateUtil {
     }
 
     public static Date getZeroTimeDate(Date date) {
+        return getZeroTimeDate(date, ZoneOffsetTable.systemDefault());
+    }
+
+    /**
+     * {@link #getZeroTimeDate(Date)} in the given zone, for callers that resolve the zone once for many dates.
+     */
+    public static Date getZeroTimeDate(Date date, ZoneOffsetTable zone) {
         if (date == null) {
             return null;
         }
-        Calendar calendar = Calendar.getInstance();
+        long startOfDay = zone.startOfDay(date.getTime());
+        if (startOfDay != ZoneOffsetTable.NO_FAST_PATH) {
+            return new Date(startOfDay);
+        }
+        // Near a DST transition: let the Calendar resolve the gap/overlap
+        Calendar calendar = Calendar.getInstance(zone.getTimeZone());
         calendar.setTime(date);
         calendar.set(Calendar.HOUR_OF_DAY, 0);
         calendar.set(Calendar.MINUTE, 0);
@@ -464,51 +465,58 @@ public class DateUtil {
      *         date2; and a value greater than 0 if date1 is greater than the date2.
      */
     public static int compareTo(Date date1, Date date2) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        return sdf.format(date1).compareTo(sdf.format(date2));
+        return compareTo(date1, date2, ZoneOffsetTable.systemDefault());
+    }
+
+    /**
+     * {@link #compareTo(Date, Date)} in the given zone, for callers that resolve the zone once for many dates.
+     */
+    public static int compareTo(Date date1, Date date2, ZoneOffsetTable zone) {
+        long day1 = zone.epochDay(date1.getTime());
+        long day2 = zone.epochDay(date2.getTime());
+        if (ZoneOffsetTable.isFourDigitYear(day1) && ZoneOffsetTable.isFourDigitYear(day2)) {
+            return Long.compare(day1, day2);
+        }
+        return DateFormatCache.format(date1, YEAT_MONTH_DATE_FORMAT, zone).compareTo(DateFormatCache.format(date2, YEAT_MONTH_DATE_FORMAT, zone));
     }
 
     public static int is(Date date1, Date date2) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        return sdf.format(date1).compareTo(sdf.format(date2));
+        return compareTo(date1, date2);
     }
 
     public static boolean isBeforeInclusive(Date date1, Date date2) {
         if (null == date1 || null == date2) {
             return false;
         }
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        return sdf.format(date1).compareTo(sdf.format(date2)) <= 0;
+        return compareTo(date1, date2) <= 0;
     }
 
     public static boolean isAfterInclusive(Date date1, Date date2) {
         if (null == date1 || null == date2) {
             return false;
         }
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        return sdf.format(date1).compareTo(sdf.format(date2)) >= 0;
+        return compareTo(date1, date2) >= 0;
     }
 
     public static boolean isAfter(Date date1, Date date2) {
         if (null == date1 || null == date2) {
             return false;
         }
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        return sdf.format(date1).compareTo(sdf.format(date2)) > 0;
+        return compareTo(date1, date2) > 0;
     }
 
     public static boolean isBefore(Date date1, Date date2) {
         if (null == date1 || null == date2) {
             return false;
         }
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        return sdf.format(date1).compareTo(sdf.format(date2)) < 0;
+        return compareTo(date1, date2) < 0;
     }
 
     public static boolean isBetweenInclusive(Date startDate, Date endDate, Date reqDate) {
         boolean status = false;
         if (null != startDate && null != endDate && null != reqDate) {
-            return (compareTo(startDate, reqDate) <= 0 && compareTo(reqDate, endDate) <= 0);
+            ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+            return (compareTo(startDate, reqDate, zone) <= 0 && compareTo(reqDate, endDate, zone) <= 0);
         }
         return status;
     }
@@ -518,8 +526,8 @@ public class DateUtil {
         if (null == startDate || null == endDate || null == reqDate) {
             return status;
         }
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        if (sdf.format(startDate).compareTo(sdf.format(reqDate)) <= 0 && sdf.format(reqDate).compareTo(sdf.format(endDate)) <= 0) {
+        ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+        if (compareTo(startDate, reqDate, zone) <= 0 && compareTo(reqDate, endDate, zone) <= 0) {
             status = true;
         }
         return status;
@@ -529,11 +537,11 @@ public class DateUtil {
         if (startDate == null || endDate == null || effStartDate == null || effEndDate == null) {
             return false;
         }
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        if (!(sdf.format(startDate).compareTo(sdf.format(effStartDate)) >= 0 && sdf.format(startDate).compareTo(sdf.format(effEndDate)) <= 0)) {
+        ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+        if (!(compareTo(startDate, effStartDate, zone) >= 0 && compareTo(startDate, effEndDate, zone) <= 0)) {
             return false;
         }
-        if (!(sdf.format(endDate).compareTo(sdf.format(effStartDate)) >= 0 && sdf.format(endDate).compareTo(sdf.format(effEndDate)) <= 0)) {
+        if (!(compareTo(endDate, effStartDate, zone) >= 0 && compareTo(endDate, effEndDate, zone) <= 0)) {
             return false;
         }
         return true;
@@ -648,22 +656,18 @@ public class DateUtil {
         if (date != null) {
             Date currentDate = addMonths(date, 1);
             Date futureDate = addMonths(currentDate, 8);
-            SimpleDateFormat sdf = new SimpleDateFormat(PERIOD_FORMAT);
-            return sdf.format(currentDate) + " - " + sdf.format(futureDate);
+            return DateFormatCache.format(currentDate, PERIOD_FORMAT) + " - " + DateFormatCache.format(futureDate, PERIOD_FORMAT);
         }
         return null;
     }
 
     public static String getDateString(Date enrollmentDate) {
         String pattern = "MM/dd/yyyy HH:mm:ss";
-        DateFormat df = new SimpleDateFormat(pattern);
-        String dateAsString = df.format(enrollmentDate);
-        return dateAsString;
+        return DateFormatCache.format(enrollmentDate, pattern);
     }
 
     public static String getDateString(Date date, String pattern) {
-        DateFormat df = new SimpleDateFormat(pattern);
-        return df.format(date);
+        return DateFormatCache.format(date, pattern);
     }
 
     public static Boolean isLeapYearManual(Date date) {
@@ -693,10 +697,8 @@ public class DateUtil {
     public static boolean isValidDate(String dateString) {
         if (dateString == null || !dateString.matches("\\d{4}/[01]\\d/[0-3]\\d"))
             return false;
-        SimpleDateFormat df = new SimpleDateFormat("yyyy/MM/dd");
-        df.setLenient(false);
         try {
-            df.parse(dateString);
+            DateFormatCache.parse(dateString, YEAT_MONTH_DATE_SLASH_FORMAT, false);
             return true;
         } catch (ParseException ex) {
             return false;
@@ -706,10 +708,8 @@ public class DateUtil {
     public static boolean isValidDate_MonthDateYearSlashFormat(String dateString) {
         if (dateString == null || !dateString.matches("[01]\\d/[0-3]\\d/\\d{4}"))
             return false;
-        SimpleDateFormat df = new SimpleDateFormat("MM/dd/yyyy");
-        df.setLenient(false);
         try {
-            df.parse(dateString);
+            DateFormatCache.parse(dateString, "MM/dd/yyyy", false);
             return true;
         } catch (ParseException ex) {
             return false;
@@ -728,23 +728,33 @@ public class DateUtil {
         if (date == null) {
             return null;
         }
-        DateFormat dateFormat = new SimpleDateFormat(YYYY_MM_DD_TZ_FMT);
-        if (!StringUtils.isBlank(timeZoneName) && ZoneId.of(timeZoneName) != null) {
-            dateFormat.setTimeZone(TimeZone.getTimeZone(ZoneId.of(timeZoneName)));
+        ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+        if (!StringUtils.isBlank(timeZoneName)) {
+            zone = ZoneOffsetTable.forZoneId(timeZoneName);
         } else {
             //LOG.info("convertToSpecificTimezone: invalid time zone with name:{}", timeZoneName);
         }
-        return dateFormat.parse(dateFormat.format(date));
+        // Format + parse in the same zone is a round trip, unless the wall time is ambiguous (DST overlap/gap)
+        long millis = date.getTime();
+        if (zone.toEpochMillis(millis + zone.getOffset(millis)) == millis) {
+            return new Date(millis);
+        }
+        String formatted = DateFormatCache.format(date, YYYY_MM_DD_TZ_FMT, zone);
+        return DateFormatCache.parse(formatted, YYYY_MM_DD_TZ_FMT, zone.getTimeZone(), Locale.getDefault(Locale.Category.FORMAT), true);
     }
 
     public static Date updateDateWithEndTime(long date, String timeZone) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTimeZone(TimeZone.getTimeZone(ZoneId.of(timeZone)));
-        if (!StringUtils.equals(TimeZone.getDefault().getID(), TimeZone.getTimeZone(ZoneId.of(timeZone)).getID())) {
-            calendar.setTimeInMillis(date + TimeZone.getTimeZone(ZoneId.of(timeZone)).getRawOffset());
-        } else {
-            calendar.setTimeInMillis(date);
+        ZoneOffsetTable zone = ZoneOffsetTable.forZoneId(timeZone);
+        if (!StringUtils.equals(ZoneOffsetTable.systemDefault().getId(), zone.getId())) {
+            date += zone.getRawOffset();
+        }
+        long endTime = zone.withTimeOfDay(date, 23, 59, 59);
+        if (endTime != ZoneOffsetTable.NO_FAST_PATH) {
+            return new Date(endTime);
         }
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeZone(TimeZone.getTimeZone(zone.getZoneId()));
+        calendar.setTimeInMillis(date);
         calendar.set(Calendar.HOUR_OF_DAY, 23);
         calendar.set(Calendar.MINUTE, 59);
         calendar.set(Calendar.SECOND, 59);
@@ -762,10 +772,7 @@ public class DateUtil {
     }
 
     public static Date convertToSpecificTimezone(long date, String timeZone) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTimeZone(TimeZone.getTimeZone(ZoneId.of(timeZone)));
-        calendar.setTimeInMillis(date + TimeZone.getTimeZone(ZoneId.of(timeZone)).getRawOffset());
-        return calendar.getTime();
+        return new Date(date + ZoneOffsetTable.forZoneId(timeZone).getRawOffset());
     }
     
     public static long getHoursDifferenceBTWGivenDateAndCurrentDate(Date date) {
@@ -800,13 +807,10 @@ public class DateUtil {
     public static String getValue(Date date, String format) {
         if (date != null) {
             try {
-                SimpleDateFormat sdf = null;
                 if (StringUtils.isBlank(format)) {
-                    sdf = new SimpleDateFormat(YEAT_MONTH_DATE_FORMAT);
-                } else {
-                    sdf = new SimpleDateFormat(format);
+                    return DateFormatCache.format(date, YEAT_MONTH_DATE_FORMAT);
                 }
-                return sdf.format(date);
+                return DateFormatCache.format(date, format);
             } catch (Exception e) {
                 return null;
             }
@@ -863,8 +867,7 @@ public class DateUtil {
             return null;
         }
         try {
-            SimpleDateFormat sdf = new SimpleDateFormat(format);
-            strDate = sdf.format(date);
+            strDate = DateFormatCache.format(date, format);
         } catch (Exception ex) {
         }
         return strDate;
@@ -885,9 +888,8 @@ public class DateUtil {
                 format = YYYY_MM_DD_TZ_FMT;
             }
             try {
-                SimpleDateFormat sdf = new SimpleDateFormat(format);
-                sdf.setTimeZone(TimeZone.getTimeZone(timeZone));
-                return sdf.format(date) + " " + sdf.getTimeZone().getID();
+                ZoneOffsetTable zone = ZoneOffsetTable.forTimeZoneId(timeZone);
+                return DateFormatCache.format(date, format, zone) + " " + zone.getId();
             } catch (Exception ex) {
             }
 
@@ -900,8 +902,7 @@ public class DateUtil {
             if (null == date1 || null == date2) {
                 return false;
             }
-            SimpleDateFormat sdf = new SimpleDateFormat(format);
-            return sdf.parse(date1).compareTo(sdf.parse(date2)) >= 0;
+            return DateFormatCache.parse(date1, format).compareTo(DateFormatCache.parse(date2, format)) >= 0;
         } catch (Exception e) {
             return false;
         }
@@ -912,8 +913,7 @@ public class DateUtil {
             if(null == date1 || null == date2) {
                 return false;
             }
-            SimpleDateFormat sdf = new SimpleDateFormat(format);
-            return sdf.parse(date1).compareTo(sdf.parse(date2)) == 0;
+            return DateFormatCache.parse(date1, format).compareTo(DateFormatCache.parse(date2, format)) == 0;
         } catch (Exception e) {
             return false;
         }
@@ -944,8 +944,7 @@ public class DateUtil {
     public static String getStringWithDayFormatInputDate(Date date) {
         if (date != null) {
             try {
-                SimpleDateFormat sf = new SimpleDateFormat("E MMM dd HH:mm:ss z yyyy");
-                return sf.format(date);
+                return DateFormatCache.format(date, "E MMM dd HH:mm:ss z yyyy");
             } catch (Exception e) {
                 //LOG.error(MessageFormat.format("Error while formating the date {0} , {1} ", date, e));
             }
@@ -0,0 +1,274 @@
+package com.github.yash777.time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precomputed UTC offset transitions of a {@link TimeZone}, used for day-precision date arithmetic
+ * on epoch millis without a {@link java.util.Calendar} or a formatted String per call.
+ *
+ * <p>Transitions between 1900 and 2100 are copied once from the zone's {@link ZoneRules} into two
+ * primitive arrays and looked up with a binary search. Every segment is cross-checked against
+ * {@link TimeZone#getOffset(long)} (which is what {@code Calendar}/{@code SimpleDateFormat} use), so
+ * the table never disagrees with the legacy API - if it would, or the instant is outside the window,
+ * the lookup simply delegates to the {@code TimeZone}.</p>
+ *
+ * <pre>{@code
+ * ZoneOffsetTable zone = ZoneOffsetTable.systemDefault();
+ * long day1 = zone.epochDay(date1.getTime());
+ * long day2 = zone.epochDay(date2.getTime());
+ * boolean sameDay = day1 == day2;
+ * }</pre>
+ */
+public final class ZoneOffsetTable {
+	public static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+	/** Returned by {@link #startOfDay(long)} when the day is too close to a transition to be computed by arithmetic. */
+	public static final long NO_FAST_PATH = Long.MIN_VALUE;
+
+	/** 1900-01-01T00:00:00Z */
+	private static final long WINDOW_START = -2_208_988_800_000L;
+	/** 2100-01-01T00:00:00Z */
+	private static final long WINDOW_END = 4_102_444_800_000L;
+	/** 0001-01-01 and 9999-12-31 as epoch days, the range where "yyyy-MM-dd" strings sort chronologically. */
+	private static final long MIN_FOUR_DIGIT_EPOCH_DAY = -719_162L;
+	private static final long MAX_FOUR_DIGIT_EPOCH_DAY = 2_932_896L;
+
+	private static final ConcurrentMap<String, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<ZoneId, ZoneOffsetTable> BY_ZONE = new ConcurrentHashMap<>();
+	/** Zone names as given by callers, resolved with {@code TimeZone.getTimeZone(ZoneId.of(name))}. */
+	private static final ConcurrentMap<String, ZoneOffsetTable> BY_ZONE_ID = new ConcurrentHashMap<>();
+	/** Zone names as given by callers, resolved with {@code TimeZone.getTimeZone(name)}. */
+	private static final ConcurrentMap<String, ZoneOffsetTable> BY_TIME_ZONE_ID = new ConcurrentHashMap<>();
+	private static volatile ZoneOffsetTable lastDefault;
+
+	private final String id;
+	private final TimeZone zone;
+	private final ZoneId zoneId;
+	/** Epoch millis at which {@code offsets[i + 1]} starts, ascending. */
+	private final long[] transitions;
+	/** Total offset (raw + DST) in millis, {@code offsets.length == transitions.length + 1}. */
+	private final int[] offsets;
+	/** false if ZoneRules and TimeZone disagree somewhere in the window. */
+	private final boolean verified;
+
+	private ZoneOffsetTable(TimeZone zone) {
+		this.id = zone.getID();
+		this.zone = zone;
+		this.zoneId = zone.toZoneId();
+
+		ZoneRules rules = zoneId.getRules();
+		long[] millis = new long[16];
+		int[] totals = new int[17];
+		int count = 0;
+		totals[0] = rules.getOffset(Instant.ofEpochMilli(WINDOW_START)).getTotalSeconds() * 1000;
+		ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(WINDOW_START));
+		while (transition != null && transition.toEpochSecond() * 1000 < WINDOW_END) {
+			if (count == millis.length) {
+				millis = Arrays.copyOf(millis, count * 2);
+				totals = Arrays.copyOf(totals, count * 2 + 1);
+			}
+			millis[count] = transition.toEpochSecond() * 1000;
+			totals[++count] = transition.getOffsetAfter().getTotalSeconds() * 1000;
+			transition = rules.nextTransition(transition.getInstant());
+		}
+		this.transitions = Arrays.copyOf(millis, count);
+		this.offsets = Arrays.copyOf(totals, count + 1);
+		this.verified = verify();
+	}
+
+	/**
+	 * Returns the table of the JVM default time zone, re-resolved whenever {@link TimeZone#setDefault(TimeZone)} changes it.
+	 * Each call clones the default {@code TimeZone} to check it: code that works on many dates resolves the table once
+	 * and passes it on, e.g. to {@link DateUtil#compareTo(java.util.Date, java.util.Date, ZoneOffsetTable)}.
+	 */
+	public static ZoneOffsetTable systemDefault() {
+		TimeZone defaultZone = TimeZone.getDefault();
+		ZoneOffsetTable table = lastDefault;
+		if (table == null || !table.id.equals(defaultZone.getID())) {
+			table = of(defaultZone);
+			lastDefault = table;
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the cached table for the zone, keyed by its ID.
+	 */
+	public static ZoneOffsetTable of(TimeZone zone) {
+		ZoneOffsetTable table = TABLES.get(zone.getID());
+		if (table == null) {
+			TimeZone copy = (TimeZone) zone.clone();
+			table = TABLES.computeIfAbsent(copy.getID(), id -> new ZoneOffsetTable(copy));
+		}
+		return table;
+	}
+
+	/**
+	 * Cached {@code TimeZone.getTimeZone(zoneId)}.
+	 */
+	public static ZoneOffsetTable of(ZoneId zoneId) {
+		ZoneOffsetTable table = BY_ZONE.get(zoneId);
+		if (table == null) {
+			table = of(TimeZone.getTimeZone(zoneId));
+			BY_ZONE.putIfAbsent(zoneId, table);
+		}
+		return table;
+	}
+
+	/**
+	 * Cached {@code TimeZone.getTimeZone(ZoneId.of(zoneName))}: the zone name is validated like
+	 * {@link ZoneId#of(String)} and an invalid name throws {@link java.time.DateTimeException}.
+	 */
+	public static ZoneOffsetTable forZoneId(String zoneName) {
+		ZoneOffsetTable table = BY_ZONE_ID.get(zoneName);
+		if (table == null) {
+			table = of(TimeZone.getTimeZone(ZoneId.of(zoneName)));
+			BY_ZONE_ID.putIfAbsent(zoneName, table);
+		}
+		return table;
+	}
+
+	/**
+	 * Cached {@link TimeZone#getTimeZone(String)}: an unknown name gives the GMT zone. Only names that
+	 * resolve to a zone of the same ID are remembered, so random input cannot grow the cache.
+	 */
+	public static ZoneOffsetTable forTimeZoneId(String zoneName) {
+		ZoneOffsetTable table = BY_TIME_ZONE_ID.get(zoneName);
+		if (table == null) {
+			table = of(TimeZone.getTimeZone(zoneName));
+			if (table.id.equals(zoneName)) {
+				BY_TIME_ZONE_ID.putIfAbsent(zoneName, table);
+			}
+		}
+		return table;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public ZoneId getZoneId() {
+		return zoneId;
+	}
+
+	/**
+	 * Shared, read-only instance; callers must not modify it.
+	 */
+	TimeZone getTimeZone() {
+		return zone;
+	}
+
+	/**
+	 * Same as {@link TimeZone#getRawOffset()} of the zone.
+	 */
+	public int getRawOffset() {
+		return zone.getRawOffset();
+	}
+
+	/**
+	 * Total UTC offset (raw + DST) in milliseconds at the given instant, same as {@link TimeZone#getOffset(long)}.
+	 */
+	public int getOffset(long epochMillis) {
+		if (!covers(epochMillis)) {
+			return zone.getOffset(epochMillis);
+		}
+		return offsets[segment(epochMillis)];
+	}
+
+	/**
+	 * Whether the instant is served from the precomputed table, where {@link TimeZone} and
+	 * {@link java.time.ZoneId} rules are known to agree.
+	 */
+	public boolean covers(long epochMillis) {
+		return verified && epochMillis >= WINDOW_START && epochMillis < WINDOW_END;
+	}
+
+	/**
+	 * Number of days since 1970-01-01 of the local date, in this zone, of the given instant.
+	 */
+	public long epochDay(long epochMillis) {
+		return Math.floorDiv(epochMillis + getOffset(epochMillis), MILLIS_PER_DAY);
+	}
+
+	/**
+	 * Instant of local midnight of the day containing {@code epochMillis}, or {@link #NO_FAST_PATH} if an
+	 * offset transition happens within a day of that midnight (in which case the caller should let a
+	 * {@code Calendar} resolve the gap/overlap the way it always did).
+	 */
+	public long startOfDay(long epochMillis) {
+		if (!verified || epochMillis - MILLIS_PER_DAY * 2 < WINDOW_START || epochMillis + MILLIS_PER_DAY * 2 >= WINDOW_END) {
+			return NO_FAST_PATH;
+		}
+		int segment = segment(epochMillis);
+		int offset = offsets[segment];
+		long startOfDay = Math.floorDiv(epochMillis + offset, MILLIS_PER_DAY) * MILLIS_PER_DAY - offset;
+		if (segment(startOfDay - MILLIS_PER_DAY) != segment || segment(startOfDay + MILLIS_PER_DAY) != segment) {
+			return NO_FAST_PATH;
+		}
+		return startOfDay;
+	}
+
+	/**
+	 * Converts local wall-clock millis (local date-time as if it were UTC) of this zone to epoch millis,
+	 * or returns {@link #NO_FAST_PATH} if an offset transition is within a day of it. UTC offsets never
+	 * exceed 18 hours, so a single offset over that day makes the conversion unambiguous.
+	 */
+	public long toEpochMillis(long localMillis) {
+		if (!verified || localMillis - MILLIS_PER_DAY * 2 < WINDOW_START || localMillis + MILLIS_PER_DAY * 2 >= WINDOW_END) {
+			return NO_FAST_PATH;
+		}
+		int segment = segment(localMillis - MILLIS_PER_DAY);
+		if (segment(localMillis + MILLIS_PER_DAY) != segment) {
+			return NO_FAST_PATH;
+		}
+		return localMillis - offsets[segment];
+	}
+
+	/**
+	 * Sets the local time of day of the instant to {@code hour:minute:second}, keeping its milliseconds
+	 * (like {@code Calendar.set(HOUR_OF_DAY/MINUTE/SECOND)}), or returns {@link #NO_FAST_PATH} near a transition.
+	 */
+	public long withTimeOfDay(long epochMillis, int hour, int minute, int second) {
+		long local = epochMillis + getOffset(epochMillis);
+		long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+		long timeOfDay = ((hour * 60L + minute) * 60L + second) * 1000L + Math.floorMod(local, 1000L);
+		return toEpochMillis(epochDay * MILLIS_PER_DAY + timeOfDay);
+	}
+
+	/**
+	 * Checks that {@code "yyyy-MM-dd"} of the epoch day is a plain four digit AD year, i.e. ordering the
+	 * epoch days gives the same result as ordering their formatted strings.
+	 */
+	public static boolean isFourDigitYear(long epochDay) {
+		return epochDay >= MIN_FOUR_DIGIT_EPOCH_DAY && epochDay <= MAX_FOUR_DIGIT_EPOCH_DAY;
+	}
+
+	private int segment(long epochMillis) {
+		int index = Arrays.binarySearch(transitions, epochMillis);
+		return index >= 0 ? index + 1 : -index - 1;
+	}
+
+	private boolean verify() {
+		if (zone.getOffset(WINDOW_START) != offsets[0]) {
+			return false;
+		}
+		for (int i = 0; i < transitions.length; i++) {
+			long at = transitions[i];
+			if (zone.getOffset(at) != offsets[i + 1] || zone.getOffset(at - 1) != offsets[i]) {
+				return false;
+			}
+		}
+		return zone.getOffset(WINDOW_END - 1) == offsets[offsets.length - 1];
+	}
+
+	@Override
+	public String toString() {
+		return "ZoneOffsetTable[" + id + ", transitions=" + transitions.length + ", verified=" + verified + "]";
+	}
+}
@@ -0,0 +1,199 @@
+package com.github.yash777.commons.lang;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class DeepClonerTest {
+
+	static class Base {
+		protected long id;
+		private final List<String> tags = new ArrayList<>();
+	}
+
+	static class Node extends Base {
+		String name;
+		int[] scores;
+		Date created;
+		Node next;
+		Node[] children;
+		Map<String, Node> byName = new HashMap<>();
+		LocalDate day;
+		BigDecimal amount;
+
+		private Node() {
+		}
+
+		Node(String name) {
+			this.name = name;
+		}
+	}
+
+	record Pair(String key, Date when, List<Integer> values) {
+	}
+
+	record Group(String name, List<Object> members) {
+	}
+
+	static class Counter {
+		String name;
+		AtomicInteger count = new AtomicInteger();
+	}
+
+	static class NoDefaultConstructor {
+		final String value;
+
+		NoDefaultConstructor(String value) {
+			this.value = value;
+		}
+	}
+
+	@Test
+	void testFieldsAreCopied() {
+		Node source = new Node("root");
+		source.id = 7;
+		source.scores = new int[] { 1, 2, 3 };
+		source.created = new Timestamp(1_700_000_000_123L);
+		source.day = LocalDate.of(2025, 10, 4);
+		source.amount = new BigDecimal("12.50");
+		((Base) source).tags.add("a");
+
+		Node copy = DeepCloner.deepClone(source);
+		assertNotSame(source, copy);
+		assertEquals(7, copy.id);
+		assertEquals("root", copy.name);
+		assertArrayEquals(source.scores, copy.scores);
+		assertNotSame(source.scores, copy.scores);
+		assertEquals(source.created, copy.created);
+		assertNotSame(source.created, copy.created);
+		assertEquals(Timestamp.class, copy.created.getClass());
+		assertNotSame(((Base) source).tags, ((Base) copy).tags);
+		assertEquals(List.of("a"), ((Base) copy).tags);
+		assertSame(source.day, copy.day); // immutable, shared
+		assertSame(source.amount, copy.amount);
+
+		copy.scores[0] = 99;
+		copy.created.setTime(0);
+		assertEquals(1, source.scores[0]);
+		assertEquals(1_700_000_000_123L, source.created.getTime());
+	}
+
+	@Test
+	void testCyclesAndSharedReferences() {
+		Node a = new Node("a");
+		Node b = new Node("b");
+		a.next = b;
+		b.next = a;
+		a.children = new Node[] { b, b, a };
+		a.byName.put("b", b);
+
+		Node copy = DeepCloner.deepClone(a);
+		assertNotSame(a, copy);
+		assertSame(copy, copy.next.next);
+		assertSame(copy.next, copy.children[0]);
+		assertSame(copy.next, copy.children[1]);
+		assertSame(copy, copy.children[2]);
+		assertSame(copy.next, copy.byName.get("b"));
+		assertNotSame(b, copy.next);
+	}
+
+	@Test
+	void testRecordsAndCollections() {
+		Pair pair = new Pair("k", new Date(5), new ArrayList<>(List.of(1, 2)));
+		Pair copy = DeepCloner.deepClone(pair);
+		assertEquals(pair, copy);
+		assertNotSame(pair.when(), copy.when());
+		assertNotSame(pair.values(), copy.values());
+
+		TreeSet<String> sorted = new TreeSet<>(Comparator.reverseOrder());
+		sorted.addAll(List.of("a", "c", "b"));
+		TreeSet<String> sortedCopy = DeepCloner.deepClone(sorted);
+		assertEquals(List.of("c", "b", "a"), new ArrayList<>(sortedCopy));
+
+		List<Date> fixed = List.of(new Date(1));
+		List<Date> fixedCopy = DeepCloner.deepClone(fixed);
+		assertEquals(fixed, fixedCopy);
+		assertNotSame(fixed.get(0), fixedCopy.get(0));
+
+		List<String> array = Arrays.asList("x", null);
+		assertEquals(array, DeepCloner.deepClone(array));
+
+		EnumMap<TimeUnit, List<String>> enumMap = new EnumMap<>(TimeUnit.class);
+		enumMap.put(TimeUnit.SECONDS, new ArrayList<>(List.of("s")));
+		EnumMap<TimeUnit, List<String>> enumMapCopy = DeepCloner.deepClone(enumMap);
+		assertEquals(enumMap, enumMapCopy);
+		assertNotSame(enumMap.get(TimeUnit.SECONDS), enumMapCopy.get(TimeUnit.SECONDS));
+	}
+
+	@Test
+	void testSharedValues() {
+		assertNull(DeepCloner.deepClone(null));
+		String text = "text";
+		assertSame(text, DeepCloner.deepClone(text));
+		assertSame(TimeUnit.DAYS, DeepCloner.deepClone(TimeUnit.DAYS));
+		assertThrows(IllegalArgumentException.class, () -> DeepCloner.deepClone(new NoDefaultConstructor("v")));
+		for (Object value : new Object[] { 1, 2L, 1.5d, 'c', true, (byte) 1, BigInteger.TEN, new BigDecimal("1.50"),
+				Instant.EPOCH, Duration.ofSeconds(5), ZoneId.of("Asia/Kolkata"), UUID.randomUUID(), URI.create("http://x/y"),
+				Locale.GERMANY, String.class }) {
+			assertSame(value, DeepCloner.deepClone(value), value.getClass().getName());
+		}
+	}
+
+	@Test
+	void testMutableJdkTypesAreRejected() {
+		for (Object value : new Object[] { new AtomicInteger(1), new StringBuilder("sb"), new BitSet() }) {
+			assertThrows(IllegalArgumentException.class, () -> DeepCloner.deepClone(value), value.getClass().getName());
+			assertThrows(IllegalArgumentException.class, () -> DeepCloner.deepClone(new ArrayList<>(List.of(value))));
+		}
+		assertThrows(IllegalArgumentException.class, () -> DeepCloner.deepClone(new Counter()));
+
+		Optional<Date> date = Optional.of(new Date(1));
+		Optional<Date> copy = DeepCloner.deepClone(date);
+		assertEquals(date, copy);
+		assertNotSame(date.get(), copy.get());
+		assertSame(Optional.empty(), DeepCloner.deepClone(Optional.empty()));
+	}
+
+	@Test
+	void testCycleThroughRecordIsRejected() {
+		Group group = new Group("g", new ArrayList<>());
+		group.members().add("a");
+		group.members().add(group);
+		assertThrows(IllegalArgumentException.class, () -> DeepCloner.deepClone(group));
+
+		Node node = new Node("n");
+		Group holder = new Group("h", new ArrayList<>(List.of(node)));
+		((Base) node).tags.add("t");
+		Group copy = DeepCloner.deepClone(holder); // no cycle: the record is complete before anything refers to it
+		assertEquals("n", ((Node) copy.members().get(0)).name);
+		assertNotSame(node, copy.members().get(0));
+
+		List<Group> twice = new ArrayList<>(List.of(holder, holder));
+		List<Group> twiceCopy = DeepCloner.deepClone(twice);
+		assertSame(twiceCopy.get(0), twiceCopy.get(1));
+	}
+}
@@ -0,0 +1,83 @@
+package com.github.yash777.commons.lang;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of {@link HashMap} and {@link SeededStringMap} building and reading a map of request parameter
+ * names, once with ordinary names and once with a crafted set of names that all share one {@code String.hashCode()}
+ * (see {@link StringHashCollision#collidingKeys(int)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeededStringMapBenchmark {
+
+	@Param({"plain", "colliding"})
+	String keySet;
+
+	/** 2^blocks keys. */
+	@Param({"8", "12"})
+	int blocks;
+
+	String[] keys;
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(SeededStringMapBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	@Setup
+	public void setup() {
+		keys = StringHashCollision.collidingKeys(blocks);
+		if ("plain".equals(keySet)) {
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = "param" + i;
+			}
+		}
+	}
+
+	@Benchmark
+	public void hashMap(Blackhole blackhole) {
+		fill(new HashMap<>(), blackhole);
+	}
+
+	@Benchmark
+	public void seededStringMap(Blackhole blackhole) {
+		fill(new SeededStringMap<>(), blackhole);
+	}
+
+	private void fill(Map<String, String> map, Blackhole blackhole) {
+		for (String key : keys) {
+			map.put(key, key);
+		}
+		for (String key : keys) {
+			blackhole.consume(map.get(key));
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.github.yash777.commons.lang;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SeededStringMapTest {
+
+	@Test
+	void testMatchesHashMap() {
+		Random random = new Random(42);
+		Map<String, Integer> expected = new HashMap<>();
+		SeededStringMap<Integer> actual = new SeededStringMap<>();
+		for (int i = 0; i < 200_000; i++) {
+			String key = "k" + random.nextInt(2_000);
+			switch (random.nextInt(4)) {
+				case 0:
+					assertEquals(expected.remove(key), actual.remove(key));
+					break;
+				case 1:
+					assertEquals(expected.get(key), actual.get(key));
+					assertEquals(expected.containsKey(key), actual.containsKey(key));
+					break;
+				default:
+					Integer value = random.nextInt(10) == 0 ? null : i;
+					assertEquals(expected.put(key, value), actual.put(key, value));
+			}
+			assertEquals(expected.size(), actual.size());
+		}
+		assertEquals(expected, actual);
+		assertEquals(actual, expected);
+		assertEquals(expected.hashCode(), actual.hashCode());
+	}
+
+	@Test
+	void testCollidingKeys() {
+		String[] keys = StringHashCollision.collidingKeys(12);
+		assertEquals(keys[0].hashCode(), keys[keys.length - 1].hashCode());
+		SeededStringMap<String> map = new SeededStringMap<>();
+		for (String key : keys) {
+			map.put(key, key);
+		}
+		assertEquals(keys.length, map.size());
+		Set<Integer> hashes = new HashSet<>();
+		for (String key : keys) {
+			assertEquals(key, map.get(key));
+			hashes.add((int) SeededStringMap.sipHash13(1, 2, key));
+		}
+		assertTrue(hashes.size() > keys.length - 4, "SipHash of the crafted keys should hardly collide");
+	}
+
+	@Test
+	void testSeedChangesHash() {
+		assertNotEquals(SeededStringMap.sipHash13(1, 2, "Aa"), SeededStringMap.sipHash13(1, 3, "Aa"));
+		assertNotEquals(SeededStringMap.sipHash13(1, 2, "Aa"), SeededStringMap.sipHash13(1, 2, "BB"));
+		assertNotEquals(SeededStringMap.sipHash13(1, 2, ""), SeededStringMap.sipHash13(1, 2, "\0"));
+	}
+
+	@Test
+	void testIteratorRemove() {
+		SeededStringMap<Integer> map = new SeededStringMap<>();
+		for (int i = 0; i < 100; i++) {
+			map.put("k" + i, i);
+		}
+		map.values().removeIf(value -> value % 2 == 0);
+		assertEquals(50, map.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), map.get("k" + i));
+		}
+		Iterator<String> keys = map.keySet().iterator();
+		keys.next();
+		map.put("new", 1);
+		assertThrows(ConcurrentModificationException.class, keys::next);
+	}
+
+	@Test
+	void testNullKey() {
+		SeededStringMap<String> map = new SeededStringMap<>();
+		assertThrows(NullPointerException.class, () -> map.put(null, "value"));
+		assertNull(map.get(null));
+		assertFalse(map.containsKey(1));
+	}
+}
@@ -0,0 +1,67 @@
+package com.github.yash777.commons.lang;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.text.Normalizer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.yash777.commons.lang.StringNormalizer.Step;
+
+public class StringNormalizerTest {
+
+	@Test
+	void testTrimMatchesStringUtils() {
+		StringNormalizer normalizer = new StringNormalizer(Step.TRIM);
+		String[] values = randomValues(StringNormalizer.CHUNK_SIZE * 3 + 5); // more than one chunk, so the parallel path runs
+		String[] result = normalizer.normalize(values);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals(StringUtils.trimSpaces(values[i]), result[i]);
+		}
+	}
+
+	@Test
+	void testAllSteps() {
+		StringNormalizer normalizer = new StringNormalizer(Step.CASE_FOLD, Step.TRIM, Step.STRIP_INVISIBLE, Step.NFC);
+		String decomposed = Normalizer.normalize("Caf\u00E9", Normalizer.Form.NFD);
+		assertEquals("caf\u00E9", normalizer.normalize(" \u200B" + decomposed.toUpperCase() + " "));
+		assertEquals("john@example.com", normalizer.normalize("\u200E John@Exam\u200Bple.COM\t"));
+		assertNull(normalizer.normalize((CharSequence) null));
+	}
+
+	@Test
+	void testExtraTrimCharsMatchTrimAdvanced() {
+		StringNormalizer normalizer = new StringNormalizer("\"'");
+		String value = "\"'Hello World!'\"";
+		assertEquals(StringUtils.trimAdvanced(value, "\"'"), normalizer.normalize(value));
+	}
+
+	@Test
+	void testUnchangedValueIsSameInstance() {
+		String value = "already normalized";
+		assertSame(value, new StringNormalizer(Step.values()).normalize(value));
+	}
+
+	@Test
+	void testNormalizeColumn() {
+		StringNormalizer normalizer = new StringNormalizer(Step.TRIM, Step.CASE_FOLD);
+		char[] data = " Alice  BOB \u3000".toCharArray();
+		assertArrayEquals(new String[] {"alice", "bob", ""}, normalizer.normalizeColumn(data, new int[] {0, 7, 12, 13}));
+		assertThrows(IllegalArgumentException.class, () -> normalizer.normalizeColumn(data, new int[] {0, 14}));
+	}
+
+	static String[] randomValues(int size) {
+		String alphabet = StringUtils.getUnicodeSpaces() + "abcXYZ-";
+		Random random = new Random(42);
+		String[] values = new String[size];
+		for (int i = 0; i < size; i++) {
+			StringBuilder text = new StringBuilder();
+			for (int j = random.nextInt(12); j > 0; j--) {
+				text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			values[i] = text.toString();
+		}
+		return values;
+	}
+}
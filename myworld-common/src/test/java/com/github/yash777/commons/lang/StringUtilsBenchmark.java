@@ -0,0 +1,105 @@
+package com.github.yash777.commons.lang;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of the old regex based trims (copied below as {@code legacy*}) against the
+ * table driven {@link StringUtils#trimSpaces(String)}, {@link StringUtils#trimSpacesLeading(String)},
+ * {@link StringUtils#trimSpacesTrailing(String)} and {@link StringUtils#isBlank(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark {
+
+	@Param({"padded", "clean", "blank"})
+	String input;
+
+	String text;
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(StringUtilsBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	@Setup
+	public void setup() {
+		switch (input) {
+			case "padded":
+				text = "\u200B\u3000 \tHello World! -  \u200B";
+				break;
+			case "clean":
+				text = "Hello World! - a value without any padding";
+				break;
+			default:
+				text = "   \u200B\u3000\t ";
+		}
+	}
+
+	@Benchmark
+	public String legacyTrimSpaces() {
+		String spaceTrimRegex = "^[" + Pattern.quote(StringUtils.getUnicodeSpaces()) + "]+|[" + Pattern.quote(StringUtils.getUnicodeSpaces()) + "]+$";
+		return text.replaceAll(spaceTrimRegex, "");
+	}
+
+	@Benchmark
+	public String tableTrimSpaces() {
+		return StringUtils.trimSpaces(text);
+	}
+
+	@Benchmark
+	public String legacyTrimSpacesLeading() {
+		String spaceTrimRegex = "^[" + Pattern.quote(StringUtils.getUnicodeSpaces()) + "]+";
+		return text.replaceAll(spaceTrimRegex, "");
+	}
+
+	@Benchmark
+	public String tableTrimSpacesLeading() {
+		return StringUtils.trimSpacesLeading(text);
+	}
+
+	@Benchmark
+	public String legacyTrimSpacesTrailing() {
+		String spaceTrimRegex = "[" + Pattern.quote(StringUtils.getUnicodeSpaces()) + "]+$";
+		return text.replaceAll(spaceTrimRegex, "");
+	}
+
+	@Benchmark
+	public String tableTrimSpacesTrailing() {
+		return StringUtils.trimSpacesTrailing(text);
+	}
+
+	@Benchmark
+	public boolean legacyIsBlank() {
+		return legacyTrimSpaces().isEmpty();
+	}
+
+	@Benchmark
+	public boolean tableIsBlank() {
+		return StringUtils.isBlank(text);
+	}
+}
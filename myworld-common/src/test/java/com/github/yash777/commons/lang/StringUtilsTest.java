@@ -1,6 +1,10 @@
 package com.github.yash777.commons.lang;
 
 import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Test;
 
 public class StringUtilsTest {
@@ -33,6 +37,41 @@ public class StringUtilsTest {
 		assertEquals(expected, StringUtils.trimSpacesTrailing(text));
 	}
 	
+	@Test
+	void testTrimSpacesReturnsSameInstanceWhenUnchanged() {
+		String text = "Hello World!";
+		assertSame(text, StringUtils.trimSpaces(text));
+		assertSame(text, StringUtils.trimSpacesLeading(text));
+		assertSame(text, StringUtils.trimSpacesTrailing(text));
+	}
+	
+	@Test
+	void testTrimSpacesMatchesRegex() {
+		String spaces = StringUtils.getUnicodeSpaces();
+		String quoted = Pattern.quote(spaces);
+		String alphabet = spaces + "ab-";
+		Random random = new Random(42);
+		for (int i = 0; i < 10_000; i++) {
+			StringBuilder text = new StringBuilder();
+			for (int j = random.nextInt(12); j > 0; j--) {
+				text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			String value = text.toString();
+			assertEquals(value.replaceAll("^[" + quoted + "]+|[" + quoted + "]+$", ""), StringUtils.trimSpaces(value));
+			assertEquals(value.replaceAll("^[" + quoted + "]+", ""), StringUtils.trimSpacesLeading(value));
+			assertEquals(value.replaceAll("[" + quoted + "]+$", ""), StringUtils.trimSpacesTrailing(value));
+			assertEquals(value.replaceAll("^[" + quoted + "]+|[" + quoted + "]+$", "").isEmpty(), StringUtils.isBlank(value));
+		}
+	}
+	
+	@Test
+	void testIsBlank() {
+		assertTrue(StringUtils.isBlank(null));
+		assertTrue(StringUtils.isBlank(""));
+		assertTrue(StringUtils.isBlank("\u200B\u3000 \t"));
+		assertFalse(StringUtils.isBlank("\u200B a"));
+	}
+	
 	@Test
 	void testTrimAdvanced() {
 		String text = "\u200B Hello World! \u200B";
@@ -0,0 +1,188 @@
+package com.github.yash777.commons.lang;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.yash777.commons.lang.SubstringReplacer.Rule;
+
+public class SubstringReplacerTest {
+
+	@Test
+	void testSingleRuleMatchesRepeatedReplaceSubstringInBetween() {
+		Random random = new Random(42);
+		for (int i = 0; i < 10_000; i++) {
+			String str = randomText(random, 16);
+			String open = randomText(random, 2) + "a";
+			String close = "b" + randomText(random, 2);
+			SubstringReplacer replacer = new SubstringReplacer(Collections.singletonList(new Rule("-", open, close)));
+			assertEquals(replaceEvery(str, "-", open, close), replacer.replace(str), str + " " + open + " " + close);
+		}
+	}
+
+	@Test
+	void testJavadocExamples() {
+		assertEquals("a-c", replace("abc", "-", "a", "c"));
+		assertEquals("af", replace("abcdef", "", "a", "f"));
+		assertEquals("apache-commons-lang", replace("apachelang", "-commons-", "apache", "lang"));
+		assertEquals("ab123ef", replace("abcdef", "123", "b", "e"));
+		assertEquals("abcdef", replace("abcdef", "123", "z", "a"));
+		assertEquals("abcdef", replace("abcdef", "123", "a", "g"));
+	}
+
+	@Test
+	void testManyRules() {
+		SubstringReplacer replacer = new SubstringReplacer(Arrays.asList(
+				new Rule("***", "<password>", "</password>"),
+				new Rule("***", "\"cardNumber\":\"", "\""),
+				new Rule("", "<token ", "/>")));
+		String payload = "<user><password>secret</password><pin><password>1234</password></pin></user>"
+				+ "{\"cardNumber\":\"4111111111111111\",\"name\":\"x\"}<token abc=\"1\"/>";
+		String expected = "<user><password>***</password><pin><password>***</password></pin></user>"
+				+ "{\"cardNumber\":\"***\",\"name\":\"x\"}<token />";
+		assertEquals(expected, replacer.replace(payload));
+		assertEquals("prefix" + expected, replacer.replace(payload, new StringBuilder("prefix")).toString());
+	}
+
+	@Test
+	void testUnclosedSectionIsKept() {
+		SubstringReplacer replacer = new SubstringReplacer(Collections.singletonList(new Rule("***", "[", "]")));
+		String text = "a[b]c[d";
+		assertEquals("a[***]c[d", replacer.replace(text));
+		String unchanged = "no [ close";
+		assertSame(unchanged, replacer.replace(unchanged));
+	}
+
+	@Test
+	void testUnclosedSectionIsSearchedAgain() {
+		SubstringReplacer replacer = new SubstringReplacer(Arrays.asList(new Rule("***", "<a>", "</a>"), new Rule("***", "<b>", "</b>")));
+		assertEquals("<a>x <b>***</b> y", replacer.replace("<a>x <b>secret</b> y"));
+		assertEquals("<a><a><b>***</b><a>", replacer.replace("<a><a><b>secret</b><a>"));
+		assertEquals("<b><a>***</a>", replacer.replace("<b><a>secret</a>"));
+	}
+
+	@Test
+	void testStreamedUnclosedSection() throws Exception {
+		SubstringReplacer replacer = new SubstringReplacer(Arrays.asList(new Rule("***", "<a>", "</a>"), new Rule("***", "<b>", "</b>")), 1000);
+		StringBuilder input = new StringBuilder("<a>");
+		StringBuilder expected = new StringBuilder("<a>");
+		for (int i = 0; i < 20_000; i++) { // never closed, over many reader buffers and many times the section limit
+			input.append("text <b>secret").append(i).append("</b> ");
+			expected.append("text <b>***</b> ");
+		}
+		StringWriter out = new StringWriter();
+		assertEquals(20_000, replacer.replace(new StringReader(input.toString()), out));
+		assertEquals(expected.toString(), out.toString());
+		assertEquals(expected.toString(), replacer.replace(input.toString()));
+	}
+
+	@Test
+	void testMaxSectionLength() {
+		SubstringReplacer replacer = new SubstringReplacer(Collections.singletonList(new Rule("-", "[", "]")), 4);
+		assertEquals("[-]", replacer.replace("[abc]"));
+		assertEquals("[abcd] [-]", replacer.replace("[abcd] [abc]")); // 5 chars with the close marker
+		assertThrows(IllegalArgumentException.class, () -> new SubstringReplacer(Collections.singletonList(new Rule("-", "[", "]")), 0));
+	}
+
+	@Test
+	void testManyRulesMatchReference() throws Exception {
+		Random random = new Random(42);
+		for (int i = 0; i < 10_000; i++) {
+			String str = randomText(random, 30);
+			Rule[] rules = new Rule[1 + random.nextInt(3)];
+			for (int r = 0; r < rules.length; r++) {
+				rules[r] = new Rule("-", randomText(random, 2) + "a", "b" + randomText(random, 1));
+			}
+			int maxSectionLength = 1 + random.nextInt(12);
+			SubstringReplacer replacer = new SubstringReplacer(Arrays.asList(rules), maxSectionLength);
+			String expected = replaceReference(str, rules, maxSectionLength);
+			assertEquals(expected, replacer.replace(str), str + " " + Arrays.toString(rules));
+			StringWriter out = new StringWriter();
+			replacer.replace(new StringReader(str), out);
+			assertEquals(expected, out.toString());
+		}
+	}
+
+	@Test
+	void testStreamingMatchesStringReplace() throws Exception {
+		SubstringReplacer replacer = new SubstringReplacer(Arrays.asList(new Rule("#", "<a>", "</a>"), new Rule("#", "ab", "ba")));
+		StringBuilder input = new StringBuilder();
+		Random random = new Random(42);
+		while (input.length() < 100_000) { // several reader buffers, sections cross buffer boundaries
+			input.append(randomText(random, 20)).append(random.nextBoolean() ? "<a>" : "</a>");
+		}
+		StringWriter out = new StringWriter();
+		replacer.replace(new StringReader(input.toString()), out);
+		assertEquals(replacer.replace(input.toString()), out.toString());
+	}
+
+	@Test
+	void testInvalidRules() {
+		assertThrows(IllegalArgumentException.class, () -> new Rule("-", "", "b"));
+		assertThrows(IllegalArgumentException.class, () -> new Rule(null, "a", "b"));
+		assertThrows(IllegalArgumentException.class, () -> new SubstringReplacer(Collections.emptyList()));
+	}
+
+	static String replace(String str, String replace, String open, String close) {
+		return new SubstringReplacer(Collections.singletonList(new Rule(replace, open, close))).replace(str);
+	}
+
+	/** replaceSubstringInBetween applied to every section, left to right. */
+	static String replaceEvery(String str, String replace, String open, String close) {
+		StringBuilder result = new StringBuilder();
+		int from = 0;
+		while (true) {
+			int start = str.indexOf(open, from);
+			int end = start < 0 ? -1 : str.indexOf(close, start + open.length());
+			if (end < 0) {
+				return result.append(str, from, str.length()).toString();
+			}
+			result.append(str, from, start + open.length()).append(replace).append(close);
+			from = end + close.length();
+		}
+	}
+
+	/**
+	 * The documented semantics, by brute force: the open marker ending first (longest, then first rule) opens a
+	 * section, which is replaced if its close marker ends within maxSectionLength, and otherwise searched again.
+	 */
+	static String replaceReference(String str, Rule[] rules, int maxSectionLength) {
+		StringBuilder result = new StringBuilder();
+		int from = 0;
+		for (int end = 1; end <= str.length(); end++) {
+			Rule open = null;
+			for (Rule rule : rules) {
+				int start = end - rule.getOpen().length();
+				if (start >= from && str.startsWith(rule.getOpen(), start) && (open == null || rule.getOpen().length() > open.getOpen().length())) {
+					open = rule;
+				}
+			}
+			if (open != null) {
+				int close = str.indexOf(open.getClose(), end);
+				if (close >= 0 && close + open.getClose().length() - end <= maxSectionLength) {
+					result.append(str, from, end).append(open.getReplace()).append(open.getClose());
+					from = close + open.getClose().length();
+					end = from;
+				} else {
+					result.append(str, from, end);
+					from = end;
+				}
+			}
+		}
+		return result.append(str, from, str.length()).toString();
+	}
+
+	static String randomText(Random random, int maxLength) {
+		StringBuilder text = new StringBuilder();
+		for (int j = random.nextInt(maxLength + 1); j > 0; j--) {
+			text.append("abc".charAt(random.nextInt(3)));
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,82 @@
+package com.github.yash777.commons.objectmapper;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.yash777.commons.lang.DeepCloner;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
+
+/**
+ * JMH comparison of deep copies of {@link MyObject}, {@link Employee} and {@link Dates}: the former JSON text round
+ * trip of {@code FasterXmlObjectMapperUtil.deepClone}, and {@link DeepCloner} which it uses now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepCloneBenchmark {
+
+	@Param({"MyObject", "Employee", "Dates"})
+	String type;
+
+	Object source;
+	ObjectWriter writer;
+	ObjectReader reader;
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(DeepCloneBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	@Setup
+	public void setup() {
+		Dates dates = Dates.builder().d1(new Date()).dd(Dates.builder().d1(new Date()).build()).build();
+		switch (type) {
+		case "MyObject":
+			source = new MyObject("example", 42);
+			break;
+		case "Employee":
+			source = Employee.builder().id(777).age(30).name("Yashwanth").first("Yash").last("M").dob(new Date())
+					.dd(dates).build();
+			break;
+		default:
+			source = dates;
+		}
+		writer = JsonMappers.writer(Profile.LENIENT);
+		reader = JsonMappers.reader(Profile.LENIENT, source.getClass());
+	}
+
+	@Benchmark
+	public Object jsonRoundTrip() throws Exception {
+		return reader.readValue(writer.writeValueAsString(source));
+	}
+
+	@Benchmark
+	public Object deepCloner() {
+		return DeepCloner.deepClone(source);
+	}
+}
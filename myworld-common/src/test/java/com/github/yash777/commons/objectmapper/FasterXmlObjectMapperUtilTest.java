@@ -0,0 +1,41 @@
+package com.github.yash777.commons.objectmapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+public class FasterXmlObjectMapperUtilTest {
+
+	public static class Counter {
+		public String name;
+		public AtomicInteger count;
+	}
+
+	public record Group(String name, List<Object> members) {
+	}
+
+	@Test
+	void testDeepCloneFallsBackToJackson() throws Exception {
+		Counter counter = new Counter();
+		counter.name = "hits";
+		counter.count = new AtomicInteger(3);
+		Counter copy = FasterXmlObjectMapperUtil.deepClone(counter, Counter.class); // AtomicInteger: not DeepCloner
+		assertEquals("hits", copy.name);
+		assertEquals(3, copy.count.get());
+		assertNotSame(counter.count, copy.count);
+	}
+
+	@Test
+	void testDeepCloneOfRecordCycleFails() {
+		Group group = new Group("g", new ArrayList<>());
+		group.members().add(group);
+		// neither DeepCloner nor Jackson can copy it, but it fails with an exception instead of a StackOverflowError
+		assertThrows(JsonMappingException.class, () -> FasterXmlObjectMapperUtil.deepClone(group, Group.class));
+	}
+}
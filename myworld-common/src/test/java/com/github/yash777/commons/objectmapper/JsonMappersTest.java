@@ -0,0 +1,57 @@
+package com.github.yash777.commons.objectmapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
+
+public class JsonMappersTest {
+
+	public static class Person {
+		public String name;
+		public String email;
+		public Date dob;
+	}
+
+	static Person person() {
+		Person person = new Person();
+		person.name = "Yash";
+		person.dob = new Date(0);
+		return person;
+	}
+
+	@Test
+	void testProfiles() throws Exception {
+		assertEquals("{\"name\":\"Yash\",\"email\":null,\"dob\":0}", JsonMappers.writer(Profile.DEFAULT).writeValueAsString(person()));
+		assertEquals("{\"name\":\"Yash\",\"dob\":0}", JsonMappers.writer(Profile.LENIENT).writeValueAsString(person()));
+		assertEquals("{\"name\":\"Yash\",\"dob\":\"1970-01-01T00:00:00.000+00:00\"}",
+				JsonMappers.writer(Profile.LENIENT_ISO_DATES).writeValueAsString(person()));
+
+		String unknown = "{\"name\":\"Yash\",\"age\":30}";
+		assertEquals("Yash", JsonMappers.reader(Profile.LENIENT, Person.class).<Person>readValue(unknown).name);
+		assertThrows(UnrecognizedPropertyException.class, () -> JsonMappers.reader(Profile.DEFAULT, Person.class).readValue(unknown));
+		assertTrue(JsonMappers.prettyWriter(Profile.DEFAULT).writeValueAsString(person()).contains("\n"));
+	}
+
+	@Test
+	void testReadersAndWritersAreShared() {
+		JsonMappers.warmUp(Profile.LENIENT, Person.class);
+		assertSame(JsonMappers.reader(Profile.LENIENT, Person.class), JsonMappers.reader(Profile.LENIENT, Person.class));
+		assertSame(JsonMappers.writer(Profile.LENIENT, Person.class), JsonMappers.writer(Profile.LENIENT, Person.class));
+		assertNotSame(JsonMappers.reader(Profile.LENIENT, Person.class), JsonMappers.reader(Profile.DEFAULT, Person.class));
+		assertSame(JsonMappers.mapper(Profile.DEFAULT), JsonMappers.mapper(Profile.DEFAULT));
+	}
+
+	@Test
+	void testLegacyMappersAreCopies() throws Exception {
+		// callers of getObjectMapper() reconfigure the result, which must not leak into the shared mapper
+		new FasterXmlObjectMappperJSON().getObjectMapper()
+				.configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+		assertEquals("{\"name\":\"Yash\",\"dob\":0}", JsonMappers.writer(Profile.LENIENT).writeValueAsString(person()));
+		assertEquals("{\"name\":\"Yash\",\"dob\":0}", FasterXmlObjectMapperUtil.objectToJsonString(person()));
+	}
+}
@@ -0,0 +1,106 @@
+package com.github.yash777.commons.objectmapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class JsonPointerExtractorTest {
+
+	static final String EMPLOYEE = "{\"id\":777,\"name\":\"Yashwanth\",\"dob\":1752495563341,"
+			+ "\"dd\":{\"d1\":1,\"dd\":{\"d1\":2}},"
+			+ "\"tags\":[\"a\",{\"x\":[10,20]},\"c\"],"
+			+ "\"a/b\":\"slash\",\"m~n\":\"tilde\",\"0\":\"zero\"}";
+
+	@Test
+	void testPointers() throws IOException {
+		Map<String, JsonNode> values = JsonPointerExtractor
+				.of("/name", "/dd/dd/d1", "/tags/1/x/1", "/tags/2", "/a~1b", "/m~0n", "/0", "/missing", "/tags/7", "/name/x")
+				.extract(EMPLOYEE);
+		assertEquals("Yashwanth", values.get("/name").asText());
+		assertEquals(2, values.get("/dd/dd/d1").asInt());
+		assertEquals(20, values.get("/tags/1/x/1").asInt());
+		assertEquals("c", values.get("/tags/2").asText());
+		assertEquals("slash", values.get("/a~1b").asText());
+		assertEquals("tilde", values.get("/m~0n").asText());
+		assertEquals("zero", values.get("/0").asText());
+		assertEquals(7, values.size()); // missing ones left out
+	}
+
+	@Test
+	void testSubtreesAndNestedPointers() throws IOException {
+		Map<String, JsonNode> values = JsonPointerExtractor.of("/dd", "/dd/dd/d1", "/tags/1/x/0", "/tags", "").extract(EMPLOYEE);
+		assertEquals("{\"d1\":1,\"dd\":{\"d1\":2}}", values.get("/dd").toString());
+		assertEquals(2, values.get("/dd/dd/d1").asInt());
+		assertEquals(10, values.get("/tags/1/x/0").asInt());
+		assertEquals(3, values.get("/tags").size());
+		assertEquals(777, values.get("").get("id").asInt());
+
+		assertEquals("first", JsonPointerExtractor.of("/a").extract("{\"a\":\"first\",\"a\":\"second\"}").get("/a").asText());
+		assertTrue(JsonPointerExtractor.of("/a").extract("{\"a\":null}").get("/a").isNull());
+		assertThrows(IllegalArgumentException.class, () -> JsonPointerExtractor.of("name"));
+	}
+
+	@Test
+	void testStopsAfterLastPointer() throws IOException {
+		// the rest of the document is not read, so its error is not seen
+		String truncated = "{\"name\":\"Yash\",\"dob\":1,\"rest\":[1, 2,, ";
+		assertEquals(2, JsonPointerExtractor.of("/name", "/dob").extract(truncated).size());
+		assertThrows(JsonProcessingException.class, () -> JsonPointerExtractor.of("/name", "/missing").extract(truncated));
+	}
+
+	@Test
+	void testLargeStream() throws IOException {
+		// ~50 MB of skipped members before the pointers, generated while it is read
+		int elements = 1_000_000;
+		byte[] element = "{\"id\": 12345, \"text\": \"lorem ipsum dolor sit amet\"},".getBytes(StandardCharsets.UTF_8);
+		byte[] head = "{\"items\":[".getBytes(StandardCharsets.UTF_8);
+		byte[] tail = "{}],\"name\":\"Yash\",\"dob\":1752495563341}".getBytes(StandardCharsets.UTF_8);
+		InputStream in = new InputStream() {
+			long position;
+
+			@Override
+			public int read() {
+				long total = head.length + (long) elements * element.length + tail.length;
+				if (position >= total) {
+					return -1;
+				}
+				long p = position++;
+				if (p < head.length) {
+					return head[(int) p];
+				}
+				p -= head.length;
+				if (p < (long) elements * element.length) {
+					return element[(int) (p % element.length)];
+				}
+				return tail[(int) (p - (long) elements * element.length)];
+			}
+		};
+		Map<String, JsonNode> values = JsonPointerExtractor.of(Arrays.asList("/name", "/dob", "/items/0/id")).extract(in);
+		assertEquals("Yash", values.get("/name").asText());
+		assertEquals(1752495563341L, values.get("/dob").asLong());
+		assertEquals(12345, values.get("/items/0/id").asInt());
+	}
+
+	@Test
+	void testInputStreamIsNotClosed() throws IOException {
+		boolean[] closed = new boolean[1];
+		InputStream in = new ByteArrayInputStream(EMPLOYEE.getBytes(StandardCharsets.UTF_8)) {
+			@Override
+			public void close() {
+				closed[0] = true;
+			}
+		};
+		assertEquals(1, JsonPointerExtractor.of("/id").extract(in).size());
+		assertFalse(closed[0]);
+	}
+}
@@ -0,0 +1,111 @@
+package com.github.yash777.commons.objectmapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+public class JsonValidatorTest {
+
+	static final String PRETTY = "{\n  \"id\" : 101,\n  \"name\" : \"Alice \\\"A\\\" ✓\",\n  \"tags\" : [ 1.50, -2e3, true, null ],\n  \"nested\" : { }\n}";
+	static final String COMPACT = "{\"id\":101,\"name\":\"Alice \\\"A\\\" ✓\",\"tags\":[1.50,-2e3,true,null],\"nested\":{}}";
+
+	@Test
+	void testValidateAndCompactJson() {
+		JsonValidator validator = new JsonValidator();
+		assertEquals(COMPACT, validator.validateAndCompactJson(PRETTY));
+		String error = validator.validateAndCompactJson("{\n  \"id\": 102,\n  \"name\": \"Bob\"\n");
+		assertTrue(error.startsWith("❌ Invalid JSON at line "), error);
+		assertTrue(validator.validateAndCompactJson("{\"a\":1} x").startsWith("❌ Invalid JSON"));
+	}
+
+	@Test
+	void testCompactStream() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long tokens = JsonValidator.compact(new ByteArrayInputStream(PRETTY.getBytes(StandardCharsets.UTF_8)), out);
+		assertEquals(COMPACT, out.toString(StandardCharsets.UTF_8));
+		assertEquals(16, tokens);
+		assertEquals(16, JsonValidator.validate(new ByteArrayInputStream(PRETTY.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	void testInvalidStream() {
+		JsonProcessingException e = assertThrows(JsonProcessingException.class,
+				() -> JsonValidator.validate(new ByteArrayInputStream("[1, 2,, 3]".getBytes(StandardCharsets.UTF_8))));
+		assertEquals(1, e.getLocation().getLineNr());
+		assertTrue(JsonValidator.errorMessage(e).startsWith("❌ Invalid JSON at line 1, column "));
+		assertThrows(JsonProcessingException.class,
+				() -> JsonValidator.compact(new ByteArrayInputStream("{\"a\":".getBytes(StandardCharsets.UTF_8)), new ByteArrayOutputStream()));
+	}
+
+	@Test
+	void testSingleRootValue() throws IOException {
+		JsonValidator validator = new JsonValidator();
+		for (String json : new String[] {"{\"a\":1} {\"b\":2}", "[1] [2]", "1 2", "\"a\" \"b\"", "{} []", "null true", "{\"a\":1}}"}) {
+			assertTrue(validator.validateAndCompactJson(json).startsWith("❌ Invalid JSON at line 1, column "), json);
+			assertThrows(JsonProcessingException.class, () -> JsonValidator.validate(stream(json)), json);
+			assertThrows(JsonProcessingException.class, () -> JsonValidator.compact(stream(json), new ByteArrayOutputStream()), json);
+		}
+		for (String json : new String[] {" {\"a\":[1,{}]} \n", "42", "\"text\"\n", "null"}) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			long tokens = JsonValidator.compact(stream(json), out);
+			assertEquals(json.trim().replace(" ", ""), out.toString(StandardCharsets.UTF_8));
+			assertEquals(tokens, JsonValidator.validate(stream(json)));
+			assertEquals(json.trim(), validator.validateAndCompactJson(json));
+		}
+	}
+
+	@Test
+	void testLargeStream() throws IOException {
+		// ~64 MB array, generated while it is read
+		int elements = 1_000_000;
+		byte[] element = "{\"id\": 12345, \"text\": \"lorem ipsum dolor sit amet lorem ipsum\"},\n".getBytes(StandardCharsets.UTF_8);
+		InputStream in = new SequenceInputStream(new Enumeration<InputStream>() {
+			int part;
+
+			@Override
+			public boolean hasMoreElements() {
+				return part <= elements + 1;
+			}
+
+			@Override
+			public InputStream nextElement() {
+				int i = part++;
+				String text = i == 0 ? "[" : i > elements ? "0]" : null;
+				return new ByteArrayInputStream(text == null ? element : text.getBytes(StandardCharsets.UTF_8));
+			}
+		});
+		CountingOutputStream out = new CountingOutputStream();
+		long tokens = JsonValidator.compact(in, out);
+		assertEquals(elements * 6L + 3, tokens);
+		assertEquals(elements * (element.length - 4L) + 3, out.count);
+	}
+
+	static InputStream stream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static final class CountingOutputStream extends OutputStream {
+		long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.github.yash777.commons.objectmapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+public class NdJsonTest {
+
+	public static class Item {
+		public int id;
+		public String name;
+
+		public Item() {
+		}
+
+		Item(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	static byte[] lines(int count) throws IOException {
+		List<Item> items = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			items.add(new Item(i, i % 3 == 0 ? null : "item " + i));
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(count, NdJson.write(out, items));
+		return out.toByteArray();
+	}
+
+	@Test
+	void testWriteAndRead() throws IOException {
+		assertEquals("{\"id\":0}\n{\"id\":1,\"name\":\"item 1\"}\n", new String(lines(2), StandardCharsets.UTF_8));
+
+		String text = "{\"id\":1,\"name\":\"a\",\"unknown\":true}\n\n  \r\n{\"id\":2}";
+		List<Item> items = new ArrayList<>();
+		assertEquals(2, NdJson.read(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), Item.class, items::add));
+		assertEquals("a", items.get(0).name);
+		assertEquals(2, items.get(1).id);
+	}
+
+	@Test
+	void testReadParallelKeepsOrder() throws IOException {
+		int count = 10_000;
+		byte[] ndjson = lines(count);
+		List<Integer> ids = new ArrayList<>(count);
+		assertEquals(count, NdJson.readParallel(new ByteArrayInputStream(ndjson), Item.class, 64, true, item -> ids.add(item.id)));
+		for (int i = 0; i < count; i++) {
+			assertEquals(i, ids.get(i).intValue());
+		}
+	}
+
+	@Test
+	void testReadParallelUnordered() throws IOException {
+		int count = 10_000;
+		Set<Integer> ids = ConcurrentHashMap.newKeySet();
+		assertEquals(count, NdJson.readParallel(new ByteArrayInputStream(lines(count)), Item.class, 100, false, item -> ids.add(item.id)));
+		assertEquals(count, ids.size());
+	}
+
+	@Test
+	void testInvalidLine() {
+		byte[] text = "{\"id\":1}\n{\"id\":2}\n{\"id\":\n{\"id\":4}\n".getBytes(StandardCharsets.UTF_8);
+		IOException e = assertThrows(IOException.class, () -> NdJson.read(new ByteArrayInputStream(text), Item.class, item -> { }));
+		assertTrue(e.getMessage().startsWith("Invalid NDJSON record at line 3: "), e.getMessage());
+		e = assertThrows(IOException.class, () -> NdJson.readParallel(new ByteArrayInputStream(text), Item.class, 2, true, item -> { }));
+		assertTrue(e.getMessage().startsWith("Invalid NDJSON record at line 3: "), e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> NdJson.readParallel(new ByteArrayInputStream(text), Item.class, 0, true, item -> { }));
+	}
+
+	@Test
+	void testLineWriterFlushesAndLeavesStreamOpen() throws IOException {
+		boolean[] closed = new boolean[1];
+		ByteArrayOutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				closed[0] = true;
+			}
+		};
+		try (NdJson.LineWriter writer = NdJson.writer(out, 2)) {
+			writer.write(new Item(1, "a"));
+			assertEquals(0, out.size());
+			writer.write(new Item(2, "b"));
+			assertEquals("{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n", out.toString(StandardCharsets.UTF_8));
+			writer.write(Arrays.asList(3, 4));
+		}
+		assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n[3,4]\n"));
+		assertFalse(closed[0]);
+
+		InputStream in = new ByteArrayInputStream(out.toByteArray());
+		assertEquals(3, NdJson.read(in, Object.class, record -> { }));
+	}
+}
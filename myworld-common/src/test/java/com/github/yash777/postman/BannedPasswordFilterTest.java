@@ -0,0 +1,50 @@
+package com.github.yash777.postman;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BannedPasswordFilterTest {
+
+	@Test
+	void testNoFalseNegativesAndBoundedFalsePositives(@TempDir Path dir) throws IOException {
+		List<String> banned = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			banned.add("Breached" + i + "!");
+		}
+		banned.add("");
+		Path list = Files.write(dir.resolve("breached.txt"), banned, StandardCharsets.UTF_8);
+		Path file = dir.resolve("banned.bloom");
+		assertEquals(100_000, BannedPasswordFilter.build(list, file, 0.01));
+
+		BannedPasswordFilter filter = BannedPasswordFilter.open(file);
+		assertEquals(7, filter.hashCount());
+		for (int i = 0; i < 100_000; i++) {
+			assertTrue(filter.mightContain("Breached" + i + "!"));
+		}
+		assertTrue(filter.mightContain("BREACHED42!"));
+
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain("Unlisted" + i + "?")) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+	}
+
+	@Test
+	void testRejectsOtherFiles(@TempDir Path dir) throws IOException {
+		Path file = Files.write(dir.resolve("not-a-filter"), "password\nadmin\n".getBytes(StandardCharsets.UTF_8));
+		assertThrows(IOException.class, () -> BannedPasswordFilter.open(file));
+		assertThrows(IllegalArgumentException.class, () -> BannedPasswordFilter.build(file, dir.resolve("x"), 1.5));
+	}
+}
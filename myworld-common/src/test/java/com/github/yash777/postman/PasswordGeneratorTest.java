@@ -0,0 +1,68 @@
+package com.github.yash777.postman;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PasswordGeneratorTest {
+
+	@Test
+	void testGroupsAndLength() {
+		for (int i = 0; i < 1_000; i++) {
+			String password = PasswordGenerator.generatePassword(12, true, true, true, true, null);
+			assertEquals(12, password.length());
+			assertTrue(password.chars().anyMatch(c -> c >= 'A' && c <= 'Z'), password);
+			assertTrue(password.chars().anyMatch(c -> c >= 'a' && c <= 'z'), password);
+			assertTrue(password.chars().anyMatch(c -> c >= '0' && c <= '9'), password);
+			assertTrue(password.chars().anyMatch(c -> "!@#$%^&*()-_+=".indexOf(c) >= 0), password);
+		}
+		assertTrue(PasswordGenerator.generatePassword(20, false, false, true, false, null).matches("[0-9]{20}"));
+		// never shorter than the number of selected groups
+		assertEquals(4, PasswordGenerator.generatePassword(2, true, true, true, true, null).length());
+	}
+
+	@Test
+	void testCustomChars() {
+		String password = PasswordGenerator.generatePassword(32, true, true, true, true, "ab");
+		assertTrue(password.matches("[ab]{32}"), password);
+	}
+
+	@Test
+	void testInvalidInput() {
+		assertEquals("Password length must be greater than 0.", PasswordGenerator.generatePassword(0, true, true, true, true, null));
+		assertEquals("No characters available to generate password.", PasswordGenerator.generatePassword(8, false, false, false, false, null));
+		assertEquals("No characters available to generate password.", PasswordGenerator.generatePassword(8, false, false, false, false, ""));
+		assertThrows(IllegalArgumentException.class, () -> PasswordGenerator.generatePasswords(0, 8, true, true, true, true, null));
+		assertThrows(IllegalArgumentException.class, () -> PasswordGenerator.generatePasswords(5, 0, true, true, true, true, null));
+		assertThrows(IllegalArgumentException.class, () -> PasswordGenerator.generatePasswords(5, 8, false, false, false, false, null));
+	}
+
+	@Test
+	void testUniformCharacters() {
+		String pool = "0123456789";
+		int[] counts = new int[pool.length()];
+		for (String password : PasswordGenerator.generatePasswords(10_000, 10, false, false, false, false, pool)) {
+			password.chars().forEach(c -> counts[c - '0']++);
+		}
+		for (int count : counts) {
+			assertTrue(count > 9_500 && count < 10_500, "count " + count);
+		}
+	}
+
+	@Test
+	void testBatchFromManyThreads() {
+		List<String> passwords = IntStream.range(0, 16).parallel()
+				.mapToObj(i -> PasswordGenerator.generatePasswords(500, 16, true, true, true, true, null))
+				.flatMap(List::stream)
+				.collect(Collectors.toList());
+		assertEquals(8_000, passwords.size());
+		Set<String> distinct = new HashSet<>(passwords);
+		assertEquals(passwords.size(), distinct.size());
+	}
+}
@@ -0,0 +1,154 @@
+package com.github.yash777.postman;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.yash777.postman.PasswordPolicy.Violation;
+import com.github.yash777.postman.PasswordPolicyValidator.UserDetails;
+
+public class PasswordPolicyTest {
+
+	static final UserDetails ADMIN = new UserDetails("admin@myapp.com", "Administrator", "Super Admin", "Admin", true);
+
+	@Test
+	void testPolicyRules() {
+		PasswordPolicy admin = PasswordPolicy.forUser(ADMIN, true);
+		assertTrue(admin.isValid("Secure#Access2025"));
+		assertEquals(EnumSet.noneOf(Violation.class), admin.check("Secure#Access2025"));
+		assertEquals(EnumSet.of(Violation.PERSONAL_INFO), admin.check("SecureAdmin@2025"));      // "admin"
+		assertEquals(EnumSet.of(Violation.PERSONAL_INFO), admin.check("SuperSecurePass#2024"));  // "super"
+		assertEquals(EnumSet.of(Violation.TOO_SHORT, Violation.PERSONAL_INFO), admin.check("min123!A"));
+		assertEquals(EnumSet.of(Violation.NO_SPECIAL), admin.check("BrightLake123456"));
+		assertEquals(EnumSet.of(Violation.TOO_LONG), admin.check("Secure#Access2025-Secure#Access2025"));
+		assertEquals(EnumSet.of(Violation.BLANK), admin.check("  "));
+		assertFalse(admin.isValid(null));
+
+		PasswordPolicy regular = PasswordPolicy.forUser(ADMIN, false);
+		assertTrue(regular.isValid("Sec#Acc2025xy"));
+		assertFalse(admin.isValid("Sec#Acc2025xy"));
+		assertTrue(regular.containsPersonalInfo("xx ADMIN@MYAPP.COM"));
+		assertTrue(PasswordPolicyValidator.containsProhibitedPatterns("tor", ADMIN));
+		assertFalse(PasswordPolicyValidator.containsProhibitedPatterns("to-r", ADMIN));
+	}
+
+	@Test
+	void testStaticChecksReuseCompiledPolicies() {
+		PasswordPolicy policy = PasswordPolicyValidator.policy(ADMIN, true);
+		UserDetails sameDetails = new UserDetails("admin@myapp.com", "Administrator", "Super Admin", "Support", true);
+		assertSame(policy, PasswordPolicyValidator.policy(sameDetails, true));
+		assertNotSame(policy, PasswordPolicyValidator.policy(ADMIN, false));
+		assertTrue(PasswordPolicyValidator.isPasswordValid("Secure#Access2025", ADMIN, true));
+		assertFalse(PasswordPolicyValidator.isPasswordValid("Sec#Acc2025xy", ADMIN, true));
+
+		UserDetails renamed = new UserDetails("admin@myapp.com", "Yashwanth", "Super Admin", "Admin", true);
+		assertTrue(PasswordPolicyValidator.containsProhibitedPatterns("Yash#2025", renamed));
+		assertFalse(PasswordPolicyValidator.containsProhibitedPatterns("Yash#2025", ADMIN));
+
+		for (int i = 0; i < 2 * PasswordPolicyValidator.MAX_CACHED_POLICIES; i++) {
+			PasswordPolicyValidator.isPasswordValid("Secure#Access2025", new UserDetails("user" + i + "@myapp.com", "First", "Last", "Support", false), false);
+		}
+		assertEquals(PasswordPolicyValidator.MAX_CACHED_POLICIES, PasswordPolicyValidator.cachedPolicies());
+	}
+
+	@AfterEach
+	void clearBannedFilter() {
+		System.clearProperty(PasswordPolicyValidator.BANNED_FILTER_PROPERTY);
+		PasswordPolicyValidator.resetBannedFilter();
+	}
+
+	@Test
+	void testBannedFilterLoadedOnFirstCheck(@TempDir Path dir) throws IOException {
+		PasswordPolicy regular = PasswordPolicy.forUser(ADMIN, false);
+		String breached = "Breached#Pass2025";
+		assertTrue(regular.isValid(breached));
+
+		Path file = bannedFilter(dir, breached);
+		System.setProperty(PasswordPolicyValidator.BANNED_FILTER_PROPERTY, file.toString());
+		assertFalse(regular.isValid(breached));
+		assertEquals(EnumSet.of(Violation.BANNED), regular.check(breached));
+		assertEquals(EnumSet.of(Violation.NO_LOWERCASE, Violation.BANNED), regular.check("BREACHED#PASS2025"));
+		assertEquals(EnumSet.of(Violation.TOO_SHORT, Violation.NO_UPPERCASE, Violation.NO_DIGIT, Violation.NO_SPECIAL, Violation.BANNED),
+				regular.check("password"));
+		assertTrue(regular.isValid("Secure#Access2025"));
+	}
+
+	@Test
+	void testBannedFilterLoadFailure(@TempDir Path dir) throws IOException {
+		PasswordPolicy regular = PasswordPolicy.forUser(ADMIN, false);
+		Path notAFilter = Files.write(dir.resolve("breached.txt"), "Breached#Pass2025\n".getBytes(StandardCharsets.UTF_8));
+		System.setProperty(PasswordPolicyValidator.BANNED_FILTER_PROPERTY, notAFilter.toString());
+		assertThrows(UncheckedIOException.class, () -> regular.isValid("Breached#Pass2025"));
+		System.setProperty(PasswordPolicyValidator.BANNED_FILTER_PROPERTY, dir.resolve("missing.bloom").toString());
+		assertThrows(UncheckedIOException.class, () -> regular.check("Breached#Pass2025"));
+
+		// not cached after a failure: the next check loads the fixed file
+		System.setProperty(PasswordPolicyValidator.BANNED_FILTER_PROPERTY, bannedFilter(dir, "Breached#Pass2025").toString());
+		assertFalse(regular.isValid("Breached#Pass2025"));
+	}
+
+	private static Path bannedFilter(Path dir, String... passwords) throws IOException {
+		Path list = Files.write(dir.resolve("banned.txt"), List.of(passwords), StandardCharsets.UTF_8);
+		Path file = dir.resolve("banned.bloom");
+		BannedPasswordFilter.build(list, file, 0.01);
+		return file;
+	}
+
+	@Test
+	void testMatchesSubstringAndRegexRules() {
+		Random random = new Random(7);
+		String alphabet = "abAB1@ .mintr";
+		for (int n = 0; n < 20_000; n++) {
+			UserDetails user = new UserDetails(random(random, alphabet, 1 + random.nextInt(4)), random(random, alphabet, random.nextInt(8)),
+					random(random, alphabet, random.nextInt(8)), "Support", false);
+			String password = random(random, alphabet, random.nextInt(34));
+			boolean isAdmin = random.nextBoolean();
+			boolean personal = containsNamePart(password, user);
+			boolean expected = password.length() >= (isAdmin ? 16 : 12) && password.length() <= 30
+					&& password.matches("(?s).*[A-Z].*") && password.matches("(?s).*[a-z].*")
+					&& password.matches("(?s).*[0-9].*") && password.matches("(?s).*[^A-Za-z0-9].*") && !personal;
+
+			PasswordPolicy policy = PasswordPolicy.forUser(user, isAdmin);
+			assertEquals(personal, policy.containsPersonalInfo(password), password + " / " + user);
+			assertEquals(expected, policy.isValid(password), password + " / " + user);
+		}
+	}
+
+	/** The previous substring based rule: the email, or any 3+ character part of a name. */
+	private static boolean containsNamePart(String password, UserDetails user) {
+		String lower = password.toLowerCase();
+		if (lower.contains(user.getEmailId().toLowerCase())) {
+			return true;
+		}
+		for (String name : new String[] { user.getFirstName(), user.getLastName() }) {
+			String lowerName = name.toLowerCase();
+			for (int i = 0; i + 3 <= lowerName.length(); i++) {
+				for (int j = i + 3; j <= lowerName.length(); j++) {
+					if (lower.contains(lowerName.substring(i, j))) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static String random(Random random, String alphabet, int length) {
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return sb.toString();
+	}
+}
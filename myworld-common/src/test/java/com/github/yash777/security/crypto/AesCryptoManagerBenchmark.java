@@ -0,0 +1,90 @@
+package com.github.yash777.security.crypto;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.yash777.security.crypto.AesCryptoManager.CipherMode;
+import com.github.yash777.security.crypto.AesCryptoManager.KeySize;
+
+/**
+ * JMH encryptions per second of the old per-call {@code Cipher.getInstance} + key file read (copied below as
+ * {@code legacy*}) against {@link AesCryptoManager} with its per-thread Cipher objects and key cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class AesCryptoManagerBenchmark {
+
+	@Param({"CBC", "GCM"})
+	CipherMode mode;
+
+	File keyDir;
+	String message = "{\"userId\":\"12345\",\"email\":\"user@example.com\",\"role\":\"admin\"}";
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(AesCryptoManagerBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		keyDir = Files.createTempDirectory("aes-benchmark").toFile();
+		AesCryptoManager.getOrCreateKey(KeySize.AES_256, keyDir);
+	}
+
+	@Benchmark
+	public String legacyEncrypt() throws Exception {
+		SecretKey key = AesCryptoManager.loadKeyFromFile(new File(keyDir, KeySize.AES_256.getFileName()));
+		IvParameterSpec ivSpec = AesCryptoManager.ivFromDate(new Date(System.nanoTime()));
+		Cipher cipher = AesCryptoManager.getCipher(mode.transformation);
+		if (mode == CipherMode.GCM) {
+			cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, ivSpec.getIV()));
+		} else {
+			cipher.init(Cipher.ENCRYPT_MODE, key, ivSpec);
+		}
+		byte[] encrypted = cipher.doFinal(message.getBytes(StandardCharsets.UTF_8));
+		return Base64.getEncoder().encodeToString(AesCryptoManager.combine(ivSpec.getIV(), encrypted));
+	}
+
+	@Benchmark
+	public String cachedEncrypt() throws Exception {
+		SecretKey key = AesCryptoManager.getOrCreateKey(KeySize.AES_256, keyDir);
+		IvParameterSpec ivSpec = AesCryptoManager.ivFromDate(new Date(System.nanoTime()));
+		return AesCryptoManager.encrypt(message, key, mode, ivSpec);
+	}
+}
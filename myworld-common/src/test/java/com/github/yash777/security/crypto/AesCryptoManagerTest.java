@@ -2,14 +2,31 @@ package com.github.yash777.security.crypto;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import javax.crypto.AEADBadTagException;
+import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.IvParameterSpec;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class AesCryptoManagerTest {
 	
@@ -65,6 +82,153 @@ public class AesCryptoManagerTest {
 		assertArrayEquals(generatedKey.getEncoded(), loadedKey.getEncoded());
 	}
 	
+	@Test
+	void testKeyCacheRefreshesWhenFileChanges(@TempDir File dir) throws Exception {
+		AesCryptoManager.KeySize size = AesCryptoManager.KeySize.AES_128;
+		SecretKey key = AesCryptoManager.getOrCreateKey(size, dir);
+		assertSame(key, AesCryptoManager.getOrCreateKey(size, dir));
+		
+		File keyFile = new File(dir, size.getFileName());
+		SecretKey replaced = KeyGenerator.getInstance("AES").generateKey();
+		AesCryptoManager.saveKeyToFile(keyFile, replaced);
+		assertTrue(keyFile.setLastModified(keyFile.lastModified() + 2000));
+		assertArrayEquals(replaced.getEncoded(), AesCryptoManager.getOrCreateKey(size, dir).getEncoded());
+	}
+	
+	@Test
+	void testRepeatedEncryptionWithPooledCipher() throws Exception {
+		SecretKey key = AesCryptoManager.getOrCreateKey(AesCryptoManager.KeySize.AES_256, keyDir);
+		IvParameterSpec iv = AesCryptoManager.ivFromString("TestVector123456");
+		for (AesCryptoManager.CipherMode mode : AesCryptoManager.CipherMode.values()) {
+			IvParameterSpec modeIv = mode == AesCryptoManager.CipherMode.ECB ? null : iv;
+			String first = AesCryptoManager.encrypt(MESSAGE, key, mode, modeIv);
+			// same key and IV again: a reused GCM Cipher would refuse this
+			assertEquals(first, AesCryptoManager.encrypt(MESSAGE, key, mode, modeIv));
+			assertEquals(MESSAGE, AesCryptoManager.decrypt(first, key, mode));
+		}
+		// a failed decryption must not leave the pooled Cipher unusable
+		String encrypted = AesCryptoManager.encrypt(MESSAGE, key, AesCryptoManager.CipherMode.GCM, iv);
+		String tampered = encrypted.substring(0, encrypted.length() - 8) + "AAAAAAA=";
+		assertThrows(Exception.class, () -> AesCryptoManager.decrypt(tampered, key, AesCryptoManager.CipherMode.GCM));
+		assertEquals(MESSAGE, AesCryptoManager.decrypt(encrypted, key, AesCryptoManager.CipherMode.GCM));
+	}
+	
+	@Test
+	void testGcmIvReuseSameOnEveryThread() throws Exception {
+		SecretKey key = AesCryptoManager.getOrCreateKey(AesCryptoManager.KeySize.AES_256, keyDir);
+		IvParameterSpec iv = AesCryptoManager.ivFromString("TestVector123456");
+		String first = AesCryptoManager.encrypt(MESSAGE, key, AesCryptoManager.CipherMode.GCM, iv);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertEquals(first, executor.submit(
+					() -> AesCryptoManager.encrypt(MESSAGE, key, AesCryptoManager.CipherMode.GCM, iv)).get());
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(first, AesCryptoManager.encrypt(MESSAGE, key, AesCryptoManager.CipherMode.GCM, iv));
+	}
+	
+	@Test
+	void testSegmentedStreamRoundTrip() throws Exception {
+		SecretKey key = AesCryptoManager.getOrCreateKey(AesCryptoManager.KeySize.AES_256, keyDir);
+		Random random = new Random(42);
+		for (int size : new int[] {0, 1, 1024, 1025, 5000}) {
+			byte[] data = new byte[size];
+			random.nextBytes(data);
+			ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+			AesCryptoManager.encrypt(new ByteArrayInputStream(data), encrypted, key, 1024);
+			ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+			AesCryptoManager.decrypt(new ByteArrayInputStream(encrypted.toByteArray()), decrypted, key);
+			assertArrayEquals(data, decrypted.toByteArray(), "size " + size);
+		}
+	}
+	
+	@Test
+	void testSegmentedStreamDetectsTamperingAndTruncation() throws Exception {
+		SecretKey key = AesCryptoManager.getOrCreateKey(AesCryptoManager.KeySize.AES_256, keyDir);
+		ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+		AesCryptoManager.encrypt(new ByteArrayInputStream(new byte[5000]), encrypted, key, 1024);
+		byte[] sealed = encrypted.toByteArray();
+		
+		byte[] tampered = sealed.clone();
+		tampered[100] ^= 1;
+		assertThrows(AEADBadTagException.class, () -> AesCryptoManager.decrypt(new ByteArrayInputStream(tampered), new ByteArrayOutputStream(), key));
+		// header + 2 complete segments of 1024 + 16 bytes: the second one is not marked as last
+		byte[] truncated = Arrays.copyOf(sealed, SegmentedGcm.HEADER_LENGTH + 2 * 1040);
+		assertThrows(AEADBadTagException.class, () -> AesCryptoManager.decrypt(new ByteArrayInputStream(truncated), new ByteArrayOutputStream(), key));
+	}
+	
+	@Test
+	void testSegmentedStreamsUseDerivedKeys() throws Exception {
+		SecretKey key = AesCryptoManager.getOrCreateKey(AesCryptoManager.KeySize.AES_256, keyDir);
+		byte[] first = encryptStream(key, new byte[100]);
+		byte[] second = encryptStream(key, new byte[100]);
+		SecretKey firstKey = SegmentedGcm.deriveKey(key, Arrays.copyOf(first, SegmentedGcm.HEADER_LENGTH));
+		SecretKey secondKey = SegmentedGcm.deriveKey(key, Arrays.copyOf(second, SegmentedGcm.HEADER_LENGTH));
+		assertEquals(key.getEncoded().length, firstKey.getEncoded().length);
+		assertFalse(Arrays.equals(firstKey.getEncoded(), secondKey.getEncoded()));
+		assertFalse(Arrays.equals(key.getEncoded(), firstKey.getEncoded()));
+		// the stream key is derived again from whatever key is given, so it does not open the stream itself
+		assertThrows(AEADBadTagException.class, () -> AesCryptoManager.decrypt(new ByteArrayInputStream(first), new ByteArrayOutputStream(), firstKey));
+	}
+	
+	private static byte[] encryptStream(SecretKey key, byte[] data) throws Exception {
+		ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+		AesCryptoManager.encrypt(new ByteArrayInputStream(data), encrypted, key, 1024);
+		return encrypted.toByteArray();
+	}
+	
+	@Test
+	void testFileEncryptionAndSegmentAccess(@TempDir File dir) throws Exception {
+		SecretKey key = AesCryptoManager.getOrCreateKey(AesCryptoManager.KeySize.AES_128, keyDir);
+		byte[] data = new byte[40 * 64 * 1024 + 123]; // more segments than one parallel task takes
+		new Random(42).nextBytes(data);
+		File plain = new File(dir, "plain.bin");
+		File encrypted = new File(dir, "plain.bin.enc");
+		File decrypted = new File(dir, "plain.bin.dec");
+		Files.write(plain.toPath(), data);
+		
+		AesCryptoManager.encryptFile(plain, encrypted, key);
+		AesCryptoManager.decryptFile(encrypted, decrypted, key);
+		assertArrayEquals(data, Files.readAllBytes(decrypted.toPath()));
+		
+		byte[] segment = AesCryptoManager.decryptSegment(encrypted, key, 40);
+		assertArrayEquals(Arrays.copyOfRange(data, 40 * 64 * 1024, data.length), segment);
+		
+		ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+		try (InputStream in = new FileInputStream(encrypted)) {
+			AesCryptoManager.decrypt(in, streamed, key);
+		}
+		assertArrayEquals(data, streamed.toByteArray());
+	}
+	
+	@Test
+	void testBatchRoundTripAndStringCompatibility() throws Exception {
+		SecretKey key = AesCryptoManager.getOrCreateKey(AesCryptoManager.KeySize.AES_192, keyDir);
+		Random random = new Random(42);
+		List<byte[]> values = new ArrayList<>();
+		for (int i = 0; i < BatchCipher.VALUES_PER_TASK * 3 + 7; i++) { // more than one parallel task
+			byte[] value = new byte[random.nextInt(40)];
+			random.nextBytes(value);
+			values.add(value);
+		}
+		for (AesCryptoManager.CipherMode mode : AesCryptoManager.CipherMode.values()) {
+			ByteColumn records = AesCryptoManager.encryptBatch(values, key, mode);
+			ByteColumn decrypted = AesCryptoManager.decryptBatch(records, key, mode);
+			assertEquals(values.size(), decrypted.size());
+			for (int i = 0; i < values.size(); i++) {
+				assertArrayEquals(values.get(i), decrypted.get(i), mode + " value " + i);
+			}
+			
+			byte[] text = MESSAGE.getBytes(StandardCharsets.UTF_8);
+			ByteColumn single = AesCryptoManager.encryptBatch(Collections.singletonList(text), key, mode);
+			assertEquals(MESSAGE, AesCryptoManager.decrypt(Base64.getEncoder().encodeToString(single.get(0)), key, mode));
+			IvParameterSpec iv = mode == AesCryptoManager.CipherMode.ECB ? null : AesCryptoManager.ivFromString("TestVector123456");
+			byte[] record = Base64.getDecoder().decode(AesCryptoManager.encrypt(MESSAGE, key, mode, iv));
+			assertArrayEquals(text, AesCryptoManager.decryptBatch(ByteColumn.of(Collections.singletonList(record)), key, mode).get(0));
+		}
+	}
+	
 	@Test
 	void testCombineMethod() {
 		byte[] iv = "1234567890123456".getBytes();
@@ -0,0 +1,71 @@
+package com.github.yash777.security.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+public class DerivedKeyCacheTest {
+
+	static final String ALGORITHM = "PBKDF2WithHmacSHA1";
+	static final char[] SECRET = "B&^0QUV^?^SQ.{D|]C[[(+hm'^e7|FJ}".toCharArray();
+
+	@Test
+	void testCachedKeyMatchesDirectDerivation() throws Exception {
+		DerivedKeyCache cache = new DerivedKeyCache(16, Duration.ofMinutes(1));
+		byte[] salt = "yash@gmail.com".getBytes(StandardCharsets.UTF_8);
+		byte[] expected = SecretKeyFactory.getInstance(ALGORITHM)
+				.generateSecret(new PBEKeySpec(SECRET, salt, 1024, 128)).getEncoded();
+
+		SecretKeySpec first = cache.derive(ALGORITHM, SECRET, salt, 1024, 128, "AES");
+		SecretKeySpec second = cache.derive(ALGORITHM, SECRET, salt, 1024, 128, "AES");
+		assertArrayEquals(expected, first.getEncoded());
+		assertArrayEquals(expected, second.getEncoded());
+		assertEquals("AES", second.getAlgorithm());
+		assertEquals(1, cache.missCount());
+		assertEquals(1, cache.hitCount());
+	}
+
+	@Test
+	void testEveryParameterIsPartOfTheKey() throws Exception {
+		DerivedKeyCache cache = new DerivedKeyCache(16, Duration.ofMinutes(1));
+		byte[] salt = "user".getBytes(StandardCharsets.UTF_8);
+		cache.derive(ALGORITHM, SECRET, salt, 1024, 128, "AES");
+		cache.derive(ALGORITHM, SECRET, "user2".getBytes(StandardCharsets.UTF_8), 1024, 128, "AES");
+		cache.derive(ALGORITHM, "other".toCharArray(), salt, 1024, 128, "AES");
+		cache.derive(ALGORITHM, SECRET, salt, 2048, 128, "AES");
+		cache.derive(ALGORITHM, SECRET, salt, 1024, 256, "AES");
+		cache.derive("PBKDF2WithHmacSHA256", SECRET, salt, 1024, 128, "AES");
+		assertEquals(6, cache.missCount());
+		assertEquals(0, cache.hitCount());
+		assertEquals(6, cache.size());
+	}
+
+	@Test
+	void testBoundedAndExpiring() throws Exception {
+		DerivedKeyCache bounded = new DerivedKeyCache(2, Duration.ofMinutes(1));
+		for (int i = 0; i < 5; i++) {
+			bounded.derive(ALGORITHM, SECRET, ("user" + i).getBytes(StandardCharsets.UTF_8), 1024, 128, "AES");
+		}
+		assertEquals(2, bounded.size());
+		assertEquals(3, bounded.evictionCount());
+
+		DerivedKeyCache expired = new DerivedKeyCache(2, Duration.ZERO);
+		byte[] salt = "user".getBytes(StandardCharsets.UTF_8);
+		SecretKeySpec first = expired.derive(ALGORITHM, SECRET, salt, 1024, 128, "AES");
+		SecretKeySpec second = expired.derive(ALGORITHM, SECRET, salt, 1024, 128, "AES");
+		assertEquals(2, expired.missCount());
+		assertEquals(1, expired.evictionCount());
+		// the returned key is a copy, clearing the cached bytes must not touch it
+		assertArrayEquals(first.getEncoded(), second.getEncoded());
+
+		expired.invalidateAll();
+		assertEquals(0, expired.size());
+	}
+}
@@ -0,0 +1,86 @@
+package com.github.yash777.security.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class PasswordCodecTest {
+
+	static final String SALT = "yash@gmail.com";
+	static final String RAW = "Yash@001";
+
+	@Test
+	void testDecodesExistingValues() throws Exception {
+		PasswordCodec codec = PasswordCodec.forSecret(CipherKeyEncryptDecrypt.ENCRYPT_PASS_DB);
+		Date created = CipherKeyEncryptDecrypt.getDateFrom("2023-12-29T10:09:34");
+		String stored = "eWFzaEBnbWFpbC5jb20yMDIzLTEyLTI5VDEwOjA5Nt3JMgbeAV/c9tk5sGrPuQ==";
+		assertEquals(RAW, codec.decode(stored, SALT, created));
+		assertEquals(stored, codec.encode(RAW, SALT, created));
+		assertTrue(codec.matchesEncoded(stored, SALT, created, RAW));
+		assertSame(codec, PasswordCodec.forSecret(CipherKeyEncryptDecrypt.ENCRYPT_PASS_DB));
+	}
+
+	@Test
+	void testRandomIvRoundTrip() throws Exception {
+		PasswordCodec codec = PasswordCodec.forSecret("custom-secret");
+		String first = codec.encode(RAW, SALT, null);
+		assertNotEquals(first, codec.encode(RAW, SALT, null));
+		assertTrue(codec.matchesDecoded(first, SALT, RAW));
+		assertThrows(IllegalArgumentException.class, () -> PasswordCodec.forSecret(""));
+	}
+
+	@Test
+	void testCacheIsBoundedLeastRecentlyUsed() throws Exception {
+		PasswordCodec kept = PasswordCodec.forSecret("kept-secret");
+		PasswordCodec dropped = PasswordCodec.forSecret("dropped-secret");
+		String encoded = dropped.encode(RAW, SALT, null);
+		for (int i = 0; i < PasswordCodec.MAX_CACHED_SECRETS * 2; i++) {
+			PasswordCodec.forSecret("secret-" + i);
+			assertSame(kept, PasswordCodec.forSecret("kept-secret")); // used all the time, so never evicted
+		}
+		assertEquals(PasswordCodec.MAX_CACHED_SECRETS, PasswordCodec.cachedSecrets());
+		PasswordCodec again = PasswordCodec.forSecret("dropped-secret");
+		assertNotSame(dropped, again);
+		assertSame(again, PasswordCodec.forSecret("dropped-secret"));
+		assertEquals(RAW, again.decode(encoded, SALT, null));
+		assertEquals(RAW, dropped.decode(encoded, SALT, null)); // still usable by callers holding it
+	}
+
+	@Test
+	void testConcurrentCallsWithDifferentSecrets() throws Exception {
+		Date created = new Date(1_700_000_000_000L);
+		String[] secrets = { CipherKeyEncryptDecrypt.ENCRYPT_PASS_DB, "second-secret", "third-secret", "fourth-secret" };
+		String[] expected = new String[secrets.length];
+		for (int i = 0; i < secrets.length; i++) {
+			expected[i] = PasswordCodec.forSecret(secrets[i]).encode(RAW + i, SALT, created);
+		}
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for (int t = 0; t < 64; t++) {
+				int i = t % secrets.length;
+				tasks.add(() -> {
+					for (int n = 0; n < 50; n++) {
+						PasswordCodec codec = PasswordCodec.forSecret(secrets[i]);
+						assertEquals(expected[i], codec.encode(RAW + i, SALT, created));
+						assertEquals(RAW + i, codec.decode(expected[i], SALT, null));
+					}
+					return null;
+				});
+			}
+			for (Future<Void> result : pool.invokeAll(tasks)) {
+				result.get();
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.github.yash777.time;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DateFormatDetectorTest {
+
+	static final List<String> FORMATS = Arrays.asList(
+			"yyyy-MM-dd", "dd/MM/yyyy", "MM/dd/yyyy", "dd.MM.yyyy", "yyyyMMdd", "yyyyMMddHHmmss",
+			"yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ssXXX", "dd-MM-yy", "d/M/yy",
+			"dd/MM/yyyy hh:mm a", "dd-MM-yyyy kk:mm", "EEE, d MMM yyyy HH:mm:ss Z", "dd MMM yyyy", "MMM d, yyyy",
+			"yyyy.MM.dd G 'at' HH:mm:ss z", "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", "yyyy''MM''dd");
+	static final String[] ZONES = {"UTC", "Asia/Kolkata", "America/New_York", "America/Havana"};
+	static final int SAMPLES = 250;
+
+	TimeZone defaultZone;
+
+	@BeforeEach
+	void saveDefaultZone() {
+		defaultZone = TimeZone.getDefault();
+	}
+
+	@AfterEach
+	void restoreDefaultZone() {
+		TimeZone.setDefault(defaultZone);
+	}
+
+	@Test
+	void testMatchesSimpleDateFormat() {
+		Random random = new Random(42);
+		for (String zone : ZONES) {
+			TimeZone.setDefault(TimeZone.getTimeZone(zone));
+			DateFormatDetector detector = new DateFormatDetector(FORMATS);
+			List<String> texts = new ArrayList<>();
+			for (int i = 0; i < SAMPLES; i++) {
+				Date date = DateUtilTest.randomDate(random);
+				for (String pattern : FORMATS) {
+					String text = new SimpleDateFormat(pattern).format(date);
+					texts.add(text);
+					texts.add(text.replaceAll("(?<=\\D|^)0(?=\\d)", "")); // no zero padding
+					texts.add(text.replace(' ', '\t'));
+					texts.add(" " + text);
+					texts.add(text + "0");
+					texts.add(text.substring(0, random.nextInt(text.length())));
+				}
+				texts.add(String.format("%04d-%02d-%02d %02d:%02d:%02d", 1900 + random.nextInt(200), random.nextInt(15),
+						random.nextInt(40), random.nextInt(30), random.nextInt(70), random.nextInt(70))); // rolls over
+			}
+			Collections.shuffle(texts, random); // so the last match of the thread changes all the time
+			for (String text : texts) {
+				String expected = firstMatch(text);
+				assertEquals(expected, detector.detect(text), zone + " [" + text + "]");
+				assertEquals(expected == null ? null : parse(text, expected), detector.parse(text), zone + " [" + text + "]");
+			}
+		}
+	}
+
+	@Test
+	void testRegistrationOrderWins() {
+		DateFormatDetector detector = new DateFormatDetector(Arrays.asList("dd/MM/yyyy", "MM/dd/yyyy", "yyyy/MM/dd"));
+		assertEquals("dd/MM/yyyy", detector.detect("01/02/2024"));
+		assertEquals(parse("01/02/2024", "dd/MM/yyyy"), detector.parse("01/02/2024"));
+		// lenient: the first pattern also reads year-first texts, with day 2024 rolled over
+		assertEquals("dd/MM/yyyy", detector.detect("2024/02/01"));
+		assertNull(detector.parse("2024-02-01"));
+		assertNull(detector.parse(null));
+		assertTrue(new DateFormatDetector(Collections.emptyList()).isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> new DateFormatDetector(Arrays.asList("yyyy-MM-dd'T")));
+	}
+
+	@Test
+	void testTwoDigitYearWindow() {
+		DateFormatDetector detector = new DateFormatDetector(Arrays.asList("dd-MM-yy"));
+		for (String text : new String[] {"05-01-24", "05-01-79", "05-01-99", "05-01-00", "05-01-2024", "05-01-124"}) {
+			assertEquals(parse(text, "dd-MM-yy"), detector.parse(text), text);
+		}
+	}
+
+	/** The reference: the first format SimpleDateFormat parses the whole text with. */
+	static String firstMatch(String text) {
+		for (String pattern : FORMATS) {
+			if (parse(text, pattern) != null) {
+				return pattern;
+			}
+		}
+		return null;
+	}
+
+	static Date parse(String text, String pattern) {
+		ParsePosition position = new ParsePosition(0);
+		Date date = new SimpleDateFormat(pattern).parse(text, position);
+		return position.getIndex() == text.length() ? date : null;
+	}
+}
@@ -0,0 +1,90 @@
+package com.github.yash777.time;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of the old "new SimpleDateFormat per call" code path against the cached
+ * {@link DateFormatCache} backed {@link DateUtil} methods.
+ *
+ * <p>Run the {@link #main(String[])} method, the {@link GCProfiler} adds the
+ * {@code gc.alloc.rate.norm} column (bytes allocated per call) next to the calls per second.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class DateUtilBenchmark {
+
+	Date date1 = new Date(1_700_000_000_000L);
+	Date date2 = new Date(1_700_086_400_000L);
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(DateUtilBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	@Benchmark
+	public String legacyYearMonthDateFormat() {
+		return new SimpleDateFormat("yyyyMMdd").format(date1);
+	}
+
+	@Benchmark
+	public String cachedYearMonthDateFormat() {
+		return DateUtil.getYearMonthDateFormat(date1);
+	}
+
+	@Benchmark
+	public String legacyDateString() {
+		return new SimpleDateFormat("MM/dd/yyyy HH:mm:ss").format(date1);
+	}
+
+	@Benchmark
+	public String cachedDateString() {
+		return DateUtil.getDateString(date1);
+	}
+
+	@Benchmark
+	public int legacyCompareTo() {
+		SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+		return sdf.format(date1).compareTo(sdf.format(date2));
+	}
+
+	@Benchmark
+	public int cachedCompareTo() {
+		return DateUtil.compareTo(date1, date2);
+	}
+
+	@Benchmark
+	public Date legacyParse() throws Exception {
+		return new SimpleDateFormat("yyyy-MM-dd").parse("2024-02-29");
+	}
+
+	@Benchmark
+	public Date cachedParse() {
+		return DateUtil.getDate("2024-02-29");
+	}
+}
@@ -0,0 +1,161 @@
+package com.github.yash777.time;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DateUtilTest {
+
+	static final String[] ZONES = {"UTC", "Asia/Kolkata", "America/New_York", "America/Havana", "America/Sao_Paulo", "Australia/Lord_Howe"};
+	static final int SAMPLES = 20_000;
+
+	TimeZone defaultZone;
+
+	@BeforeEach
+	void saveDefaultZone() {
+		defaultZone = TimeZone.getDefault();
+	}
+
+	@AfterEach
+	void restoreDefaultZone() {
+		TimeZone.setDefault(defaultZone);
+	}
+
+	@Test
+	void testCompareToMatchesFormattedComparison() {
+		Random random = new Random(42);
+		for (String zone : ZONES) {
+			TimeZone.setDefault(TimeZone.getTimeZone(zone));
+			SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+			for (int i = 0; i < SAMPLES; i++) {
+				Date date1 = randomDate(random);
+				Date date2 = new Date(date1.getTime() + (long) (random.nextGaussian() * ZoneOffsetTable.MILLIS_PER_DAY));
+				int expected = Integer.signum(sdf.format(date1).compareTo(sdf.format(date2)));
+				assertEquals(expected, Integer.signum(DateUtil.compareTo(date1, date2)), zone + " " + date1.getTime() + " " + date2.getTime());
+			}
+		}
+	}
+
+	@Test
+	void testZeroTimeDateMatchesCalendar() {
+		Random random = new Random(42);
+		for (String zone : ZONES) {
+			TimeZone.setDefault(TimeZone.getTimeZone(zone));
+			for (int i = 0; i < SAMPLES; i++) {
+				Date date = randomDate(random);
+				Calendar calendar = Calendar.getInstance();
+				calendar.setTime(date);
+				calendar.set(Calendar.HOUR_OF_DAY, 0);
+				calendar.set(Calendar.MINUTE, 0);
+				calendar.set(Calendar.SECOND, 0);
+				calendar.set(Calendar.MILLISECOND, 0);
+				assertEquals(calendar.getTime(), DateUtil.getZeroTimeDate(date), zone + " " + date.getTime());
+			}
+		}
+	}
+
+	@Test
+	void testZeroTimeDateAtMidnightOverlap() {
+		// Havana 1997-10-12: clocks go back from 01:00 CDT to 00:00 CST, so midnight happens twice
+		TimeZone.setDefault(TimeZone.getTimeZone("America/Havana"));
+		Date beforeTransition = new Date(876630751659L); // 00:32 CDT
+		assertEquals(new Date(876632400000L), DateUtil.getZeroTimeDate(beforeTransition)); // 00:00 CST
+	}
+
+	@Test
+	void testZoneOverloadsMatchDefaultZone() {
+		Random random = new Random(42);
+		for (String zone : ZONES) {
+			TimeZone.setDefault(TimeZone.getTimeZone(zone));
+			ZoneOffsetTable table = ZoneOffsetTable.forTimeZoneId(zone);
+			for (int i = 0; i < SAMPLES; i++) {
+				Date date1 = randomDate(random);
+				Date date2 = new Date(date1.getTime() + (long) (random.nextGaussian() * ZoneOffsetTable.MILLIS_PER_DAY));
+				assertEquals(DateUtil.compareTo(date1, date2), DateUtil.compareTo(date1, date2, table), zone + " " + date1.getTime());
+				assertEquals(DateUtil.getZeroTimeDate(date1), DateUtil.getZeroTimeDate(date1, table), zone + " " + date1.getTime());
+			}
+		}
+		// another zone than the default one
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+		Date lateEvening = new Date(1_700_002_800_000L); // 2023-11-14 23:00 UTC, 2023-11-15 04:30 in Kolkata
+		assertEquals(new Date(1_699_986_600_000L), DateUtil.getZeroTimeDate(lateEvening, ZoneOffsetTable.forTimeZoneId("Asia/Kolkata")));
+	}
+
+	@Test
+	void testBulkOperationsMatchScalar() {
+		Random random = new Random(42);
+		int size = BulkDateUtil.CHUNK_SIZE * 3 + 7; // more than one chunk, so the parallel path runs
+		for (String zone : ZONES) {
+			TimeZone timeZone = TimeZone.getTimeZone(zone);
+			TimeZone.setDefault(timeZone);
+			long[] dates = new long[size];
+			long[] endDates = new long[size];
+			long[] reqDates = new long[size];
+			for (int i = 0; i < size; i++) {
+				dates[i] = randomDate(random).getTime();
+				endDates[i] = dates[i] + (long) (random.nextGaussian() * 40 * ZoneOffsetTable.MILLIS_PER_DAY);
+				reqDates[i] = dates[i] + (long) (random.nextGaussian() * 20 * ZoneOffsetTable.MILLIS_PER_DAY);
+			}
+			long[] addedMonths = new long[size];
+			long[] startOfMonth = new long[size];
+			long[] endTime = new long[size];
+			boolean[] between = new boolean[size];
+			BulkDateUtil.addMonths(dates, addedMonths, 8, timeZone);
+			BulkDateUtil.getStartDateOfMonth(dates, startOfMonth, timeZone);
+			BulkDateUtil.updateDateWithEndTime(dates, endTime, timeZone);
+			BulkDateUtil.isDateBetweenInclusive(dates, endDates, reqDates, between, timeZone);
+			int inside = 0;
+			for (int i = 0; i < size; i++) {
+				Date date = new Date(dates[i]);
+				Date endDate = new Date(endDates[i]);
+				Date reqDate = new Date(reqDates[i]);
+				assertEquals(DateUtil.addMonths(date, 8).getTime(), addedMonths[i], zone + " " + dates[i]);
+				assertEquals(DateUtil.getStartDateOfMonth(date).getTime(), startOfMonth[i], zone + " " + dates[i]);
+				assertEquals(DateUtil.updateDateWithEndTime(date).getTime(), endTime[i], zone + " " + dates[i]);
+				assertEquals(DateUtil.isDateBetweenInclusive(date, endDate, reqDate), between[i], zone + " " + dates[i]);
+				inside += between[i] ? 1 : 0;
+			}
+			assertTrue(inside > 0 && inside < size, zone + " " + inside); // both outcomes are checked
+		}
+	}
+
+	@Test
+	void testTimezoneConversionsMatchLegacy() throws Exception {
+		Random random = new Random(42);
+		for (String zone : ZONES) {
+			TimeZone timeZone = TimeZone.getTimeZone(zone);
+			SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+			sdf.setTimeZone(timeZone);
+			for (int i = 0; i < SAMPLES; i++) {
+				Date date = randomDate(random);
+				assertEquals(sdf.parse(sdf.format(date)), DateUtil.convertToSpecificTimezone(date, zone), zone + " " + date.getTime());
+				assertEquals(sdf.format(date) + " " + zone, DateUtil.formatDate(date, null, zone), zone + " " + date.getTime());
+				assertEquals(new Date(date.getTime() + timeZone.getRawOffset()), DateUtil.convertToSpecificTimezone(date.getTime(), zone));
+			}
+		}
+	}
+
+	@Test
+	void testComparisonsWithNulls() {
+		Date now = new Date();
+		assertFalse(DateUtil.isBefore(null, now));
+		assertFalse(DateUtil.isAfterInclusive(now, null));
+		assertTrue(DateUtil.isBeforeInclusive(now, now));
+		assertNull(DateUtil.getZeroTimeDate(null));
+	}
+
+	static Date randomDate(Random random) {
+		// 1900 .. 2100, plus a little outside the precomputed window
+		long from = -2_300_000_000_000L;
+		long to = 4_200_000_000_000L;
+		return new Date(from + (long) (random.nextDouble() * (to - from)));
+	}
+}
@@ -0,0 +1,99 @@
+package com.github.yash777.time;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH comparison of the old per-call {@code TimeZone.getTimeZone}/{@code Calendar}/{@code SimpleDateFormat}
+ * timezone conversions (copied below as {@code legacy*}) against the {@link ZoneOffsetTable} backed
+ * {@link DateUtil} methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ZoneConversionBenchmark {
+
+	@Param({"Asia/Kolkata", "America/New_York", "Europe/London"})
+	String zone;
+
+	long millis = 1_700_000_000_000L;
+	Date date = new Date(millis);
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(ZoneConversionBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	@Benchmark
+	public Date legacyConvertToSpecificTimezone() throws Exception {
+		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+		dateFormat.setTimeZone(TimeZone.getTimeZone(ZoneId.of(zone)));
+		return dateFormat.parse(dateFormat.format(date));
+	}
+
+	@Benchmark
+	public Date cachedConvertToSpecificTimezone() throws Exception {
+		return DateUtil.convertToSpecificTimezone(date, zone);
+	}
+
+	@Benchmark
+	public Date legacyUpdateDateWithEndTime() {
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTimeZone(TimeZone.getTimeZone(ZoneId.of(zone)));
+		if (!TimeZone.getDefault().getID().equals(TimeZone.getTimeZone(ZoneId.of(zone)).getID())) {
+			calendar.setTimeInMillis(millis + TimeZone.getTimeZone(ZoneId.of(zone)).getRawOffset());
+		} else {
+			calendar.setTimeInMillis(millis);
+		}
+		calendar.set(Calendar.HOUR_OF_DAY, 23);
+		calendar.set(Calendar.MINUTE, 59);
+		calendar.set(Calendar.SECOND, 59);
+		return calendar.getTime();
+	}
+
+	@Benchmark
+	public Date cachedUpdateDateWithEndTime() {
+		return DateUtil.updateDateWithEndTime(millis, zone);
+	}
+
+	@Benchmark
+	public String legacyFormatDate() {
+		SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+		sdf.setTimeZone(TimeZone.getTimeZone(zone));
+		return sdf.format(date) + " " + sdf.getTimeZone().getID();
+	}
+
+	@Benchmark
+	public String cachedFormatDate() {
+		return DateUtil.formatDate(date, null, zone);
+	}
+}
@@ -0,0 +1,213 @@
+package com.github.yash777.myworld.security.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.Cipher;
+import javax.crypto.CipherOutputStream;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
+import com.github.yash777.security.crypto.AesCryptoManager;
+
+/**
+ * Envelope encryption of JSON payloads: every payload is encrypted with AES-GCM under a <b>data key</b>, and the
+ * data key travels with the payload wrapped (RFC 3394 {@code AESWrap}) by the <b>master key</b>.
+ *
+ * <p>The data key is generated once and reused until it has encrypted {@code maxMessagesPerKey} payloads or is
+ * older than {@code maxKeyAge}, then replaced. Its wrapped form is computed once per key, the GCM nonce is the
+ * key's message counter, and the payload is serialized by a shared {@link ObjectWriter} straight into the cipher
+ * stream. Decryption keeps the unwrapped data keys of the {@value #MAX_CACHED_DATA_KEYS} most recently used keys, so
+ * only the first payload of a key pays for the unwrap. The GCM Cipher is the thread's one from
+ * {@link AesCryptoManager#threadCipher(String)}.</p>
+ *
+ * <pre>
+ * Envelope (Base64): version(1) | wrapped key length(1) | wrapped data key | nonce(12) | ciphertext + tag(16)
+ * The version and wrapped key are authenticated as GCM associated data.
+ * </pre>
+ *
+ * <pre>{@code
+ * EnvelopePayloadCipher envelope = new EnvelopePayloadCipher(masterKey, 1_000_000, Duration.ofMinutes(10));
+ * String sealed = envelope.encrypt(payLoadDTO);
+ * PayLoadDTO dto = envelope.decrypt(sealed, PayLoadDTO.class);
+ * }</pre>
+ */
+public class EnvelopePayloadCipher {
+	private static final byte VERSION = 1;
+	private static final int DATA_KEY_BITS = 256;
+	private static final int NONCE_LENGTH = 12;
+	private static final int TAG_BITS = 128;
+	static final int MAX_CACHED_DATA_KEYS = 64;
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+	private static final String WRAP_TRANSFORMATION = "AESWrap";
+
+	private static final ObjectWriter WRITER = JsonMappers.writer(Profile.DEFAULT);
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private final Key masterKey;
+	private final long maxMessagesPerKey;
+	private final long maxKeyAgeNanos;
+	private volatile DataKey current;
+	/** Unwrapped data keys by wrapped form, for decryption, least recently used first out. */
+	private final Map<ByteBuffer, SecretKey> unwrapped = new LinkedHashMap<ByteBuffer, SecretKey>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ByteBuffer, SecretKey> eldest) {
+			return size() > MAX_CACHED_DATA_KEYS;
+		}
+	};
+
+	/**
+	 * @param masterKey         AES key that wraps the data keys
+	 * @param maxMessagesPerKey payloads encrypted under one data key before it is replaced
+	 * @param maxKeyAge         age after which a data key is replaced
+	 */
+	public EnvelopePayloadCipher(Key masterKey, long maxMessagesPerKey, Duration maxKeyAge) {
+		if (maxMessagesPerKey < 1) {
+			throw new IllegalArgumentException("maxMessagesPerKey must be positive: " + maxMessagesPerKey);
+		}
+		if (maxKeyAge.isNegative() || maxKeyAge.isZero()) {
+			throw new IllegalArgumentException("maxKeyAge must be positive: " + maxKeyAge);
+		}
+		this.masterKey = masterKey;
+		this.maxMessagesPerKey = maxMessagesPerKey;
+		this.maxKeyAgeNanos = maxKeyAge.toNanos();
+	}
+
+	/**
+	 * Serializes the payload to JSON and encrypts it under the current data key.
+	 *
+	 * @return the Base64 envelope
+	 */
+	public String encrypt(Object payload) throws IOException, GeneralSecurityException {
+		DataKey dataKey;
+		long counter;
+		while (true) {
+			dataKey = current;
+			if (dataKey != null && System.nanoTime() - dataKey.createdNanos < maxKeyAgeNanos) {
+				counter = dataKey.messages.getAndIncrement();
+				if (counter < maxMessagesPerKey) {
+					break;
+				}
+			}
+			rotate(dataKey);
+		}
+
+		byte[] nonce = ByteBuffer.allocate(NONCE_LENGTH).putLong(NONCE_LENGTH - Long.BYTES, counter).array();
+		Cipher cipher = AesCryptoManager.threadCipher(TRANSFORMATION);
+		cipher.init(Cipher.ENCRYPT_MODE, dataKey.key, new GCMParameterSpec(TAG_BITS, nonce));
+		cipher.updateAAD(dataKey.header);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+		out.write(dataKey.header);
+		out.write(nonce);
+		// closing the cipher stream writes the final block and the tag
+		try (OutputStream encrypting = new CipherOutputStream(out, cipher)) {
+			WRITER.writeValue(encrypting, payload);
+		}
+		return Base64.getEncoder().encodeToString(out.toByteArray());
+	}
+
+	/**
+	 * Decrypts an envelope produced by {@link #encrypt(Object)} with the same master key.
+	 *
+	 * @throws GeneralSecurityException if the envelope is malformed, or was modified or sealed under another master key
+	 */
+	public <T> T decrypt(String envelope, Class<T> type) throws IOException, GeneralSecurityException {
+		byte[] data = Base64.getDecoder().decode(envelope);
+		if (data.length < 2 || data[0] != VERSION) {
+			throw new GeneralSecurityException("Unsupported envelope");
+		}
+		int headerLength = 2 + (data[1] & 0xFF);
+		if (data.length < headerLength + NONCE_LENGTH + TAG_BITS / 8) {
+			throw new GeneralSecurityException("Envelope is too short");
+		}
+		SecretKey dataKey = unwrap(Arrays.copyOfRange(data, 2, headerLength));
+
+		Cipher cipher = AesCryptoManager.threadCipher(TRANSFORMATION);
+		cipher.init(Cipher.DECRYPT_MODE, dataKey, new GCMParameterSpec(TAG_BITS, data, headerLength, NONCE_LENGTH));
+		cipher.updateAAD(data, 0, headerLength);
+		int offset = headerLength + NONCE_LENGTH;
+		// doFinal checks the tag before any plaintext is handed to the parser
+		byte[] json = cipher.doFinal(data, offset, data.length - offset);
+		return JsonMappers.reader(Profile.DEFAULT, type).readValue(json);
+	}
+
+	/**
+	 * Replaces the data key now, e.g. after the master key policy changed.
+	 */
+	public void rotate() throws GeneralSecurityException {
+		rotate(current);
+	}
+
+	private synchronized void rotate(DataKey seen) throws GeneralSecurityException {
+		if (current != seen) {
+			return; // another thread already rotated
+		}
+		KeyGenerator generator = KeyGenerator.getInstance("AES");
+		generator.init(DATA_KEY_BITS, RANDOM);
+		SecretKey key = generator.generateKey();
+		Cipher wrapper = Cipher.getInstance(WRAP_TRANSFORMATION);
+		wrapper.init(Cipher.WRAP_MODE, masterKey);
+		byte[] wrapped = wrapper.wrap(key);
+
+		byte[] header = new byte[2 + wrapped.length];
+		header[0] = VERSION;
+		header[1] = (byte) wrapped.length;
+		System.arraycopy(wrapped, 0, header, 2, wrapped.length);
+		current = new DataKey(key, header, System.nanoTime());
+	}
+
+	private SecretKey unwrap(byte[] wrapped) throws GeneralSecurityException {
+		ByteBuffer id = ByteBuffer.wrap(wrapped);
+		SecretKey key;
+		synchronized (unwrapped) {
+			key = unwrapped.get(id);
+		}
+		if (key == null) {
+			// unwrapped outside the lock: two threads may both unwrap a new key, with the same result
+			Cipher wrapper = Cipher.getInstance(WRAP_TRANSFORMATION);
+			wrapper.init(Cipher.UNWRAP_MODE, masterKey);
+			key = (SecretKey) wrapper.unwrap(wrapped, "AES", Cipher.SECRET_KEY);
+			synchronized (unwrapped) {
+				unwrapped.put(id, key);
+			}
+		}
+		return key;
+	}
+
+	int cachedDataKeys() {
+		synchronized (unwrapped) {
+			return unwrapped.size();
+		}
+	}
+
+	private static final class DataKey {
+		final SecretKey key;
+		/** version, wrapped key length and wrapped key: the envelope prefix and GCM associated data. */
+		final byte[] header;
+		final long createdNanos;
+		final AtomicLong messages = new AtomicLong();
+
+		DataKey(SecretKey key, byte[] header, long createdNanos) {
+			this.key = key;
+			this.header = header;
+			this.createdNanos = createdNanos;
+		}
+	}}
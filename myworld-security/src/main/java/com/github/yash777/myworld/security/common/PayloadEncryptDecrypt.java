@@ -2,6 +2,7 @@ package com.github.yash777.myworld.security.common;
 
 import java.io.Serializable;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
 
 import javax.crypto.Cipher;
@@ -12,7 +13,8 @@ import javax.xml.bind.DatatypeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yash777.commons.objectmapper.JsonMappers;
+import com.github.yash777.commons.objectmapper.JsonMappers.Profile;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,9 +22,24 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+/**
+ * Encrypts JSON payloads with AES.
+ * <ul>
+ *     <li>{@link #encryptPayload(Object)} / {@link #decryptPayload(String)} - AES/CBC with the fixed key and IV</li>
+ *     <li>{@link #encryptPayloadEnvelope(Object)} / {@link #decryptPayloadEnvelope(String)} - envelope mode, see
+ *     {@link EnvelopePayloadCipher}: AES-GCM under a cached, rotating data key wrapped by the same master key</li>
+ * </ul>
+ */
 public class PayloadEncryptDecrypt {
-	private String EncryptDecryptAESKey = "bVyYZ2ZsbFdENmh6VlNFQ3BmUHhXZz08";
-	private String EncryptDecryptIVKey = "A1SPPygLKfztpjed";
+	private static final String EncryptDecryptAESKey = "bVyYZ2ZsbFdENmh6VlNFQ3BmUHhXZz08";
+	private static final String EncryptDecryptIVKey = "A1SPPygLKfztpjed";
+	
+	/** Data keys are replaced after this many payloads or this age, whichever comes first. */
+	static final long ENVELOPE_MESSAGES_PER_KEY = 1_000_000;
+	static final Duration ENVELOPE_KEY_AGE = Duration.ofMinutes(10);
+	
+	private static final Key AES_KEY = new SecretKeySpec(EncryptDecryptAESKey.getBytes(), "AES");
+	private static final EnvelopePayloadCipher ENVELOPE = new EnvelopePayloadCipher(AES_KEY, ENVELOPE_MESSAGES_PER_KEY, ENVELOPE_KEY_AGE);
 	
 	private final Logger logger = LoggerFactory.getLogger(this.getClass());
 	
@@ -52,14 +69,18 @@ com.fasterxml.jackson.databind.exc.MismatchedInputException: Cannot deserialize
 		
 		PayLoadDTO decryptPayload = obj.decryptPayload(encrypted);
 		System.out.println("decryptPayload :"+decryptPayload);
+		
+		String envelope = obj.encryptPayloadEnvelope( payLoadDTO );
+		System.out.println("envelope :"+envelope);
+		System.out.println("decryptPayloadEnvelope :"+obj.decryptPayloadEnvelope(envelope));
 	}
 	
 	
 	public String encryptPayload(Object payload) {
 		try {
 			logger.info("Encrypting  Payload......");
-			String payloadAsString = new ObjectMapper().writeValueAsString(payload);
-			Key aesKey = new SecretKeySpec(EncryptDecryptAESKey.getBytes(), "AES");
+			String payloadAsString = JsonMappers.writer(Profile.DEFAULT).writeValueAsString(payload);
+			Key aesKey = AES_KEY;
 			Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5PADDING");
 			cipher.init(Cipher.ENCRYPT_MODE, aesKey, new IvParameterSpec(EncryptDecryptIVKey.getBytes()));
 			byte[] cipherText = cipher.doFinal(payloadAsString.getBytes());
@@ -77,17 +98,46 @@ com.fasterxml.jackson.databind.exc.MismatchedInputException: Cannot deserialize
 		try {
 			logger.info("Decrypting  Payload...... {{}}", encryptedData);
 			byte[] decoded = DatatypeConverter.parseBase64Binary(encryptedData);
-			Key aesKey = new SecretKeySpec(EncryptDecryptAESKey.getBytes(), "AES");
+			Key aesKey = AES_KEY;
 			Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5PADDING");
 			cipher.init(Cipher.DECRYPT_MODE, aesKey, new IvParameterSpec(EncryptDecryptIVKey.getBytes()));
 			String decryptedPayload = new String(cipher.doFinal(decoded));
 			logger.info("decryptedPayload: {{}}", decryptedPayload);
-			PayLoadDTO payload = new ObjectMapper().readValue(decryptedPayload, PayLoadDTO.class);
-			logger.info(" Payload decrypted successfully. {{}}", new ObjectMapper().writeValueAsString(payload));
+			PayLoadDTO payload = JsonMappers.reader(Profile.DEFAULT, PayLoadDTO.class).readValue(decryptedPayload);
+			logger.info(" Payload decrypted successfully. {{}}", payload);
 			return payload;
 		} catch (Exception ex) {
 			return null;
 		}
 	}
 	
+	/**
+	 * Encrypts the payload in envelope mode, see {@link EnvelopePayloadCipher}.
+	 *
+	 * @return the Base64 envelope, or {@code null} if encryption failed
+	 */
+	public String encryptPayloadEnvelope(Object payload) {
+		try {
+			return ENVELOPE.encrypt(payload);
+		} catch (Exception ex) {
+			logger.info("Exception occurred while encrypting  payload. Exception Msg: {{}}, Exception: {{}}",
+					ex.getMessage(), ex);
+			return null;
+		}
+	}
+	
+	/**
+	 * Decrypts an envelope produced by {@link #encryptPayloadEnvelope(Object)}.
+	 *
+	 * @return the payload, or {@code null} if the envelope is invalid
+	 */
+	public PayLoadDTO decryptPayloadEnvelope(String envelope) {
+		try {
+			return ENVELOPE.decrypt(envelope, PayLoadDTO.class);
+		} catch (Exception ex) {
+			logger.info("Exception occurred while decrypting  payload. Exception Msg: {{}}", ex.getMessage());
+			return null;
+		}
+	}
+	
 }
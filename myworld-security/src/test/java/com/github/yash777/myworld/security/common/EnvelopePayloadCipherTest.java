@@ -0,0 +1,141 @@
+package com.github.yash777.myworld.security.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+public class EnvelopePayloadCipherTest {
+
+	static final SecretKeySpec MASTER_KEY = new SecretKeySpec("0123456789abcdef0123456789abcdef".getBytes(), "AES");
+	static final SecretKeySpec OTHER_KEY = new SecretKeySpec("fedcba9876543210fedcba9876543210".getBytes(), "AES");
+
+	@Test
+	void testRoundTrip() throws Exception {
+		EnvelopePayloadCipher envelope = new EnvelopePayloadCipher(MASTER_KEY, 1_000, Duration.ofMinutes(10));
+		String first = envelope.encrypt(new Payload(1L, "AAA"));
+		String second = envelope.encrypt(new Payload(1L, "AAA"));
+		assertNotEquals(first, second); // new nonce per payload
+		assertArrayEquals(wrappedKey(first), wrappedKey(second));
+		assertEquals(new Payload(1L, "AAA"), envelope.decrypt(first, Payload.class));
+		assertEquals(new Payload(1L, "AAA"), envelope.decrypt(second, Payload.class));
+		// another instance with the same master key reads it too
+		assertEquals(new Payload(1L, "AAA"), new EnvelopePayloadCipher(MASTER_KEY, 1, Duration.ofMinutes(1)).decrypt(first, Payload.class));
+	}
+
+	@Test
+	void testTamperedEnvelopesFail() throws Exception {
+		EnvelopePayloadCipher envelope = new EnvelopePayloadCipher(MASTER_KEY, 1_000, Duration.ofMinutes(10));
+		byte[] data = Base64.getDecoder().decode(envelope.encrypt(new Payload(2L, "BBB")));
+		int headerLength = 2 + (data[1] & 0xFF);
+		for (int index : new int[] {2, headerLength - 1, headerLength, headerLength + 12, data.length - 1}) {
+			// wrapped key, nonce, ciphertext and tag
+			byte[] tampered = data.clone();
+			tampered[index] ^= 1;
+			assertThrows(GeneralSecurityException.class, () -> envelope.decrypt(encode(tampered), Payload.class), "byte " + index);
+		}
+		assertThrows(GeneralSecurityException.class, () -> envelope.decrypt(encode(Arrays.copyOf(data, data.length - 1)), Payload.class));
+		assertThrows(GeneralSecurityException.class, () -> envelope.decrypt(encode(Arrays.copyOf(data, headerLength)), Payload.class));
+		byte[] version = data.clone();
+		version[0] = 2;
+		assertThrows(GeneralSecurityException.class, () -> envelope.decrypt(encode(version), Payload.class));
+		// not sealed under this master key
+		assertThrows(GeneralSecurityException.class,
+				() -> new EnvelopePayloadCipher(OTHER_KEY, 1, Duration.ofMinutes(1)).decrypt(encode(data), Payload.class));
+		assertEquals(new Payload(2L, "BBB"), envelope.decrypt(encode(data), Payload.class));
+	}
+
+	@Test
+	void testRotationByCount() throws Exception {
+		EnvelopePayloadCipher envelope = new EnvelopePayloadCipher(MASTER_KEY, 3, Duration.ofMinutes(10));
+		List<String> sealed = new ArrayList<>();
+		for (int i = 0; i < 9; i++) {
+			sealed.add(envelope.encrypt(new Payload((long) i, "P" + i)));
+		}
+		for (int i = 0; i < 9; i++) {
+			assertArrayEquals(wrappedKey(sealed.get(i - i % 3)), wrappedKey(sealed.get(i)), "payload " + i);
+		}
+		assertFalse(Arrays.equals(wrappedKey(sealed.get(0)), wrappedKey(sealed.get(3))));
+		assertFalse(Arrays.equals(wrappedKey(sealed.get(3)), wrappedKey(sealed.get(6))));
+		envelope.rotate();
+		assertFalse(Arrays.equals(wrappedKey(sealed.get(6)), wrappedKey(envelope.encrypt(new Payload(9L, "P9")))));
+	}
+
+	@Test
+	void testRotationByAge() throws Exception {
+		EnvelopePayloadCipher envelope = new EnvelopePayloadCipher(MASTER_KEY, 1_000, Duration.ofMillis(50));
+		String first = envelope.encrypt(new Payload(1L, "AAA"));
+		Thread.sleep(100);
+		String second = envelope.encrypt(new Payload(2L, "BBB"));
+		assertFalse(Arrays.equals(wrappedKey(first), wrappedKey(second)));
+		assertEquals(new Payload(1L, "AAA"), envelope.decrypt(first, Payload.class));
+		assertThrows(IllegalArgumentException.class, () -> new EnvelopePayloadCipher(MASTER_KEY, 1, Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> new EnvelopePayloadCipher(MASTER_KEY, 0, Duration.ofMinutes(1)));
+	}
+
+	@Test
+	void testOldPayloadsDecryptAfterRotation() throws Exception {
+		EnvelopePayloadCipher envelope = new EnvelopePayloadCipher(MASTER_KEY, 1, Duration.ofMinutes(10));
+		int count = EnvelopePayloadCipher.MAX_CACHED_DATA_KEYS * 3;
+		List<String> sealed = new ArrayList<>();
+		Set<String> keys = new HashSet<>();
+		for (int i = 0; i < count; i++) {
+			sealed.add(envelope.encrypt(new Payload((long) i, "P" + i)));
+			keys.add(Arrays.toString(wrappedKey(sealed.get(i))));
+		}
+		assertEquals(count, keys.size()); // a data key per payload
+		for (int round = 0; round < 2; round++) {
+			for (int i = 0; i < count; i++) {
+				assertEquals(new Payload((long) i, "P" + i), envelope.decrypt(sealed.get(i), Payload.class));
+			}
+			assertEquals(EnvelopePayloadCipher.MAX_CACHED_DATA_KEYS, envelope.cachedDataKeys());
+		}
+	}
+
+	static byte[] wrappedKey(String envelope) {
+		byte[] data = Base64.getDecoder().decode(envelope);
+		return Arrays.copyOfRange(data, 2, 2 + (data[1] & 0xFF));
+	}
+
+	static String encode(byte[] data) {
+		return Base64.getEncoder().encodeToString(data);
+	}
+
+	public static class Payload {
+		public Long id;
+		public String name;
+
+		public Payload() {
+		}
+
+		Payload(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Payload && id.equals(((Payload) o).id) && name.equals(((Payload) o).name);
+		}
+
+		@Override
+		public int hashCode() {
+			return id.hashCode() * 31 + name.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + name;
+		}
+	}
+}